@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment;
+import org.eclipse.jdt.internal.compiler.lookup.ReferenceBinding;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Creates the binary type bindings of the public types of <code>java.lang</code>, <code>java.util</code>
+ * and <code>java.io</code> in a fresh {@link LookupEnvironment}, optionally with their methods.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryTypeBenchmark {
+
+	private char[][][] typeNames;
+	private FileSystem nameEnvironment;
+	private LookupEnvironment lookupEnvironment;
+
+	@Setup
+	public void setUp() throws IOException {
+		java.nio.file.FileSystem jrt = FileSystems.getFileSystem(URI.create("jrt:/"));
+		List<String> names;
+		try (Stream<Path> packages = Stream.of("java/lang", "java/util", "java/io").map(p -> jrt.getPath("/modules/java.base", p))) {
+			names = packages.flatMap(BinaryTypeBenchmark::list)
+					.map(file -> file.toString().substring("/modules/java.base/".length()))
+					.filter(name -> name.endsWith(".class") && name.indexOf('$') < 0)
+					.map(name -> name.substring(0, name.length() - ".class".length()))
+					.sorted()
+					.collect(Collectors.toList());
+		}
+		this.typeNames = new char[names.size()][][];
+		for (int i = 0; i < this.typeNames.length; i++)
+			this.typeNames[i] = CharOperation.splitOn('/', names.get(i).toCharArray());
+		this.nameEnvironment = Environment.nameEnvironment();
+		Compiler compiler = new Compiler(this.nameEnvironment, DefaultErrorHandlingPolicies.proceedWithAllProblems(),
+				Environment.options(), result -> { /* nothing to compile */ }, new DefaultProblemFactory());
+		this.lookupEnvironment = compiler.lookupEnvironment;
+	}
+
+	private static Stream<Path> list(Path directory) {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.collect(Collectors.toList()).stream();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.nameEnvironment.cleanup();
+	}
+
+	@Benchmark
+	public void createTypes(Blackhole blackhole) {
+		this.lookupEnvironment.reset();
+		for (char[][] typeName : this.typeNames)
+			blackhole.consume(this.lookupEnvironment.getType(typeName));
+	}
+
+	@Benchmark
+	public void createTypesAndMethods(Blackhole blackhole) {
+		this.lookupEnvironment.reset();
+		for (char[][] typeName : this.typeNames) {
+			ReferenceBinding type = this.lookupEnvironment.getType(typeName);
+			if (type != null)
+				blackhole.consume(type.methods());
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.jdt.internal.compiler.batch.Main;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.jdt.internal.compiler.util.Util;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reads the class files of the batch compiler from the jar they were loaded from: either only
+ * decoding their already read contents, or reading them from the jar first.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassFileReaderBenchmark {
+
+	private ZipFile zipFile;
+	private List<String> entryNames;
+	private List<byte[]> contents;
+
+	@Setup
+	public void setUp() throws IOException, ClassFormatException {
+		File jar = new File(Main.class.getProtectionDomain().getCodeSource().getLocation().getPath());
+		if (!jar.isFile())
+			throw new IllegalStateException("The batch compiler must be loaded from a jar: " + jar);
+		this.zipFile = new ZipFile(jar);
+		this.entryNames = new ArrayList<>();
+		this.contents = new ArrayList<>();
+		for (Enumeration<? extends ZipEntry> entries = this.zipFile.entries(); entries.hasMoreElements();) {
+			ZipEntry entry = entries.nextElement();
+			if (entry.getName().startsWith("org/eclipse/jdt/") && entry.getName().endsWith(".class")) {
+				this.entryNames.add(entry.getName());
+				this.contents.add(Util.getZipEntryByteContent(entry, this.zipFile));
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		this.zipFile.close();
+	}
+
+	@Benchmark
+	public void decode(Blackhole blackhole) throws ClassFormatException {
+		for (int i = 0, size = this.contents.size(); i < size; i++)
+			blackhole.consume(new ClassFileReader(this.contents.get(i), null, true));
+	}
+
+	@Benchmark
+	public void readAndDecode(Blackhole blackhole) throws ClassFormatException, IOException {
+		for (String entryName : this.entryNames)
+			blackhole.consume(ClassFileReader.read(this.zipFile, entryName, true));
+	}
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.impl.CompilerStats;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compiles a whole corpus, up to class file generation. The <code>inference</code> corpus is dominated by
+ * the type inference of generic method invocations and lambdas (InferenceContext18), the <code>codegen</code>
+ * corpus by the generation of large method bodies (CodeStream). The time spent in each phase is reported
+ * as secondary results, in milliseconds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompilerBenchmark {
+
+	@Param({ Corpus.SYNTHETIC, Corpus.INFERENCE, Corpus.CODEGEN, Corpus.JDT })
+	public String corpus;
+
+	private Corpus sources;
+	private CompilerOptions options;
+	private FileSystem nameEnvironment;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Phases {
+		public long parseTime;
+		public long resolveTime;
+		public long analyzeTime;
+		public long generateTime;
+
+		@Setup(Level.Iteration)
+		public void clear() {
+			this.parseTime = this.resolveTime = this.analyzeTime = this.generateTime = 0;
+		}
+
+		void add(CompilerStats stats) {
+			this.parseTime += stats.parseTime;
+			this.resolveTime += stats.resolveTime;
+			this.analyzeTime += stats.analyzeTime;
+			this.generateTime += stats.generateTime;
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		this.sources = Corpus.load(this.corpus);
+		this.options = Environment.options();
+		this.nameEnvironment = Environment.nameEnvironment();
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.nameEnvironment.cleanup();
+	}
+
+	@Benchmark
+	public CompilerStats compile(Phases phases) {
+		CompilerStats stats = Environment.compile(this.nameEnvironment, this.options, this.sources.compilationUnits());
+		phases.add(stats);
+		return stats;
+	}
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.codegen.ConstantPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Fills the constant pools of many small class files, each referring to the methods and fields of a
+ * few classes, to string constants and to invokedynamic call sites, as records and lambdas do. With
+ * <code>reuse</code>, a single constant pool is reset between the class files, as the constant pools
+ * of the class files recycled by the ClassFilePool are; otherwise each class file gets a new constant
+ * pool. Best run with <code>-prof gc</code> to compare the allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstantPoolBenchmark {
+
+	private static final int CLASS_FILES = 100;
+	private static final int REFERENCED_CLASSES = 12;
+	private static final char[] SIGNATURE = "(ILjava/lang/String;)Ljava/lang/Object;".toCharArray();
+	private static final char[] FIELD_SIGNATURE = "Ljava/lang/String;".toCharArray();
+
+	@Param({ "true", "false" })
+	public boolean reuse;
+
+	private ClassFile classFile;
+	private ConstantPool constantPool;
+	private char[][] classNames;
+	private char[][] selectors;
+	private String[] strings;
+
+	@Setup
+	public void setUp() {
+		this.classFile = new ClassFile() {
+			// only provides the header the constant pool is written to
+		};
+		this.classFile.header = new byte[0x10000];
+		this.classNames = new char[REFERENCED_CLASSES * 4][];
+		for (int i = 0; i < this.classNames.length; i++)
+			this.classNames[i] = ("p/C" + i).toCharArray();
+		this.selectors = new char[8][];
+		for (int i = 0; i < this.selectors.length; i++)
+			this.selectors[i] = ("m" + i).toCharArray();
+		this.strings = new String[CLASS_FILES];
+		for (int i = 0; i < this.strings.length; i++)
+			this.strings[i] = "s" + i;
+		this.constantPool = new ConstantPool(this.classFile);
+	}
+
+	@Benchmark
+	public int fill() {
+		int size = 0;
+		for (int i = 0; i < CLASS_FILES; i++) {
+			ConstantPool pool;
+			if (this.reuse) {
+				pool = this.constantPool;
+				pool.reset();
+				pool.initialize(this.classFile);
+			} else {
+				pool = new ConstantPool(this.classFile);
+			}
+			for (int c = 0; c < REFERENCED_CLASSES; c++) {
+				char[] className = this.classNames[(i + c) % this.classNames.length];
+				pool.literalIndexForType(className);
+				pool.literalIndexForField(className, this.selectors[c % this.selectors.length], FIELD_SIGNATURE);
+				for (char[] selector : this.selectors)
+					pool.literalIndexForMethod(className, selector, SIGNATURE, false);
+			}
+			for (int k = 0; k < 4; k++)
+				pool.literalIndexForInvokeDynamic(k, this.selectors[k], SIGNATURE);
+			pool.literalIndex(this.strings[i]);
+			size += pool.currentIndex;
+		}
+		return size;
+	}
+}
@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+
+/**
+ * Sources the benchmarks run on:
+ * <ul>
+ * <li><code>synthetic</code>: generated classes mixing fields, control flow, generics and lambdas,</li>
+ * <li><code>inference</code>: generated classes dominated by generic method invocations and lambdas,</li>
+ * <li><code>codegen</code>: generated classes with large method bodies,</li>
+ * <li><code>jdt</code>: the sources of the batch compiler, found in the directory given by the
+ * <code>jdt.benchmark.sources</code> system property (defaults to the sibling
+ * <code>org.eclipse.jdt.core.compiler.batch/src</code> directory).</li>
+ * </ul>
+ */
+public final class Corpus {
+
+	public static final String SYNTHETIC = "synthetic";
+	public static final String INFERENCE = "inference";
+	public static final String CODEGEN = "codegen";
+	public static final String JDT = "jdt";
+
+	private static final int SYNTHETIC_UNITS = 200;
+
+	public final String[] fileNames;
+	public final char[][] contents;
+
+	private Corpus(String[] fileNames, char[][] contents) {
+		this.fileNames = fileNames;
+		this.contents = contents;
+	}
+
+	public static Corpus load(String name) {
+		switch (name) {
+			case SYNTHETIC:
+				return generate(Corpus::syntheticUnit);
+			case INFERENCE:
+				return generate(Corpus::inferenceUnit);
+			case CODEGEN:
+				return generate(Corpus::codegenUnit);
+			case JDT:
+				return read(Paths.get(System.getProperty("jdt.benchmark.sources", "../org.eclipse.jdt.core.compiler.batch/src")));
+			default:
+				throw new IllegalArgumentException("Unknown corpus: " + name);
+		}
+	}
+
+	/**
+	 * Answers new units for the sources: a unit remembers the module it was resolved in, it cannot be
+	 * compiled again by another compiler.
+	 */
+	public ICompilationUnit[] compilationUnits() {
+		ICompilationUnit[] units = new ICompilationUnit[this.contents.length];
+		for (int i = 0; i < units.length; i++)
+			units[i] = new CompilationUnit(this.contents[i], this.fileNames[i], "UTF-8");
+		return units;
+	}
+
+	public long characterCount() {
+		long count = 0;
+		for (char[] content : this.contents)
+			count += content.length;
+		return count;
+	}
+
+	private interface UnitGenerator {
+		String generate(int index);
+	}
+
+	private static Corpus generate(UnitGenerator generator) {
+		String[] fileNames = new String[SYNTHETIC_UNITS];
+		char[][] contents = new char[SYNTHETIC_UNITS][];
+		for (int i = 0; i < SYNTHETIC_UNITS; i++) {
+			fileNames[i] = "p/X" + i + ".java";
+			contents[i] = generator.generate(i).toCharArray();
+		}
+		return new Corpus(fileNames, contents);
+	}
+
+	private static Corpus read(Path directory) {
+		try (Stream<Path> files = Files.walk(directory)) {
+			List<Path> sources = files.filter(f -> f.toString().endsWith(".java")).sorted().collect(Collectors.toList());
+			if (sources.isEmpty())
+				throw new IllegalStateException("No sources in " + directory.toAbsolutePath() + ", set jdt.benchmark.sources");
+			List<String> fileNames = new ArrayList<>(sources.size());
+			List<char[]> contents = new ArrayList<>(sources.size());
+			for (Path source : sources) {
+				String content = new String(Files.readAllBytes(source), StandardCharsets.UTF_8);
+				if (content.contains("import org.apache.tools.ant."))
+					continue; // the Ant adapter of the batch compiler, Ant is not on the class path
+				fileNames.add(source.toString());
+				contents.add(content.toCharArray());
+			}
+			return new Corpus(fileNames.toArray(new String[0]), contents.toArray(new char[0][]));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static String syntheticUnit(int i) {
+		int next = (i + 1) % SYNTHETIC_UNITS;
+		return "package p;\n" +
+			"import java.util.*;\n" +
+			"import java.util.function.*;\n" +
+			"/** Synthetic unit " + i + " */\n" +
+			"public class X" + i + "<T extends Comparable<T>> implements Comparable<X" + i + "<T>> {\n" +
+			"	private final List<T> values = new ArrayList<>();\n" +
+			"	private final Map<String, X" + next + "<String>> others = new HashMap<>();\n" +
+			"	private int counter = " + i + ";\n" +
+			"	public void add(T value) {\n" +
+			"		if (value == null) throw new IllegalArgumentException(\"null value in X" + i + "\");\n" +
+			"		this.values.add(value);\n" +
+			"		this.counter += this.values.size() % 3 == 0 ? 1 : 2;\n" +
+			"	}\n" +
+			"	public T max() {\n" +
+			"		T result = null;\n" +
+			"		for (T value : this.values) {\n" +
+			"			if (result == null || value.compareTo(result) > 0) result = value;\n" +
+			"		}\n" +
+			"		return result;\n" +
+			"	}\n" +
+			"	public int sum(Function<? super T, Integer> weight) {\n" +
+			"		int sum = 0;\n" +
+			"		for (int j = 0; j < this.values.size(); j++) {\n" +
+			"			switch (j % 4) {\n" +
+			"				case 0: sum += weight.apply(this.values.get(j)); break;\n" +
+			"				case 1: sum -= j; break;\n" +
+			"				default: sum ^= this.counter;\n" +
+			"			}\n" +
+			"		}\n" +
+			"		return sum;\n" +
+			"	}\n" +
+			"	public X" + next + "<String> other(String key) {\n" +
+			"		return this.others.computeIfAbsent(key, k -> new X" + next + "<>());\n" +
+			"	}\n" +
+			"	@Override\n" +
+			"	public int compareTo(X" + i + "<T> o) {\n" +
+			"		return Integer.compare(this.counter, o.counter);\n" +
+			"	}\n" +
+			"	@Override\n" +
+			"	public String toString() {\n" +
+			"		return \"X" + i + "[\" + this.values + \", \" + this.counter + ']';\n" +
+			"	}\n" +
+			"}\n";
+	}
+
+	private static String inferenceUnit(int i) {
+		return "package p;\n" +
+			"import java.util.*;\n" +
+			"import java.util.function.*;\n" +
+			"import java.util.stream.*;\n" +
+			"public class X" + i + " {\n" +
+			"	record Item(String name, int weight, List<String> tags) {}\n" +
+			"	Map<String, List<Item>> byTag(List<Item> items) {\n" +
+			"		return items.stream()\n" +
+			"			.flatMap(item -> item.tags().stream().map(tag -> Map.entry(tag, item)))\n" +
+			"			.collect(Collectors.groupingBy(Map.Entry::getKey, TreeMap::new,\n" +
+			"				Collectors.mapping(Map.Entry::getValue, Collectors.toList())));\n" +
+			"	}\n" +
+			"	Optional<Item> heaviest(List<Item> items) {\n" +
+			"		return items.stream().filter(item -> item.weight() > " + i + ").max(Comparator.comparingInt(Item::weight).thenComparing(Item::name));\n" +
+			"	}\n" +
+			"	Map<Boolean, Long> partition(List<Item> items) {\n" +
+			"		return items.stream().collect(Collectors.partitioningBy(item -> item.name().length() > 3, Collectors.counting()));\n" +
+			"	}\n" +
+			"	<K, V extends Comparable<? super V>> List<Map.Entry<K, V>> sorted(Map<K, V> map) {\n" +
+			"		return map.entrySet().stream().sorted(Map.Entry.comparingByValue()).collect(Collectors.toList());\n" +
+			"	}\n" +
+			"	String joined(List<Item> items) {\n" +
+			"		return items.stream().map(Item::name).map(String::toUpperCase)\n" +
+			"			.reduce(\"\", (a, b) -> a.isEmpty() ? b : a + ',' + b);\n" +
+			"	}\n" +
+			"	Function<Integer, Function<Integer, Integer>> curried() {\n" +
+			"		return a -> b -> Stream.of(a, b).map(x -> x * " + i + ").reduce(0, Integer::sum);\n" +
+			"	}\n" +
+			"}\n";
+	}
+
+	private static String codegenUnit(int i) {
+		StringBuilder builder = new StringBuilder();
+		builder.append("package p;\n");
+		builder.append("public class X").append(i).append(" {\n");
+		for (int m = 0; m < 5; m++) {
+			builder.append("	long m").append(m).append("(int[] a, long seed, String s) {\n");
+			builder.append("		long r = seed;\n");
+			for (int k = 0; k < 20; k++) {
+				builder.append("		for (int i").append(k).append(" = 0; i").append(k).append(" < a.length; i").append(k).append("++) {\n");
+				builder.append("			int v = a[i").append(k).append("] * ").append(k + 1).append(";\n");
+				builder.append("			if (v > r) { r += v; } else if (v < -r) { r -= v; } else { r ^= v << ").append(k % 7).append("; }\n");
+				builder.append("			try { r += s.charAt(v & 7); } catch (RuntimeException e) { r--; }\n");
+				builder.append("		}\n");
+			}
+			builder.append("		return r;\n");
+			builder.append("	}\n");
+		}
+		builder.append("}\n");
+		return builder.toString();
+	}
+}
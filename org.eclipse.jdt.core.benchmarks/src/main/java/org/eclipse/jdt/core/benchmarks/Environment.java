@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.ICompilerRequestor;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.impl.CompilerStats;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
+import org.eclipse.jdt.internal.compiler.util.JRTUtil;
+
+/**
+ * Compiler set up shared by the benchmarks: Java 17 options and the system modules of the running JDK.
+ */
+final class Environment {
+
+	static CompilerOptions options() {
+		Map<String, String> settings = new HashMap<>();
+		settings.put(CompilerOptions.OPTION_Compliance, CompilerOptions.VERSION_17);
+		settings.put(CompilerOptions.OPTION_Source, CompilerOptions.VERSION_17);
+		settings.put(CompilerOptions.OPTION_TargetPlatform, CompilerOptions.VERSION_17);
+		return new CompilerOptions(settings);
+	}
+
+	static FileSystem nameEnvironment() {
+		String jrt = System.getProperty("java.home") + File.separator + "lib" + File.separator + JRTUtil.JRT_FS_JAR;
+		return new FileSystem(new String[] { jrt }, null, "UTF-8");
+	}
+
+	static Parser parser(CompilerOptions options) {
+		ProblemReporter problemReporter = new ProblemReporter(DefaultErrorHandlingPolicies.proceedWithAllProblems(),
+				options, new DefaultProblemFactory());
+		return new Parser(problemReporter, options.parseLiteralExpressionsAsConstants);
+	}
+
+	/**
+	 * Compiles the given units, failing on errors, and answers the statistics of the compilation.
+	 */
+	static CompilerStats compile(FileSystem nameEnvironment, CompilerOptions options, ICompilationUnit[] units) {
+		ICompilerRequestor requestor = result -> {
+			if (result.hasErrors())
+				throw new IllegalStateException("Unexpected errors in " + new String(result.getFileName()) + ": " + result.getErrors()[0]);
+		};
+		Compiler compiler = new Compiler(nameEnvironment, DefaultErrorHandlingPolicies.proceedWithAllProblems(),
+				options, requestor, new DefaultProblemFactory());
+		compiler.compile(units);
+		return compiler.stats;
+	}
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.impl.CompilerStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compiles single units made of one method declaring <code>locals</code> local variables, as found in
+ * generated parsers and state machines. Past the first 64 variables, the flow analysis keeps the state
+ * of the variables in the extra vectors of UnconditionalFlowInfo, copied at each branch:
+ * <ul>
+ * <li><code>assignments</code>: each variable is assigned in both branches of an <code>if</code>
+ * statement (definite assignment analysis),</li>
+ * <li><code>nulls</code>: each variable is assigned <code>null</code> in one branch of an
+ * <code>if</code> statement, then compared to <code>null</code> (null analysis).</li>
+ * </ul>
+ * The time spent in each phase is reported as secondary results, in milliseconds, the flow analysis
+ * being part of the <code>analyzeTime</code>.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlowAnalysisBenchmark {
+
+	@Param({ "assignments", "nulls" })
+	public String shape;
+
+	@Param({ "250", "1500" })
+	public int locals;
+
+	private char[] source;
+	private CompilerOptions options;
+	private FileSystem nameEnvironment;
+
+	@Setup
+	public void setUp() {
+		String source;
+		switch (this.shape) {
+			case "assignments":
+				source = assignments(this.locals);
+				break;
+			case "nulls":
+				source = nulls(this.locals);
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown shape: " + this.shape);
+		}
+		this.source = source.toCharArray();
+		this.options = Environment.options();
+		this.nameEnvironment = Environment.nameEnvironment();
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.nameEnvironment.cleanup();
+	}
+
+	@Benchmark
+	public CompilerStats compile(CompilerBenchmark.Phases phases) {
+		ICompilationUnit unit = new CompilationUnit(this.source, "p/X.java", "UTF-8"); // see Corpus.compilationUnits()
+		CompilerStats stats = Environment.compile(this.nameEnvironment, this.options, new ICompilationUnit[] { unit });
+		phases.add(stats);
+		return stats;
+	}
+
+	private static String assignments(int locals) {
+		StringBuilder builder = new StringBuilder();
+		builder.append("package p;\n");
+		builder.append("public class X {\n");
+		builder.append("	static int m(int p) {\n");
+		builder.append("		int sum = 0;\n");
+		for (int i = 0; i < locals; i++)
+			builder.append("		int v").append(i).append(";\n");
+		for (int i = 0; i < locals; i++) {
+			builder.append("		if ((p & ").append(i).append(") != 0) v").append(i).append(" = p; else v")
+					.append(i).append(" = ").append(i).append(";\n");
+			builder.append("		sum += v").append(i).append(";\n");
+		}
+		builder.append("		return sum;\n");
+		builder.append("	}\n");
+		builder.append("}\n");
+		return builder.toString();
+	}
+
+	private static String nulls(int locals) {
+		StringBuilder builder = new StringBuilder();
+		builder.append("package p;\n");
+		builder.append("public class X {\n");
+		builder.append("	static int m(int p, Object o) {\n");
+		builder.append("		int count = 0;\n");
+		for (int i = 0; i < locals; i++) {
+			builder.append("		Object o").append(i).append(" = o;\n");
+			builder.append("		if ((p & ").append(i).append(") != 0) o").append(i).append(" = null;\n");
+		}
+		for (int i = 0; i < locals; i++)
+			builder.append("		if (o").append(i).append(" == null) count++;\n");
+		builder.append("		return count;\n");
+		builder.append("	}\n");
+		builder.append("}\n");
+		return builder.toString();
+	}
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.impl.CompilerStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compiles single units whose type inference involves many inference variables, after the
+ * performance regression tests of GenericsRegressionTest_1_8:
+ * <ul>
+ * <li><code>lambdas</code>: <code>Optional.flatMap()</code> invocations nested in each other's lambda,
+ * <code>depth</code> times,</li>
+ * <li><code>comprehension</code>: a for comprehension over <code>depth</code> streams, adapted from
+ * the javaslang library (bug 512156).</li>
+ * </ul>
+ * The time of an inference grows with the number of inference variables and bounds in its bound set (BoundSet).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InferenceBenchmark {
+
+	@Param({ "lambdas", "comprehension" })
+	public String shape;
+
+	@Param({ "6", "10" })
+	public int depth;
+
+	private char[] source;
+	private CompilerOptions options;
+	private FileSystem nameEnvironment;
+
+	@Setup
+	public void setUp() {
+		String source;
+		switch (this.shape) {
+			case "lambdas":
+				source = nestedLambdas(this.depth);
+				break;
+			case "comprehension":
+				source = comprehension(this.depth);
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown shape: " + this.shape);
+		}
+		this.source = source.toCharArray();
+		this.options = Environment.options();
+		this.nameEnvironment = Environment.nameEnvironment();
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.nameEnvironment.cleanup();
+	}
+
+	@Benchmark
+	public CompilerStats compile() {
+		ICompilationUnit unit = new CompilationUnit(this.source, "p/X.java", "UTF-8"); // see Corpus.compilationUnits()
+		return Environment.compile(this.nameEnvironment, this.options, new ICompilationUnit[] { unit });
+	}
+
+	private static String nestedLambdas(int depth) {
+		StringBuilder builder = new StringBuilder();
+		builder.append("package p;\n");
+		builder.append("import java.util.*;\n");
+		builder.append("public class X {\n");
+		builder.append("	<T> java.util.function.Function<T, Optional<Map<T, List<T>>>> nested() {\n");
+		builder.append("		return x0 -> ");
+		for (int i = 0; i < depth; i++)
+			builder.append("Optional.of(x").append(i).append(").flatMap(x").append(i + 1).append(" -> ");
+		builder.append("Optional.of(Map.of(x0, List.of(x").append(depth).append(")))");
+		for (int i = 0; i < depth; i++)
+			builder.append(')');
+		builder.append(";\n");
+		builder.append("	}\n");
+		builder.append("}\n");
+		return builder.toString();
+	}
+
+	private static String comprehension(int depth) {
+		StringBuilder builder = new StringBuilder();
+		builder.append("package p;\n");
+		builder.append("import java.util.stream.*;\n");
+		builder.append("public class X {\n");
+		builder.append("	public interface Function").append(depth).append('<');
+		for (int i = 1; i <= depth; i++)
+			builder.append('T').append(i).append(", ");
+		builder.append("R> {\n");
+		builder.append("		R apply(");
+		for (int i = 1; i <= depth; i++)
+			builder.append(i > 1 ? ", " : "").append('T').append(i).append(" t").append(i);
+		builder.append(");\n");
+		builder.append("	}\n");
+		builder.append("	public static <");
+		for (int i = 1; i <= depth; i++)
+			builder.append('T').append(i).append(", ");
+		builder.append("R> Stream<R> yield(");
+		for (int i = 1; i <= depth; i++)
+			builder.append("Iterable<T").append(i).append("> ts").append(i).append(", ");
+		builder.append("Function").append(depth).append('<');
+		for (int i = 1; i <= depth; i++)
+			builder.append("? super T").append(i).append(", ");
+		builder.append("? extends R> f) {\n");
+		builder.append("		return ");
+		for (int i = 1; i < depth; i++)
+			builder.append("stream(ts").append(i).append(").flatMap(t").append(i).append(" -> ");
+		builder.append("stream(ts").append(depth).append(").map(t").append(depth).append(" -> f.apply(");
+		for (int i = 1; i <= depth; i++)
+			builder.append(i > 1 ? ", " : "").append('t').append(i);
+		builder.append("))");
+		for (int i = 1; i < depth; i++)
+			builder.append(')');
+		builder.append(";\n");
+		builder.append("	}\n");
+		builder.append("	private static <T> Stream<T> stream(Iterable<T> iterable) {\n");
+		builder.append("		return StreamSupport.stream(iterable.spliterator(), false);\n");
+		builder.append("	}\n");
+		builder.append("}\n");
+		return builder.toString();
+	}
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parses a whole corpus: either the diet parse done for all units before resolution, or the full
+ * parse including the method bodies.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+	@Param({ Corpus.SYNTHETIC, Corpus.JDT })
+	public String corpus;
+
+	private ICompilationUnit[] units;
+	private Parser parser;
+
+	@Setup
+	public void setUp() {
+		this.units = Corpus.load(this.corpus).compilationUnits();
+		CompilerOptions options = Environment.options();
+		this.parser = Environment.parser(options);
+	}
+
+	@Benchmark
+	public void dietParse(Blackhole blackhole) {
+		for (ICompilationUnit unit : this.units)
+			blackhole.consume(this.parser.dietParse(unit, new CompilationResult(unit, 0, 1, 0)));
+	}
+
+	@Benchmark
+	public void fullParse(Blackhole blackhole) {
+		for (ICompilationUnit unit : this.units)
+			blackhole.consume(this.parser.parse(unit, new CompilationResult(unit, 0, 1, 0)));
+	}
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.parser.Scanner;
+import org.eclipse.jdt.internal.compiler.parser.TerminalTokens;
+import org.eclipse.jdt.internal.compiler.parser.TokenCursor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Tokenizes a whole corpus, copying the source of each token as most clients of the {@link Scanner}
+ * do, or going through a {@link TokenCursor}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScannerBenchmark {
+
+	@Param({ Corpus.SYNTHETIC, Corpus.JDT })
+	public String corpus;
+
+	private char[][] sources;
+	private Scanner scanner;
+	private TokenCursor cursor;
+
+	@Setup
+	public void setUp() {
+		this.sources = Corpus.load(this.corpus).contents;
+		this.scanner = new Scanner(false, false, false, ClassFileConstants.JDK17, null, null, true);
+		this.cursor = new TokenCursor(new Scanner(false, false, false, ClassFileConstants.JDK17, null, null, true), false);
+	}
+
+	@Benchmark
+	public void tokenSource(Blackhole blackhole) throws InvalidInputException {
+		Scanner s = this.scanner;
+		for (char[] source : this.sources) {
+			s.setSource(source);
+			s.resetTo(0, source.length - 1);
+			while (s.getNextToken() != TerminalTokens.TokenNameEOF)
+				blackhole.consume(s.getCurrentTokenSource());
+		}
+	}
+
+	@Benchmark
+	public void tokenCursor(Blackhole blackhole) throws InvalidInputException {
+		TokenCursor c = this.cursor;
+		for (char[] source : this.sources) {
+			c.reset(source);
+			while (c.next()) {
+				blackhole.consume(c.kind());
+				blackhole.consume(c.start());
+			}
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.jdt.internal.compiler.batch.Main;
+import org.eclipse.jdt.internal.compiler.util.Util;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reads the contents of the class files of the batch compiler from the jar they were loaded from,
+ * with {@link Util#getZipEntryByteContent(ZipEntry, ZipFile)} or through a buffered stream read in
+ * chunks, as it was previously done (run with <code>-prof gc</code> to compare the allocations).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZipEntryContentBenchmark {
+
+	private ZipFile zipFile;
+	private List<ZipEntry> entries;
+
+	@Setup
+	public void setUp() throws IOException {
+		File jar = new File(Main.class.getProtectionDomain().getCodeSource().getLocation().getPath());
+		if (!jar.isFile())
+			throw new IllegalStateException("The batch compiler must be loaded from a jar: " + jar);
+		this.zipFile = new ZipFile(jar);
+		this.entries = new ArrayList<>();
+		for (Enumeration<? extends ZipEntry> e = this.zipFile.entries(); e.hasMoreElements();) {
+			ZipEntry entry = e.nextElement();
+			if (entry.getName().startsWith("org/eclipse/jdt/") && entry.getName().endsWith(".class"))
+				this.entries.add(entry);
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		this.zipFile.close();
+	}
+
+	@Benchmark
+	public void entryByteContent(Blackhole blackhole) throws IOException {
+		for (int i = 0, size = this.entries.size(); i < size; i++)
+			blackhole.consume(Util.getZipEntryByteContent(this.entries.get(i), this.zipFile));
+	}
+
+	@Benchmark
+	public void bufferedStream(Blackhole blackhole) throws IOException {
+		for (int i = 0, size = this.entries.size(); i < size; i++) {
+			ZipEntry entry = this.entries.get(i);
+			try (InputStream stream = new BufferedInputStream(this.zipFile.getInputStream(entry))) {
+				blackhole.consume(stream.readNBytes((int) entry.getSize()));
+			}
+		}
+	}
+}
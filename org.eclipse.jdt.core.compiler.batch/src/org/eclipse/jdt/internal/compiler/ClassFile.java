@@ -83,6 +83,8 @@ import org.eclipse.jdt.internal.compiler.ast.TypeDeclaration;
 import org.eclipse.jdt.internal.compiler.ast.TypeParameter;
 import org.eclipse.jdt.internal.compiler.ast.TypeReference;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
 import org.eclipse.jdt.internal.compiler.codegen.AnnotationContext;
 import org.eclipse.jdt.internal.compiler.codegen.AnnotationTargetTypeConstants;
 import org.eclipse.jdt.internal.compiler.codegen.AttributeNamesConstants;
@@ -5764,6 +5766,17 @@ public class ClassFile implements TypeConstants, TypeIds {
 		}
 		return this.bytes;
 	}
+	/**
+	 * Answer the structural fingerprint of the class file, to be compared with the one of the class file
+	 * it replaces instead of reading the latter again.
+	 *
+	 * @return long
+	 * @throws ClassFormatException if the bytes of the class file cannot be read back
+	 * @see ClassFileReader#getStructuralFingerprint()
+	 */
+	public long getStructuralFingerprint() throws ClassFormatException {
+		return new ClassFileReader(getBytes(), fileName()).getStructuralFingerprint();
+	}
 	/**
 	 * EXTERNAL API
 	 * Answer the compound name of the class file.
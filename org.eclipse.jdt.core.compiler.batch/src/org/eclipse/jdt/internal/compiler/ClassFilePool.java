@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,63 +13,111 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler;
 
-import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.lookup.ModuleBinding;
 import org.eclipse.jdt.internal.compiler.lookup.SourceTypeBinding;
 
+/**
+ * Recycles the class files (and their contents and code streams) once they were handed to the requestor.
+ * Released class files are kept in a lock free stack, so that units can be generated by several threads.
+ * At most {@link #getPoolSize()} released class files are kept, the others are left to the garbage
+ * collector. The size can be set through the <code>jdt.compiler.classFilePoolSize</code> system property.
+ */
 public class ClassFilePool {
 	public static final int POOL_SIZE = 25; // need to have enough for 2 units
-	ClassFile[] classFiles;
+	private static final int CONFIGURED_POOL_SIZE = Math.max(0, Integer.getInteger("jdt.compiler.classFilePoolSize", POOL_SIZE).intValue()); //$NON-NLS-1$
 
-private ClassFilePool() {
+	private final int poolSize;
+	private final Deque<ClassFile> releasedClassFiles = new ConcurrentLinkedDeque<>();
+	private final AtomicInteger pooledCount = new AtomicInteger(); // never less than the number of released class files
+
+	// statistics
+	private final AtomicInteger reuseCount = new AtomicInteger();
+	private final AtomicInteger allocationCount = new AtomicInteger();
+
+private ClassFilePool(int poolSize) {
 	// prevent instantiation
-	this.classFiles = new ClassFile[POOL_SIZE];
+	this.poolSize = poolSize;
 }
 
 public static ClassFilePool newInstance() {
-	return new ClassFilePool();
+	return new ClassFilePool(CONFIGURED_POOL_SIZE);
 }
 
-public synchronized ClassFile acquire(SourceTypeBinding typeBinding) {
-	for (int i = 0; i < POOL_SIZE; i++) {
-		ClassFile classFile = this.classFiles[i];
-		if (classFile == null) {
-			ClassFile newClassFile = new ClassFile(typeBinding);
-			this.classFiles[i] = newClassFile;
-			newClassFile.isShared = true;
-			return newClassFile;
-		}
-		if (!classFile.isShared) {
-			classFile.reset(typeBinding, typeBinding.scope.compilerOptions());
-			classFile.isShared = true;
-			return classFile;
-		}
+public static ClassFilePool newInstance(int poolSize) {
+	return new ClassFilePool(poolSize);
+}
+
+public ClassFile acquire(SourceTypeBinding typeBinding) {
+	ClassFile classFile = pollReleasedClassFile();
+	if (classFile != null) {
+		classFile.reset(typeBinding, typeBinding.scope.compilerOptions());
+		this.reuseCount.incrementAndGet();
+	} else {
+		this.allocationCount.incrementAndGet();
+		classFile = new ClassFile(typeBinding);
 	}
-	return new ClassFile(typeBinding);
+	classFile.isShared = true;
+	return classFile;
 }
-public synchronized ClassFile acquireForModule(ModuleBinding moduleBinding, CompilerOptions options) {
-	for (int i = 0; i < POOL_SIZE; i++) {
-		ClassFile classFile = this.classFiles[i];
-		if (classFile == null) {
-			ClassFile newClassFile = new ClassFile(moduleBinding, options);
-			this.classFiles[i] = newClassFile;
-			newClassFile.isShared = true;
-			return newClassFile;
-		}
-		if (!classFile.isShared) {
-			classFile.reset(null, options);
-			classFile.isShared = true;
-			return classFile;
-		}
+public ClassFile acquireForModule(ModuleBinding moduleBinding, CompilerOptions options) {
+	ClassFile classFile = pollReleasedClassFile();
+	if (classFile != null) {
+		classFile.reset(null, options);
+		this.reuseCount.incrementAndGet();
+	} else {
+		this.allocationCount.incrementAndGet();
+		classFile = new ClassFile(moduleBinding, options);
 	}
-	return new ClassFile(moduleBinding, options);
+	classFile.isShared = true;
+	return classFile;
+}
+private ClassFile pollReleasedClassFile() {
+	ClassFile classFile = this.releasedClassFiles.pollFirst();
+	if (classFile != null)
+		this.pooledCount.decrementAndGet();
+	return classFile;
 }
-public synchronized void release(ClassFile classFile) {
+public void release(ClassFile classFile) {
+	if (!classFile.isShared)
+		return; // already released
 	classFile.isShared = false;
+	// keep the class file only while the pool is not full, even if it was acquired before the last reset
+	if (this.pooledCount.incrementAndGet() <= this.poolSize)
+		this.releasedClassFiles.addFirst(classFile);
+	else
+		this.pooledCount.decrementAndGet();
 }
 public void reset() {
-	Arrays.fill(this.classFiles, null);
+	while (pollReleasedClassFile() != null) {
+		// drop the released class files
+	}
+	this.reuseCount.set(0);
+	this.allocationCount.set(0);
+}
+/**
+ * @return the number of released class files kept for reuse
+ */
+public int getPooledCount() {
+	return this.releasedClassFiles.size();
+}
+public int getPoolSize() {
+	return this.poolSize;
+}
+/**
+ * @return the number of class files acquired from the released ones since the last reset
+ */
+public int getReuseCount() {
+	return this.reuseCount.get();
+}
+/**
+ * @return the number of class files created since the last reset
+ */
+public int getAllocationCount() {
+	return this.allocationCount.get();
 }
 }
@@ -376,7 +376,8 @@ public void record(CategorizedProblem newProblem, ReferenceContext referenceCont
 	return;
 }
 
-public void record(CategorizedProblem newProblem, ReferenceContext referenceContext, boolean mandatoryError) {
+// synchronized since problems can also be recorded by a worker parsing method bodies ahead (see ParseTaskManager)
+public synchronized void record(CategorizedProblem newProblem, ReferenceContext referenceContext, boolean mandatoryError) {
 	//new Exception("VERBOSE PROBLEM REPORTING").printStackTrace();
 	if(newProblem.getID() == IProblem.Task) {
 		recordTask(newProblem);
@@ -429,7 +430,7 @@ private void recordTask(CategorizedProblem newProblem) {
 	}
 	this.tasks[this.taskCount++] = newProblem;
 }
-public void removeProblem(CategorizedProblem problem) {
+public synchronized void removeProblem(CategorizedProblem problem) {
 	if (this.problemsMap != null) this.problemsMap.remove(problem);
 	if (this.firstErrors != null) this.firstErrors.remove(problem);
 	if (problem.isError()) {
@@ -58,6 +58,8 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	public int annotationProcessorStartIndex = 0;
 	public ReferenceBinding[] referenceBindings;
 	public boolean useSingleThread = true; // by default the compiler will not use worker threads to read/process/write
+	public int parseThreads = 0; // number of worker threads parsing method bodies ahead of processing when not using a single thread (0 or 1: none)
+	public int readThreads = 0; // number of threads reading source files ahead when not using a single thread (0: one per processor)
 
 	// number of initial units parsed at once (-1: none)
 
@@ -645,6 +647,21 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 				processingTask.shutdown();
 				processingTask = null;
 			}
+			ClassFilePool classFilePool = this.lookupEnvironment.classFilePool;
+			this.stats.classFileReuseCount += classFilePool.getReuseCount();
+			this.stats.classFileAllocationCount += classFilePool.getAllocationCount();
+			this.stats.typeLookupCount += this.lookupEnvironment.typeLookupCount;
+			this.stats.packageLookupCount += this.lookupEnvironment.packageLookupCount;
+			this.lookupEnvironment.typeLookupCount = this.lookupEnvironment.packageLookupCount = 0;
+			InferenceResultCache inferenceResults = this.lookupEnvironment.inferenceResults;
+			this.stats.inferenceCacheHitCount += inferenceResults.hitCount;
+			this.stats.inferenceCacheMissCount += inferenceResults.missCount;
+			this.stats.inferenceTimeSaved += inferenceResults.getSavedTime();
+			inferenceResults.resetCounters();
+			MethodLookupCache methodLookups = this.lookupEnvironment.methodLookups;
+			this.stats.methodLookupHitCount += methodLookups.hitCount;
+			this.stats.methodLookupMissCount += methodLookups.missCount;
+			methodLookups.resetCounters();
 			reset();
 			this.annotationProcessorStartIndex  = 0;
 			this.stats.endTime = System.currentTimeMillis();
@@ -826,7 +843,7 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	protected void internalBeginToCompile(ICompilationUnit[] sourceUnits, int maxUnits) {
 		abortIfPreviewNotAllowed(sourceUnits,maxUnits);
 		if (!this.useSingleThread && maxUnits >= ReadManager.THRESHOLD)
-			this.parser.readManager = new ReadManager(sourceUnits, maxUnits);
+			this.parser.readManager = new ReadManager(sourceUnits, maxUnits, this.readThreads);
 		try {
 			// Switch the current policy and compilation result for this unit to the requested one.
 			for (int i = 0; i < maxUnits; i++) {
@@ -844,6 +861,9 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 					// diet parsing for large collection of units
 					CompilationUnitDeclaration parsedUnit;
 					unitResult = new CompilationResult(sourceUnits[i], i, maxUnits, this.options.maxProblemsPerUnit);
+					UnitStats unitStats = this.stats.getUnitStats(sourceUnits[i].getFileName());
+					if (unitStats != null)
+						unitStats.start();
 					long parseStart = System.currentTimeMillis();
 					if (this.totalUnits < this.parseThreshold) {
 						parsedUnit = this.parser.parse(sourceUnits[i], unitResult);
@@ -852,9 +872,13 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 					}
 					long resolveStart = System.currentTimeMillis();
 					this.stats.parseTime += resolveStart - parseStart;
+					if (unitStats != null)
+						unitStats.end(UnitStats.PARSE);
 					// initial type binding creation
 					this.lookupEnvironment.buildTypeBindings(parsedUnit, null /*no access restriction*/);
 					this.stats.resolveTime += System.currentTimeMillis() - resolveStart;
+					if (unitStats != null)
+						unitStats.end(UnitStats.RESOLVE);
 					addCompilationUnit(sourceUnits[i], parsedUnit);
 					ImportReference currentPackage = parsedUnit.currentPackage;
 					if (currentPackage != null) {
@@ -872,9 +896,15 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 				}
 			}
 		} finally { // especially on AbortCompilation
-			if (this.parser.readManager != null) {
-				this.parser.readManager.shutdown();
+			ReadManager readManager = this.parser.readManager;
+			if (readManager != null) {
+				readManager.shutdown();
 				this.parser.readManager = null;
+				this.stats.readAheadCount += readManager.readAheadCount;
+				this.stats.directReadCount += readManager.directReadCount;
+				this.stats.readWaitCount += readManager.waitCount;
+				this.stats.readWaitTime += readManager.waitTime;
+				this.stats.maxReadQueueDepth = Math.max(this.stats.maxReadQueueDepth, readManager.maxQueueDepth);
 			}
 		}
 		// binding resolution
@@ -886,12 +916,17 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	 */
 	public void process(CompilationUnitDeclaration unit, int i) {
 		this.lookupEnvironment.unitBeingCompleted = unit;
+		UnitStats unitStats = this.stats.getUnitStats(unit.getFileName());
+		if (unitStats != null)
+			unitStats.start();
 		long parseStart = System.currentTimeMillis();
 
 		this.parser.getMethodBodies(unit);
 
 		long resolveStart = System.currentTimeMillis();
 		this.stats.parseTime += resolveStart - parseStart;
+		if (unitStats != null)
+			unitStats.end(UnitStats.PARSE);
 
 		// fault in fields & methods
 		if (unit.scope != null)
@@ -906,12 +941,16 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 
 		long analyzeStart = System.currentTimeMillis();
 		this.stats.resolveTime += analyzeStart - resolveStart;
+		if (unitStats != null)
+			unitStats.end(UnitStats.RESOLVE);
 
 		//No need of analysis or generation of code if statements are not required
 		if (!this.options.ignoreMethodBodies) unit.analyseCode(); // flow analysis
 
 		long generateStart = System.currentTimeMillis();
 		this.stats.analyzeTime += generateStart - analyzeStart;
+		if (unitStats != null)
+			unitStats.end(UnitStats.ANALYZE);
 
 		if (!this.options.ignoreMethodBodies) unit.generateCode(); // code generation
 
@@ -923,6 +962,8 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		unit.finalizeProblems();
 
 		this.stats.generateTime += System.currentTimeMillis() - generateStart;
+		if (unitStats != null)
+			unitStats.end(UnitStats.GENERATE);
 
 		// refresh the total number of units known at this stage
 		unit.compilationResult.totalUnitsKnown = this.totalUnits;
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.compiler;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.jdt.internal.compiler.ast.ASTNode;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.ReferenceExpression;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
+
+/**
+ * Parses the method bodies of the units waiting to be processed on a bounded pool of worker
+ * threads, ahead of the {@link ProcessTaskManager} which then resolves, analyzes and generates
+ * the units one at a time and in order. Only the parsing runs in parallel since binding
+ * resolution goes through the shared, non thread safe, lookup environment.
+ */
+public class ParseTaskManager {
+
+	Compiler compiler;
+	private final ExecutorService executor;
+	private final ThreadLocal<Parser> parsers;
+	private final Map<CompilationUnitDeclaration, Future<?>> pendingUnits; // only accessed by the processing thread
+	private final int lookAhead;
+	private int nextIndexToSchedule;
+
+	public static final int LOOK_AHEAD_PER_THREAD = 4;
+
+public ParseTaskManager(Compiler compiler, int threadCount, int startingIndex) {
+	this.compiler = compiler;
+	this.lookAhead = threadCount * LOOK_AHEAD_PER_THREAD;
+	this.nextIndexToSchedule = startingIndex;
+	this.pendingUnits = new HashMap<>();
+	final ProblemReporter problemReporter = compiler.problemReporter;
+	// each worker uses its own parser (and problem reporter), created on the worker thread
+	this.parsers = ThreadLocal.withInitial(() -> new WorkerParser(
+			new ProblemReporter(problemReporter.policy, compiler.options, problemReporter.problemFactory),
+			compiler.options.parseLiteralExpressionsAsConstants));
+	this.executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+		Thread thread = new Thread(runnable, "Compiler Parsing Task"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		return thread;
+	});
+}
+
+/**
+ * Answer whether parsing ahead can be used with the given compiler: workers create plain
+ * {@link Parser}s, so compilers using a specialized parser keep parsing method bodies themselves.
+ * Statements recovery is not supported either, since recovered method references would share
+ * the recovery scanner of a worker.
+ */
+public static boolean isApplicable(Compiler compiler) {
+	return compiler.parser != null && compiler.parser.getClass() == Parser.class
+			&& !compiler.options.performStatementsRecovery;
+}
+
+/**
+ * Called by the processing thread before the unit at the given index is processed:
+ * schedules the next units and waits until the method bodies of the given unit are parsed.
+ */
+public void prepare(CompilationUnitDeclaration unit, int index) throws Error {
+	scheduleUpTo(index + this.lookAhead);
+	Future<?> future = this.pendingUnits.remove(unit);
+	if (future == null || future.cancel(false))
+		return; // not started yet, let the processing thread parse the method bodies itself
+	// the worker is changing the unit: wait for it to complete even if interrupted
+	boolean interrupted = false;
+	try {
+		while (true) {
+			try {
+				future.get();
+				this.compiler.stats.parseAheadCount++;
+				return;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+	} catch (ExecutionException e) {
+		// rethrow the caught exception from the worker in the processing thread
+		Throwable cause = e.getCause();
+		if (cause instanceof Error)
+			throw (Error) cause;
+		throw (RuntimeException) cause;
+	} finally {
+		if (interrupted)
+			Thread.currentThread().interrupt();
+	}
+}
+
+private void scheduleUpTo(int lastIndex) {
+	synchronized (this.compiler) {
+		if (this.compiler.unitsToProcess == null)
+			return;
+		int max = Math.min(lastIndex, this.compiler.totalUnits - 1);
+		for (; this.nextIndexToSchedule <= max; this.nextIndexToSchedule++) {
+			CompilationUnitDeclaration next = this.compiler.unitsToProcess[this.nextIndexToSchedule];
+			if (next == null || next.ignoreMethodBodies || (next.bits & ASTNode.HasAllMethodBodies) != 0)
+				continue;
+			if (next.compilationResult.hasBeenAccepted)
+				continue;
+			this.pendingUnits.put(next, this.executor.submit(() -> this.parsers.get().getMethodBodies(next)));
+		}
+	}
+}
+
+public void shutdown() {
+	this.executor.shutdownNow();
+	this.pendingUnits.clear();
+}
+
+/**
+ * A parser for worker threads, which also serves the parsing of the units of type hierarchies.
+ */
+public static class WorkerParser extends Parser {
+
+	public WorkerParser(ProblemReporter problemReporter, boolean optimizeStringLiterals) {
+		super(problemReporter, optimizeStringLiterals);
+	}
+
+	@Override
+	public ReferenceExpression newReferenceExpression() {
+		// ReferenceExpression#copy() re-parses on the processing thread, it must not use the scanner
+		// this worker keeps using for the next units: let it create its own
+		return new ReferenceExpression(null);
+	}
+}
+}
@@ -24,6 +24,7 @@ public class ProcessTaskManager implements Runnable {
 	private Thread processingThread;
 	CompilationUnitDeclaration unitToProcess;
 	private Throwable caughtException;
+	private ParseTaskManager parseTaskManager; // parses method bodies ahead of processing, if enabled
 
 	// queue
 	volatile int currentIndex, availableIndex, size, sleepCount;
@@ -40,6 +41,8 @@ public ProcessTaskManager(Compiler compiler, int startingIndex) {
 	this.size = PROCESSED_QUEUE_SIZE;
 	this.sleepCount = 0; // 0 is no one, +1 is the processing thread & -1 is the writing/main thread
 	this.units = new CompilationUnitDeclaration[this.size];
+	if (compiler.parseThreads > 1 && ParseTaskManager.isApplicable(compiler))
+		this.parseTaskManager = new ParseTaskManager(compiler, compiler.parseThreads, startingIndex);
 
 	synchronized (this) {
 		this.processingThread = new Thread(this, "Compiler Processing Task"); //$NON-NLS-1$
@@ -142,6 +145,8 @@ public void run() {
 							String.valueOf(this.compiler.totalUnits),
 							new String(this.unitToProcess.getFileName())
 						}));
+				if (this.parseTaskManager != null)
+					this.parseTaskManager.prepare(this.unitToProcess, index);
 				this.compiler.process(this.unitToProcess, index);
 			} finally {
 				// cleanup compilation unit result, but only if not annotation processed.
@@ -170,6 +175,8 @@ public void shutdown() {
 				notifyAll();
 			}
 		}
+		if (this.parseTaskManager != null)
+			this.parseTaskManager.shutdown();
 		if (t != null)
 			t.join(250); // do not wait forever
 	} catch (InterruptedException ignored) {
@@ -27,16 +27,37 @@ public class ReadManager implements Runnable {
 	char[] readInProcessMarker = new char[0];
 	int sleepingThreadCount;
 	private Throwable caughtException;
+	private int cacheSize;
+
+	// statistics, only meaningful once the read manager is shut down
+	int readAheadCount; // files whose contents were read by a background thread
+	int directReadCount; // files read by the calling thread since they were not read ahead
+	int waitCount; // number of times the calling thread waited for a file being read
+	long waitTime; // time (in ms) the calling thread spent waiting for files being read
+	int maxQueueDepth; // maximum number of files read ahead and not yet requested
+	private int queueDepth;
 
 	static final int START_CUSHION = 5;
 	public static final int THRESHOLD = 10;
 	static final int CACHE_SIZE = 15; // do not waste memory by keeping too many files in memory
 
 public ReadManager(ICompilationUnit[] files, int length) {
+	this(files, length, 0);
+}
+
+/**
+ * @param readThreads the number of background threads reading the file's contents, 0 to use one per processor.
+ * 	Asking for more threads than processors is useful when reading from a slow file system, the number of
+ * 	files kept in memory then grows accordingly.
+ */
+public ReadManager(ICompilationUnit[] files, int length, int readThreads) {
 	// start the background threads to read the file's contents
-	int threadCount = Runtime.getRuntime().availableProcessors() + 1;
+	int threadCount = readThreads > 0 ? readThreads : Runtime.getRuntime().availableProcessors() + 1;
+	int size = CACHE_SIZE;
 	if (threadCount < 2) {
 		threadCount = 0;
+	} else if (readThreads > 0) {
+		size = Math.max(CACHE_SIZE, threadCount + START_CUSHION); // let every thread read ahead
 	} else if (threadCount > CACHE_SIZE) {
 		threadCount = CACHE_SIZE;
 	}
@@ -46,8 +67,9 @@ public ReadManager(ICompilationUnit[] files, int length) {
 			this.units = new ICompilationUnit[length];
 			System.arraycopy(files, 0, this.units, 0, length);
 			this.nextFileToRead = START_CUSHION; // skip some files to reduce the number of times we have to wait
-			this.filesRead = new ICompilationUnit[CACHE_SIZE];
-			this.contentsRead = new char[CACHE_SIZE][];
+			this.cacheSize = size;
+			this.filesRead = new ICompilationUnit[size];
+			this.contentsRead = new char[size][];
 			this.readyToReadPosition = 0;
 			this.nextAvailablePosition = 0;
 			this.sleepingThreadCount = 0;
@@ -78,22 +100,30 @@ public char[] getContents(ICompilationUnit unit) throws Error {
 	synchronized (this) {
 		if (unit == this.filesRead[this.readyToReadPosition]) {
 			result = this.contentsRead[this.readyToReadPosition];
-			while (result == this.readInProcessMarker || result == null) {
-				// let the readingThread know we're waiting
-				//System.out.print('|');
-				this.contentsRead[this.readyToReadPosition] = null;
-				try {
-					wait(250);
-				} catch (InterruptedException ignore) { // ignore
-				}
-				if (this.caughtException != null) {
-					// rethrow the caught exception from the readingThreads in the main compiler thread
-					if (this.caughtException instanceof Error)
-						throw (Error) this.caughtException;
-					throw (RuntimeException) this.caughtException;
+			if (result == this.readInProcessMarker || result == null) {
+				this.waitCount++;
+				long waitStart = System.currentTimeMillis();
+				while (result == this.readInProcessMarker || result == null) {
+					// let the readingThread know we're waiting
+					//System.out.print('|');
+					this.contentsRead[this.readyToReadPosition] = null;
+					try {
+						wait(250);
+					} catch (InterruptedException ignore) { // ignore
+					}
+					if (this.caughtException != null) {
+						// rethrow the caught exception from the readingThreads in the main compiler thread
+						if (this.caughtException instanceof Error)
+							throw (Error) this.caughtException;
+						throw (RuntimeException) this.caughtException;
+					}
+					result = this.contentsRead[this.readyToReadPosition];
 				}
-				result = this.contentsRead[this.readyToReadPosition];
+				this.waitTime += System.currentTimeMillis() - waitStart;
+			} else {
+				this.queueDepth--;
 			}
+			this.readAheadCount++;
 			// free spot for next file
 			this.filesRead[this.readyToReadPosition] = null;
 			this.contentsRead[this.readyToReadPosition] = null;
@@ -118,8 +148,9 @@ public char[] getContents(ICompilationUnit unit) throws Error {
 				this.nextFileToRead = unitIndex + START_CUSHION;
 				this.readyToReadPosition = 0;
 				this.nextAvailablePosition = 0;
-				this.filesRead = new ICompilationUnit[CACHE_SIZE];
-				this.contentsRead = new char[CACHE_SIZE][];
+				this.filesRead = new ICompilationUnit[this.cacheSize];
+				this.contentsRead = new char[this.cacheSize][];
+				this.queueDepth = 0;
 				notifyAll();
 			}
 		}
@@ -129,6 +160,9 @@ public char[] getContents(ICompilationUnit unit) throws Error {
 	if (result != null)
 		return result;
 	//System.out.print('-');
+	synchronized (this) {
+		this.directReadCount++;
+	}
 	return unit.getContents();
 }
 
@@ -162,8 +196,11 @@ public void run() {
 			char[] result = unit.getContents();
 			synchronized (this) {
 				if (this.filesRead[position] == unit) {
-					if (this.contentsRead[position] == null) // wake up main thread which is waiting for this file
+					if (this.contentsRead[position] == null) { // wake up main thread which is waiting for this file
 						notifyAll();
+					} else if (++this.queueDepth > this.maxQueueDepth) {
+						this.maxQueueDepth = this.queueDepth;
+					}
 					this.contentsRead[position] = result;
 				}
 			}
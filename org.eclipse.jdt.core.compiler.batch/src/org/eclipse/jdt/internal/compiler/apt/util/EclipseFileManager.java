@@ -53,6 +53,7 @@ import org.eclipse.jdt.internal.compiler.apt.util.JrtFileSystem.JrtFileObject;
 import org.eclipse.jdt.internal.compiler.apt.util.ModuleLocationHandler.LocationContainer;
 import org.eclipse.jdt.internal.compiler.apt.util.ModuleLocationHandler.LocationWrapper;
 import org.eclipse.jdt.internal.compiler.apt.util.ModuleLocationHandler.ModuleLocationWrapper;
+import org.eclipse.jdt.internal.compiler.batch.ClassFileSink;
 import org.eclipse.jdt.internal.compiler.batch.FileSystem;
 import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
 import org.eclipse.jdt.internal.compiler.batch.Main;
@@ -833,7 +834,12 @@ public class EclipseFileManager implements StandardJavaFileManager {
 					}
 				case "-d": //$NON-NLS-1$
 					if (remaining.hasNext()) {
-						final Iterable<? extends File> outputDir = getOutputDir(remaining.next());
+						String destination = remaining.next();
+						if (ClassFileSink.isArchive(destination)) {
+							// the class files are streamed into the archive, there is no class output directory
+							return true;
+						}
+						final Iterable<? extends File> outputDir = getOutputDir(destination);
 						if (outputDir != null) {
 							setLocation(StandardLocation.CLASS_OUTPUT, outputDir);
 						}
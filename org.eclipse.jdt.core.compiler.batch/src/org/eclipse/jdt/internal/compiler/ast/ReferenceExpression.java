@@ -127,7 +127,7 @@ public class ReferenceExpression extends FunctionalExpression implements IPolyEx
 	private HashMap<ParameterizedGenericMethodBinding, InferenceContext18> inferenceContexts;
 
 	// the scanner used when creating this expression, may be a RecoveryScanner (with proper RecoveryScannerData),
-	// need to keep it so copy() can parse in the same mode (normal/recovery):
+	// need to keep it so copy() can parse in the same mode (normal/recovery), null to use a fresh scanner:
 	private Scanner scanner;
 
 	public ReferenceExpression(Scanner scanner) {
@@ -149,7 +149,8 @@ public class ReferenceExpression extends FunctionalExpression implements IPolyEx
 		final Parser parser = new Parser(this.enclosingScope.problemReporter(), false);
 		final ICompilationUnit compilationUnit = this.compilationResult.getCompilationUnit();
 		final char[] source = compilationUnit != null ? compilationUnit.getContents() : this.text;
-		parser.scanner = this.scanner;
+		if (this.scanner != null)
+			parser.scanner = this.scanner;
 		ReferenceExpression copy =  (ReferenceExpression) parser.parseExpression(source, compilationUnit != null ? this.sourceStart : 0, this.sourceEnd - this.sourceStart + 1,
 										this.enclosingScope.referenceCompilationUnit(), false /* record line separators */);
 		copy.original = this;
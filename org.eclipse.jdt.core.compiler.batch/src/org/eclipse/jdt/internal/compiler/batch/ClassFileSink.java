@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.util.Util;
+
+/**
+ * Writes the class files generated by the batch compiler to their destination.
+ * <p>
+ * A destination given through <code>-d</code> whose name ends with <code>.jar</code> or <code>.zip</code>,
+ * and which is not an existing directory, is an archive: the class files are streamed into it as entries
+ * of a {@link ZipOutputStream}, instead of being written as separate files. Other destinations are
+ * directories, into which each class file is written through a file channel, without intermediate copy.
+ * </p><p>
+ * With no writer (the default), the class files are written by the thread accepting the compilation
+ * results. Otherwise, their contents are copied and written by the given number of writer threads, the
+ * entries of a same archive being written one at a time. The failures of these writes are answered by
+ * {@link #close()}, which waits for the pending writes. The number of writers used by {@link Main} can
+ * be set through the <code>jdt.compiler.outputWriters</code> system property.
+ * </p>
+ */
+public class ClassFileSink {
+
+	private static final String JAR_SUFFIX = ".jar"; //$NON-NLS-1$
+	private static final String ZIP_SUFFIX = ".zip"; //$NON-NLS-1$
+
+	/**
+	 * A class file which could not be written.
+	 */
+	public static class Failure {
+		public final String outputPath;
+		public final String relativeFileName;
+		public final IOException exception;
+
+		Failure(String outputPath, String relativeFileName, IOException exception) {
+			this.outputPath = outputPath;
+			this.relativeFileName = relativeFileName;
+			this.exception = exception;
+		}
+	}
+
+	/* The entries of an archive are written one at a time, by whichever writer holds its lock. */
+	private static class Archive {
+		final String path;
+		final ZipOutputStream output;
+		final List<String> entryNames = new ArrayList<>();
+
+		Archive(String path) throws IOException {
+			this.path = path;
+			File file = new File(path);
+			File parent = file.getAbsoluteFile().getParentFile();
+			if (parent != null)
+				parent.mkdirs();
+			OutputStream stream = new BufferedOutputStream(new FileOutputStream(file), 0x10000);
+			if (path.toLowerCase(Locale.ROOT).endsWith(JAR_SUFFIX)) {
+				Manifest manifest = new Manifest();
+				manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0"); //$NON-NLS-1$
+				this.output = new JarOutputStream(stream, manifest);
+			} else {
+				this.output = new ZipOutputStream(stream);
+			}
+		}
+
+		synchronized void write(String relativeFileName, ByteBuffer[] buffers) throws IOException {
+			String entryName = relativeFileName.replace(File.separatorChar, '/');
+			this.output.putNextEntry(new ZipEntry(entryName));
+			for (ByteBuffer buffer : buffers)
+				this.output.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+			this.output.closeEntry();
+			this.entryNames.add(relativeFileName);
+		}
+
+		synchronized void close() throws IOException {
+			this.output.close();
+		}
+	}
+
+	private final ExecutorService executor; // null when writing on the calling thread
+	private final Map<String, Archive> archives = new HashMap<>(); // only accessed by the calling thread
+	private final Map<String, IOException> unavailableArchives = new HashMap<>();
+	private final Set<String> directories = new HashSet<>();
+	private final List<Failure> failures = new ArrayList<>();
+
+	public ClassFileSink(int writers) {
+		this.executor = writers <= 0 ? null : Executors.newFixedThreadPool(writers, runnable -> {
+			Thread thread = new Thread(runnable, "Compiler Output Writer"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Answer whether the class files written to the given destination are entries of an archive.
+	 */
+	public static boolean isArchive(String outputPath) {
+		String lowerCasePath = outputPath.toLowerCase(Locale.ROOT);
+		return (lowerCasePath.endsWith(JAR_SUFFIX) || lowerCasePath.endsWith(ZIP_SUFFIX))
+				&& !new File(outputPath).isDirectory();
+	}
+
+	/**
+	 * Write the given class file, or schedule its writing when writers are used, in which case the
+	 * class file may be released as soon as this method returns.
+	 *
+	 * @param outputPath the destination, a directory or an archive
+	 * @param generatePackagesStructure whether the class file is written into the folders of its package,
+	 * 	always the case for archives
+	 * @param relativeFileName the name of the class file, its segments separated by {@link File#separatorChar}
+	 * @param classFile the class file to write
+	 * @throws IOException if the class file is written by the calling thread and could not be written
+	 */
+	public void write(String outputPath, boolean generatePackagesStructure, String relativeFileName, ClassFile classFile) throws IOException {
+		Archive archive = generatePackagesStructure ? getArchive(outputPath) : null;
+		if (this.executor == null) {
+			ByteBuffer[] buffers = {
+				ByteBuffer.wrap(classFile.header, 0, classFile.headerOffset),
+				ByteBuffer.wrap(classFile.contents, 0, classFile.contentsOffset)
+			};
+			write(archive, outputPath, generatePackagesStructure, relativeFileName, buffers);
+			return;
+		}
+		byte[] bytes = new byte[classFile.headerOffset + classFile.contentsOffset];
+		System.arraycopy(classFile.header, 0, bytes, 0, classFile.headerOffset);
+		System.arraycopy(classFile.contents, 0, bytes, classFile.headerOffset, classFile.contentsOffset);
+		this.executor.execute(() -> {
+			try {
+				write(archive, outputPath, generatePackagesStructure, relativeFileName, new ByteBuffer[] { ByteBuffer.wrap(bytes) });
+			} catch (IOException e) {
+				synchronized (this.failures) {
+					this.failures.add(new Failure(outputPath, relativeFileName, e));
+				}
+			}
+		});
+	}
+
+	private Archive getArchive(String outputPath) throws IOException {
+		Archive archive = this.archives.get(outputPath);
+		if (archive != null)
+			return archive;
+		IOException unavailable = this.unavailableArchives.get(outputPath);
+		if (unavailable != null)
+			throw unavailable;
+		if (this.directories.contains(outputPath))
+			return null;
+		if (!isArchive(outputPath)) {
+			this.directories.add(outputPath);
+			return null;
+		}
+		try {
+			archive = new Archive(outputPath);
+		} catch (IOException e) {
+			this.unavailableArchives.put(outputPath, e);
+			throw e;
+		}
+		this.archives.put(outputPath, archive);
+		return archive;
+	}
+
+	private void write(Archive archive, String outputPath, boolean generatePackagesStructure, String relativeFileName, ByteBuffer[] buffers) throws IOException {
+		if (archive != null)
+			archive.write(relativeFileName, buffers);
+		else
+			Util.writeToDisk(generatePackagesStructure, outputPath, relativeFileName, buffers);
+	}
+
+	/**
+	 * Wait for the pending writes, then close the archives.
+	 *
+	 * @return the class files which could not be written by the writers, or were written into an archive
+	 * 	which could not be completed
+	 */
+	public List<Failure> close() {
+		if (this.executor != null) {
+			this.executor.shutdown();
+			boolean interrupted = false;
+			while (!this.executor.isTerminated()) {
+				try {
+					this.executor.awaitTermination(1, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+		List<Failure> result;
+		synchronized (this.failures) {
+			result = new ArrayList<>(this.failures);
+		}
+		for (Archive archive : this.archives.values()) {
+			try {
+				archive.close();
+			} catch (IOException e) {
+				for (String entryName : archive.entryNames)
+					result.add(new Failure(archive.path, entryName, e));
+			}
+		}
+		this.archives.clear();
+		return result;
+	}
+}
@@ -52,6 +52,7 @@ protected ZipFile zipFile;
 protected ZipFile annotationZipFile;
 protected boolean closeZipFileAtEnd;
 protected Set<String> packageCache;
+protected Set<String> packagesWithClassFiles; // computed along with the package cache
 protected List<String> annotationPaths;
 
 public ClasspathJar(File file, boolean closeZipFileAtEnd,
@@ -233,34 +234,58 @@ protected void addToPackageCache(String fileName, boolean endsWithSep) {
 		last = packageName.lastIndexOf('/');
 	}
 }
-@Override
-public synchronized char[][] getModulesDeclaringPackage(String qualifiedPackageName, String moduleName) {
-	if (this.packageCache != null)
-		return singletonModuleNameIf(this.packageCache.contains(qualifiedPackageName));
+protected void addToPackageCache(ZipEntry entry) {
+	String fileName = entry.getName();
+	addToPackageCache(fileName, false);
+	int last = fileName.lastIndexOf('/');
+	if (last > 0 && fileName.toLowerCase().endsWith(SUFFIX_STRING_class))
+		this.packagesWithClassFiles.add(fileName.substring(0, last));
+}
+/**
+ * Compute the packages of this jar, unless the persistent cache of the batch compilations knows them.
+ */
+protected void initializePackageCache() {
+	JarPackageCache persistentCache = JarPackageCache.getDefault();
+	String cacheKey = null;
+	if (persistentCache != null) {
+		cacheKey = getPackageCacheKey();
+		JarPackageCache.Packages packages = persistentCache.read(this.file, cacheKey);
+		if (packages != null) {
+			this.packageCache = packages.packageNames;
+			this.packagesWithClassFiles = packages.packagesWithClassFiles;
+			return;
+		}
+	}
 
 	this.packageCache = new HashSet<>(41);
 	this.packageCache.add(Util.EMPTY_STRING);
-
-	for (Enumeration e = this.zipFile.entries(); e.hasMoreElements(); ) {
-		String fileName = ((ZipEntry) e.nextElement()).getName();
-		addToPackageCache(fileName, false);
-	}
+	this.packagesWithClassFiles = new HashSet<>();
+	computePackageCache();
+	if (persistentCache != null)
+		persistentCache.write(this.file, cacheKey, new JarPackageCache.Packages(this.packageCache, this.packagesWithClassFiles));
+}
+protected void computePackageCache() {
+	for (Enumeration e = this.zipFile.entries(); e.hasMoreElements(); )
+		addToPackageCache((ZipEntry) e.nextElement());
+}
+/**
+ * Answer the key of the packages of this jar in the persistent cache, which identifies the view
+ * this classpath entry has of the jar.
+ */
+protected String getPackageCacheKey() {
+	return getPath();
+}
+@Override
+public synchronized char[][] getModulesDeclaringPackage(String qualifiedPackageName, String moduleName) {
+	if (this.packageCache == null)
+		initializePackageCache();
 	return singletonModuleNameIf(this.packageCache.contains(qualifiedPackageName));
 }
 @Override
-public boolean hasCompilationUnit(String qualifiedPackageName, String moduleName) {
-	qualifiedPackageName += '/';
-	for (Enumeration<? extends ZipEntry> e = this.zipFile.entries(); e.hasMoreElements(); ) {
-		String fileName = e.nextElement().getName();
-		if (fileName.startsWith(qualifiedPackageName) && fileName.length() > qualifiedPackageName.length()) {
-			String tail = fileName.substring(qualifiedPackageName.length());
-			if (tail.indexOf('/') != -1)
-				continue;
-			if (tail.toLowerCase().endsWith(SUFFIX_STRING_class))
-				return true;
-		}
-	}
-	return false;
+public synchronized boolean hasCompilationUnit(String qualifiedPackageName, String moduleName) {
+	if (this.packageCache == null)
+		initializePackageCache();
+	return this.packagesWithClassFiles.contains(qualifiedPackageName);
 }
 
 @Override
@@ -297,6 +322,7 @@ public void reset() {
 		}
 	}
 	this.packageCache = null;
+	this.packagesWithClassFiles = null;
 	this.annotationPaths = null;
 }
 @Override
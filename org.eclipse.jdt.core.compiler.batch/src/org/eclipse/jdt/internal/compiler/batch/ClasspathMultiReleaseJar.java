@@ -8,9 +8,6 @@ import java.nio.file.FileVisitor;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
-import java.util.Enumeration;
-import java.util.HashSet;
-import java.util.zip.ZipEntry;
 
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
@@ -44,22 +41,16 @@ public class ClasspathMultiReleaseJar extends ClasspathJar {
 			}
 		}
 	}
-	@SuppressWarnings("rawtypes")
 	@Override
-	public synchronized char[][] getModulesDeclaringPackage(String qualifiedPackageName, String moduleName) {
-		if (this.releasePath == null) {
-			return super.getModulesDeclaringPackage(qualifiedPackageName, moduleName);
-		}
-		if (this.packageCache != null)
-			return singletonModuleNameIf(this.packageCache.contains(qualifiedPackageName));
-
-		this.packageCache = new HashSet<>(41);
-		this.packageCache.add(Util.EMPTY_STRING);
-
-		for (Enumeration e = this.zipFile.entries(); e.hasMoreElements(); ) {
-			String fileName = ((ZipEntry) e.nextElement()).getName();
-			addToPackageCache(fileName, false);
-		}
+	protected String getPackageCacheKey() {
+		// the packages of the release directory are only seen when compiling for that release
+		if (this.releasePath == null)
+			return super.getPackageCacheKey();
+		return super.getPackageCacheKey() + '|' + this.compliance;
+	}
+	@Override
+	protected void computePackageCache() {
+		super.computePackageCache();
 		try {
 			if (this.releasePath != null && Files.exists(this.releasePath)) {
 				// go through the packages
@@ -97,7 +88,6 @@ public class ClasspathMultiReleaseJar extends ClasspathJar {
 			e.printStackTrace();
 			// move on;
 		}
-		return singletonModuleNameIf(this.packageCache.contains(qualifiedPackageName));
 	}
 	@Override
 	public NameEnvironmentAnswer findClass(char[] binaryFileName, String qualifiedPackageName, String moduleName, String qualifiedBinaryFileName, boolean asBinaryOnly) {
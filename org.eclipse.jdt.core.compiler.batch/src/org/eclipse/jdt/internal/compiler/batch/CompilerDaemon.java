@@ -0,0 +1,306 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.SecureRandom;
+import java.util.List;
+
+import org.eclipse.jdt.internal.compiler.util.JRTUtil;
+
+/**
+ * Long running batch compiler, which compiles the command lines it receives from
+ * {@link #compile(File, String[], PrintWriter, PrintWriter) clients} over a loopback socket,
+ * one at a time. Compared to launching a new batch compiler for each compilation, the compilations
+ * benefit from a warmed up virtual machine and from the JRT images and ct.sym files cached by
+ * {@link JRTUtil}; the latter are dropped as soon as the corresponding files are modified.
+ * <p>
+ * The daemon writes its port and a random token to a state file only readable by the current user,
+ * clients must present the token. Since relative paths of the command line are resolved against the
+ * working directory of the daemon, a client running in another directory is rejected and falls back
+ * to compiling in its own process.
+ * </p>
+ * Usage:
+ * <pre>
+ * java -cp ecj.jar org.eclipse.jdt.internal.compiler.batch.CompilerDaemon -server
+ * java -cp ecj.jar org.eclipse.jdt.internal.compiler.batch.CompilerDaemon &lt;batch compiler arguments&gt;
+ * java -cp ecj.jar org.eclipse.jdt.internal.compiler.batch.CompilerDaemon -stop
+ * </pre>
+ * The state file defaults to <code>.ecj-daemon</code> in the user home directory, and can be set
+ * through the <code>jdt.compiler.daemon.file</code> system property.
+ */
+public class CompilerDaemon {
+
+	public static final String STATE_FILE_PROPERTY = "jdt.compiler.daemon.file"; //$NON-NLS-1$
+	private static final String SERVER_OPTION = "-server"; //$NON-NLS-1$
+	private static final String STOP_OPTION = "-stop"; //$NON-NLS-1$
+
+	// request kinds
+	private static final int COMPILE = 1;
+	private static final int STOP = 2;
+	// reply statuses
+	private static final int OK = 0;
+	private static final int REJECTED = 1;
+	// limits of the requests, checked before allocating anything for them
+	private static final int MAX_TOKEN_LENGTH = 64;
+	private static final int MAX_ARGUMENT_LENGTH = 1 << 20;
+	private static final int MAX_ARGUMENT_COUNT = 1 << 16;
+	private static final int READ_TIMEOUT = 10000; // in ms, so that a stalled client cannot block the daemon
+
+	private final File stateFile;
+	private final String token;
+	private final String workingDirectory;
+	private ServerSocket serverSocket;
+	private volatile boolean stopped;
+
+public CompilerDaemon(File stateFile) {
+	this.stateFile = stateFile;
+	byte[] bytes = new byte[16];
+	new SecureRandom().nextBytes(bytes);
+	StringBuilder buffer = new StringBuilder(bytes.length * 2);
+	for (byte b : bytes) {
+		buffer.append(Character.forDigit((b >> 4) & 0xF, 16));
+		buffer.append(Character.forDigit(b & 0xF, 16));
+	}
+	this.token = buffer.toString();
+	this.workingDirectory = new File("").getAbsolutePath(); //$NON-NLS-1$
+}
+
+public static File getDefaultStateFile() {
+	String stateFile = System.getProperty(STATE_FILE_PROPERTY);
+	if (stateFile != null && !stateFile.isEmpty())
+		return new File(stateFile);
+	return new File(System.getProperty("user.home"), ".ecj-daemon"); //$NON-NLS-1$ //$NON-NLS-2$
+}
+
+/**
+ * Bind the daemon to a loopback port, and publish it in the state file.
+ */
+public void start() throws IOException {
+	this.serverSocket = new ServerSocket();
+	this.serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+	File parent = this.stateFile.getAbsoluteFile().getParentFile();
+	File tempFile = File.createTempFile("ecj-daemon", null, parent); //$NON-NLS-1$
+	try {
+		tempFile.setReadable(false, false);
+		tempFile.setReadable(true, true);
+		tempFile.setWritable(false, false);
+		tempFile.setWritable(true, true);
+		Files.write(tempFile.toPath(), List.of(Integer.toString(this.serverSocket.getLocalPort()), this.token), StandardCharsets.UTF_8);
+		Files.move(tempFile.toPath(), this.stateFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	} finally {
+		tempFile.delete();
+	}
+}
+
+/**
+ * Answer the compile requests until the daemon is stopped.
+ */
+public void serve() throws IOException {
+	try {
+		while (!this.stopped) {
+			try (Socket socket = this.serverSocket.accept()) {
+				socket.setSoTimeout(READ_TIMEOUT);
+				handle(socket);
+			} catch (SocketException e) {
+				if (this.stopped)
+					break;
+				// the client went away, wait for the next one
+			} catch (IOException e) {
+				// the client went away, stalled or sent an invalid request, wait for the next one
+			} catch (RuntimeException e) {
+				// a failure while answering this client must not stop the daemon
+			}
+		}
+	} finally {
+		stop();
+	}
+}
+
+public void stop() {
+	this.stopped = true;
+	try {
+		this.serverSocket.close();
+	} catch (IOException e) {
+		// ignore
+	}
+	try {
+		// only remove the state file if it was not overwritten by another daemon
+		List<String> lines = Files.readAllLines(this.stateFile.toPath(), StandardCharsets.UTF_8);
+		if (lines.size() == 2 && this.token.equals(lines.get(1)))
+			this.stateFile.delete();
+	} catch (IOException e) {
+		// ignore
+	}
+}
+
+private void handle(Socket socket) throws IOException {
+	DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+	DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+	if (!this.token.equals(readString(in, MAX_TOKEN_LENGTH)))
+		return;
+	int kind = in.readInt();
+	if (kind == STOP) {
+		this.stopped = true;
+		out.writeInt(OK);
+		out.flush();
+		return;
+	}
+	String clientDirectory = readString(in, MAX_ARGUMENT_LENGTH);
+	String[] argv = new String[readLength(in, MAX_ARGUMENT_COUNT)];
+	for (int i = 0; i < argv.length; i++)
+		argv[i] = readString(in, MAX_ARGUMENT_LENGTH);
+	if (kind != COMPILE || !this.workingDirectory.equals(clientDirectory)) {
+		out.writeInt(REJECTED);
+		out.flush();
+		return;
+	}
+	JRTUtil.invalidateOutdatedCaches();
+	StringWriter outWriter = new StringWriter();
+	StringWriter errWriter = new StringWriter();
+	boolean succeeded = new Main(new PrintWriter(outWriter), new PrintWriter(errWriter), false /* systemExit */, null /* options */, null /* progress */).compile(argv);
+	out.writeInt(OK);
+	out.writeBoolean(succeeded);
+	writeString(out, outWriter.toString());
+	writeString(out, errWriter.toString());
+	out.flush();
+}
+
+/**
+ * Compile the given command line with the daemon published in the given state file.
+ *
+ * @return whether the compilation succeeded, or null if no daemon could perform the compilation
+ */
+public static Boolean compile(File stateFile, String[] argv, PrintWriter outWriter, PrintWriter errWriter) {
+	try (Socket socket = connect(stateFile)) {
+		if (socket == null)
+			return null;
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+		out.writeInt(COMPILE);
+		writeString(out, new File("").getAbsolutePath()); //$NON-NLS-1$
+		out.writeInt(argv.length);
+		for (String arg : argv)
+			writeString(out, arg);
+		out.flush();
+		DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+		if (in.readInt() != OK)
+			return null;
+		boolean succeeded = in.readBoolean();
+		outWriter.print(readString(in, Integer.MAX_VALUE));
+		outWriter.flush();
+		errWriter.print(readString(in, Integer.MAX_VALUE));
+		errWriter.flush();
+		return Boolean.valueOf(succeeded);
+	} catch (IOException e) {
+		return null;
+	}
+}
+
+/**
+ * Ask the daemon published in the given state file to stop.
+ *
+ * @return whether a daemon was found
+ */
+public static boolean stop(File stateFile) {
+	try (Socket socket = connect(stateFile)) {
+		if (socket == null)
+			return false;
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+		out.writeInt(STOP);
+		out.flush();
+		return new DataInputStream(socket.getInputStream()).readInt() == OK;
+	} catch (IOException e) {
+		return false;
+	}
+}
+
+/*
+ * Answer a socket connected to the daemon, on which the token was already sent, or null if there is no daemon.
+ */
+private static Socket connect(File stateFile) throws IOException {
+	if (!stateFile.isFile())
+		return null;
+	List<String> lines = Files.readAllLines(stateFile.toPath(), StandardCharsets.UTF_8);
+	if (lines.size() != 2)
+		return null;
+	int port;
+	try {
+		port = Integer.parseInt(lines.get(0));
+	} catch (NumberFormatException e) {
+		return null;
+	}
+	Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+	DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+	writeString(out, lines.get(1));
+	out.flush();
+	return socket;
+}
+
+private static String readString(DataInputStream in, int maxLength) throws IOException {
+	byte[] bytes = new byte[readLength(in, maxLength)];
+	in.readFully(bytes);
+	return new String(bytes, StandardCharsets.UTF_8);
+}
+
+private static int readLength(DataInputStream in, int maxLength) throws IOException {
+	int length = in.readInt();
+	if (length < 0 || length > maxLength)
+		throw new IOException("Invalid length: " + length); //$NON-NLS-1$
+	return length;
+}
+
+private static void writeString(DataOutputStream out, String string) throws IOException {
+	byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+	out.writeInt(bytes.length);
+	out.write(bytes);
+}
+
+public static void main(String[] argv) throws IOException {
+	File stateFile = getDefaultStateFile();
+	if (argv.length == 1 && SERVER_OPTION.equals(argv[0])) {
+		CompilerDaemon daemon = new CompilerDaemon(stateFile);
+		daemon.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(daemon::stop));
+		daemon.serve();
+		return;
+	}
+	if (argv.length == 1 && STOP_OPTION.equals(argv[0])) {
+		System.exit(stop(stateFile) ? 0 : -1);
+	}
+	PrintWriter outWriter = new PrintWriter(System.out);
+	PrintWriter errWriter = new PrintWriter(System.err);
+	Boolean succeeded = compile(stateFile, argv, outWriter, errWriter);
+	if (succeeded == null) {
+		// no usable daemon, compile in this process
+		new Main(outWriter, errWriter, true /* systemExit */, null /* options */, null /* progress */).compile(argv);
+		return;
+	}
+	System.exit(succeeded.booleanValue() ? 0 : -1);
+}
+}
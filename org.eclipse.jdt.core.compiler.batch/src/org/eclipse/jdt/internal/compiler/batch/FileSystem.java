@@ -354,6 +354,12 @@ public static Classpath getClasspath(String classpathName, String encoding,
 	}
 	return result;
 }
+/**
+ * Change the source files being compiled, whose types are not looked up on the classpath.
+ */
+public void setInitialFileNames(String[] initialFileNames) {
+	initializeKnownFileNames(initialFileNames);
+}
 private void initializeKnownFileNames(String[] initialFileNames) {
 	if (initialFileNames == null) {
 		this.knownFileNames = new HashSet<>(0);
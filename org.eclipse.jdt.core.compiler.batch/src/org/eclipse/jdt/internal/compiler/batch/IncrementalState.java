@@ -0,0 +1,323 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
+import org.eclipse.jdt.internal.compiler.util.Messages;
+
+/**
+ * The state of the incremental batch compilations run with <code>-incremental &lt;stateDir&gt;</code>,
+ * persisted in the given directory between runs.
+ * <p>
+ * For each source file, the state records its time stamp and size, whether it had errors, the class
+ * files it produced with their structural fingerprints, and the names it references, as collected by
+ * the compiler when it produces reference information. The next run compiles the source files which
+ * were added or changed, those which had errors and those whose class files are missing. As the IDE
+ * builder does, each class file written is then compared with the one it replaces, through their
+ * fingerprints: when its structure changed, or when a type was added or removed, the source files
+ * referring to its simple name and package are compiled in a further round, until no more structural
+ * change occurs.
+ * </p><p>
+ * The state also records a key of the options, classpath and destination of the compilation: when
+ * it does not match, the state is ignored and all the source files are compiled.
+ * </p>
+ */
+public class IncrementalState {
+
+	public static final String FILE_NAME = "ecj.state"; //$NON-NLS-1$
+	private static final int VERSION = 2;
+	private static final String[] NO_STRINGS = new String[0];
+	private static final long[] NO_FINGERPRINTS = new long[0];
+
+	/**
+	 * What is recorded about a source file.
+	 */
+	public static class SourceFile {
+		final String path;
+		final long lastModified;
+		final long length;
+		final boolean hasErrors;
+		final String[] classFileNames; // relative names of the class files, separated by '/' and without the .class suffix
+		final long[] structuralFingerprints; // of the class files, 0 for local types
+		final String[] qualifiedReferences; // package and qualified type names, separated by '/'
+		final String[] simpleNameReferences;
+		final String[] rootReferences;
+
+		SourceFile(String path, long lastModified, long length, boolean hasErrors, String[] classFileNames,
+				long[] structuralFingerprints, String[] qualifiedReferences, String[] simpleNameReferences,
+				String[] rootReferences) {
+			this.path = path;
+			this.lastModified = lastModified;
+			this.length = length;
+			this.hasErrors = hasErrors;
+			this.classFileNames = classFileNames;
+			this.structuralFingerprints = structuralFingerprints;
+			this.qualifiedReferences = qualifiedReferences;
+			this.simpleNameReferences = simpleNameReferences;
+			this.rootReferences = rootReferences;
+		}
+
+		boolean isUnchanged(File file) {
+			return !this.hasErrors && file.lastModified() == this.lastModified && file.length() == this.length;
+		}
+
+		/* Answer the index of the given class file among those produced by this source file, or -1. */
+		int indexOf(String classFileName) {
+			for (int i = 0; i < this.classFileNames.length; i++) {
+				if (this.classFileNames[i].equals(classFileName))
+					return i;
+			}
+			return -1;
+		}
+
+		/* Answer whether this source file may depend on the given class file, according to its references. */
+		boolean refersTo(String classFileName) {
+			int separatorIndex = classFileName.lastIndexOf('/');
+			String packageName = separatorIndex == -1 ? null : classFileName.substring(0, separatorIndex);
+			String simpleName = classFileName.substring(separatorIndex + 1);
+			if (CharOperation.equals(simpleName.toCharArray(), TypeConstants.PACKAGE_INFO_NAME)) {
+				// the annotations of the package changed, blame the package itself
+				return packageName != null && refersToPackage(packageName);
+			}
+			int memberIndex = simpleName.indexOf('$');
+			if (memberIndex > 0)
+				simpleName = simpleName.substring(0, memberIndex);
+			if (!contains(this.simpleNameReferences, simpleName))
+				return false;
+			return packageName == null || refersToPackage(packageName);
+		}
+
+		private boolean refersToPackage(String packageName) {
+			int rootEnd = packageName.indexOf('/');
+			if (rootEnd == -1) {
+				// qualified references have several segments, a package made of one is recorded as a simple name
+				return contains(this.rootReferences, packageName) && contains(this.simpleNameReferences, packageName);
+			}
+			return contains(this.rootReferences, packageName.substring(0, rootEnd))
+					&& contains(this.qualifiedReferences, packageName);
+		}
+
+		private static boolean contains(String[] sortedNames, String name) {
+			return Arrays.binarySearch(sortedNames, name) >= 0;
+		}
+	}
+
+	private final String key;
+	private final Map<String, SourceFile> sourceFiles;
+
+	public IncrementalState(String key) {
+		this(key, new LinkedHashMap<>());
+	}
+
+	private IncrementalState(String key, Map<String, SourceFile> sourceFiles) {
+		this.key = key;
+		this.sourceFiles = sourceFiles;
+	}
+
+	/**
+	 * Answer the state persisted in the given directory, or null if there is none, if it cannot be read,
+	 * or if it was recorded for another key.
+	 */
+	public static IncrementalState read(File directory, String key) {
+		File stateFile = new File(directory, FILE_NAME);
+		if (!stateFile.isFile())
+			return null;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(stateFile)))) {
+			if (in.readInt() != VERSION || !key.equals(in.readUTF()))
+				return null;
+			int size = in.readInt();
+			Map<String, SourceFile> sourceFiles = new LinkedHashMap<>(Math.max(16, size * 4 / 3 + 1));
+			for (int i = 0; i < size; i++) {
+				String path = in.readUTF();
+				sourceFiles.put(path, new SourceFile(path, in.readLong(), in.readLong(), in.readBoolean(),
+						readStrings(in), readLongs(in), readStrings(in), readStrings(in), readStrings(in)));
+			}
+			return new IncrementalState(key, sourceFiles);
+		} catch (IOException e) {
+			return null; // treat a corrupt state as missing
+		}
+	}
+
+	private static String[] readStrings(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length == 0)
+			return NO_STRINGS;
+		String[] strings = new String[length];
+		for (int i = 0; i < length; i++)
+			strings[i] = in.readUTF();
+		return strings;
+	}
+
+	private static long[] readLongs(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length == 0)
+			return NO_FINGERPRINTS;
+		long[] longs = new long[length];
+		for (int i = 0; i < length; i++)
+			longs[i] = in.readLong();
+		return longs;
+	}
+
+	/**
+	 * Persist this state into the given directory, replacing the previous one at once.
+	 */
+	public void write(File directory) throws IOException {
+		if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory())
+			throw new IOException(Messages.bind(Messages.output_notValidAll, directory.getAbsolutePath()));
+		File stateFile = new File(directory, FILE_NAME);
+		File tempFile = File.createTempFile(FILE_NAME, null, directory);
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+				out.writeInt(VERSION);
+				out.writeUTF(this.key);
+				out.writeInt(this.sourceFiles.size());
+				for (SourceFile sourceFile : this.sourceFiles.values()) {
+					out.writeUTF(sourceFile.path);
+					out.writeLong(sourceFile.lastModified);
+					out.writeLong(sourceFile.length);
+					out.writeBoolean(sourceFile.hasErrors);
+					writeStrings(out, sourceFile.classFileNames);
+					writeLongs(out, sourceFile.structuralFingerprints);
+					writeStrings(out, sourceFile.qualifiedReferences);
+					writeStrings(out, sourceFile.simpleNameReferences);
+					writeStrings(out, sourceFile.rootReferences);
+				}
+			}
+			Files.move(tempFile.toPath(), stateFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			tempFile = null;
+		} finally {
+			if (tempFile != null)
+				tempFile.delete();
+		}
+	}
+
+	private static void writeStrings(DataOutputStream out, String[] strings) throws IOException {
+		out.writeInt(strings.length);
+		for (String string : strings)
+			out.writeUTF(string);
+	}
+
+	private static void writeLongs(DataOutputStream out, long[] longs) throws IOException {
+		out.writeInt(longs.length);
+		for (long value : longs)
+			out.writeLong(value);
+	}
+
+	public SourceFile get(String path) {
+		return this.sourceFiles.get(path);
+	}
+
+	public Iterable<SourceFile> sourceFiles() {
+		return this.sourceFiles.values();
+	}
+
+	public void put(SourceFile sourceFile) {
+		this.sourceFiles.put(sourceFile.path, sourceFile);
+	}
+
+	/**
+	 * Record the outcome of the compilation of a source file.
+	 *
+	 * @param path the path of the source file, as recorded in the state
+	 * @param file the source file, to stamp it
+	 * @param result the result of its compilation, including its references
+	 * @param classFileNames the names of the class files generated, separated by '/' and without the .class suffix
+	 * @param structuralFingerprints the structural fingerprints of these class files
+	 */
+	public SourceFile record(String path, File file, CompilationResult result, String[] classFileNames, long[] structuralFingerprints) {
+		SourceFile sourceFile = new SourceFile(path, file.lastModified(), file.length(), result.hasErrors(),
+				classFileNames, structuralFingerprints, toSortedStrings(result.qualifiedReferences), toSortedStrings(result.simpleNameReferences),
+				toSortedStrings(result.rootReferences));
+		put(sourceFile);
+		return sourceFile;
+	}
+
+	private static String[] toSortedStrings(char[][][] compoundNames) {
+		if (compoundNames == null || compoundNames.length == 0)
+			return NO_STRINGS;
+		String[] strings = new String[compoundNames.length];
+		for (int i = 0; i < compoundNames.length; i++)
+			strings[i] = new String(CharOperation.concatWith(compoundNames[i], '/'));
+		Arrays.sort(strings);
+		return strings;
+	}
+
+	private static String[] toSortedStrings(char[][] names) {
+		if (names == null || names.length == 0)
+			return NO_STRINGS;
+		String[] strings = new String[names.length];
+		for (int i = 0; i < names.length; i++)
+			strings[i] = new String(names[i]);
+		Arrays.sort(strings);
+		return strings;
+	}
+
+	/**
+	 * Answer the source files, among the given candidates, which may depend on one of the given class
+	 * files. Only the candidates referring to the simple name of a class file are checked further.
+	 */
+	public static List<SourceFile> dependentsOf(Set<String> classFileNames, Iterable<SourceFile> candidates) {
+		Map<String, List<SourceFile>> bySimpleName = new HashMap<>();
+		List<SourceFile> allCandidates = new ArrayList<>();
+		for (SourceFile candidate : candidates) {
+			for (String simpleName : candidate.simpleNameReferences)
+				bySimpleName.computeIfAbsent(simpleName, k -> new ArrayList<>()).add(candidate);
+			allCandidates.add(candidate);
+		}
+		Set<SourceFile> dependents = new HashSet<>();
+		for (String classFileName : classFileNames) {
+			String simpleName = classFileName.substring(classFileName.lastIndexOf('/') + 1);
+			List<SourceFile> referring;
+			if (CharOperation.equals(simpleName.toCharArray(), TypeConstants.PACKAGE_INFO_NAME)) {
+				referring = allCandidates;
+			} else {
+				int memberIndex = simpleName.indexOf('$');
+				referring = bySimpleName.get(memberIndex > 0 ? simpleName.substring(0, memberIndex) : simpleName);
+				if (referring == null)
+					continue;
+			}
+			for (SourceFile candidate : referring) {
+				if (!dependents.contains(candidate) && candidate.refersTo(classFileName))
+					dependents.add(candidate);
+			}
+		}
+		List<SourceFile> result = new ArrayList<>();
+		for (SourceFile candidate : allCandidates) {
+			if (dependents.contains(candidate))
+				result.add(candidate);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Optional persistent cache of the package names contained in jar files, shared by consecutive
+ * batch compilations. Computing them requires enumerating all the entries of a jar, which is
+ * repeated for every jar of the classpath by each compilation otherwise. The packages which
+ * directly contain class files are recorded as well, to answer
+ * {@link ClasspathJar#hasCompilationUnit(String, String)} without enumerating the entries again.
+ * Only package names are cached: the class files of the jar are still read and decoded by each
+ * compilation.
+ * <p>
+ * Each view of a jar has its own cache file, which records the key of the view (the canonical path
+ * of the jar, and the release for a multi-release jar), and the size and time stamp of the jar:
+ * the cache file is ignored, and rewritten, as soon as one of them does not match anymore.
+ * The cache is enabled by setting the <code>jdt.compiler.jarPackageCache</code> system property to
+ * the directory holding the cache files.
+ * </p>
+ */
+public class JarPackageCache {
+
+	public static final String CACHE_DIRECTORY_PROPERTY = "jdt.compiler.jarPackageCache"; //$NON-NLS-1$
+	private static final int VERSION = 2;
+	private static final String FILE_EXTENSION = ".packages"; //$NON-NLS-1$
+
+	private final File directory;
+
+	private static JarPackageCache instance;
+	static {
+		String directory = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+		instance = directory == null || directory.isEmpty() ? null : new JarPackageCache(new File(directory));
+	}
+
+	/**
+	 * The packages of a jar.
+	 */
+	public static class Packages {
+		public final Set<String> packageNames;
+		public final Set<String> packagesWithClassFiles;
+
+		public Packages(Set<String> packageNames, Set<String> packagesWithClassFiles) {
+			this.packageNames = packageNames;
+			this.packagesWithClassFiles = packagesWithClassFiles;
+		}
+	}
+
+public JarPackageCache(File directory) {
+	this.directory = directory;
+}
+
+/**
+ * Answer the cache configured through the <code>jdt.compiler.jarPackageCache</code> system property,
+ * or null if none.
+ */
+public static JarPackageCache getDefault() {
+	return instance;
+}
+
+/**
+ * Replace the default cache, or disable it with null. For tests only.
+ */
+public static void setDefault(JarPackageCache cache) {
+	instance = cache;
+}
+
+/**
+ * Answer the packages recorded for the given view of a jar, or null if they are unknown or out of date.
+ */
+public Packages read(File jar, String key) {
+	File cacheFile = cacheFile(key);
+	if (cacheFile == null || !cacheFile.isFile())
+		return null;
+	try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+		if (in.readInt() != VERSION
+				|| !key.equals(in.readUTF())
+				|| in.readLong() != jar.length()
+				|| in.readLong() != jar.lastModified())
+			return null;
+		int size = in.readInt();
+		Set<String> packageNames = new HashSet<>(Math.max(41, size * 4 / 3 + 1));
+		Set<String> packagesWithClassFiles = new HashSet<>();
+		for (int i = 0; i < size; i++) {
+			String packageName = in.readUTF();
+			packageNames.add(packageName);
+			if (in.readBoolean())
+				packagesWithClassFiles.add(packageName);
+		}
+		return new Packages(packageNames, packagesWithClassFiles);
+	} catch (IOException e) {
+		return null; // treat a corrupt cache file as missing
+	}
+}
+
+/**
+ * Record the packages of the given view of a jar. Failures are ignored: the cache is only an optimization.
+ */
+public void write(File jar, String key, Packages packages) {
+	File cacheFile = cacheFile(key);
+	if (cacheFile == null)
+		return;
+	File tempFile = null;
+	try {
+		if (!this.directory.isDirectory() && !this.directory.mkdirs() && !this.directory.isDirectory())
+			return;
+		// write to a temporary file first, so that concurrent compilations never read a partial cache file
+		tempFile = File.createTempFile(cacheFile.getName(), null, this.directory);
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+			out.writeInt(VERSION);
+			out.writeUTF(key);
+			out.writeLong(jar.length());
+			out.writeLong(jar.lastModified());
+			out.writeInt(packages.packageNames.size());
+			for (String packageName : packages.packageNames) {
+				out.writeUTF(packageName);
+				out.writeBoolean(packages.packagesWithClassFiles.contains(packageName));
+			}
+		}
+		Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		tempFile = null;
+	} catch (IOException e) {
+		// ignore
+	} finally {
+		if (tempFile != null)
+			tempFile.delete();
+	}
+}
+
+private File cacheFile(String key) {
+	try {
+		byte[] digest = MessageDigest.getInstance("SHA-1").digest(key.getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+		StringBuilder name = new StringBuilder(digest.length * 2 + FILE_EXTENSION.length());
+		for (byte b : digest) {
+			name.append(Character.forDigit((b >> 4) & 0xF, 16));
+			name.append(Character.forDigit(b & 0xF, 16));
+		}
+		return new File(this.directory, name.append(FILE_EXTENSION).toString());
+	} catch (NoSuchAlgorithmException e) {
+		return null;
+	}
+}
+}
@@ -48,11 +48,16 @@ import java.io.PrintWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
+import java.io.Writer;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.DateFormat;
 import java.text.MessageFormat;
 import java.util.ArrayList;
@@ -68,10 +73,12 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.MissingResourceException;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.TreeMap;
 import java.util.function.Function;
 
 import org.eclipse.jdt.core.compiler.CategorizedProblem;
@@ -102,6 +109,7 @@ import org.eclipse.jdt.internal.compiler.env.IModule.IPackageExport;
 import org.eclipse.jdt.internal.compiler.env.IUpdatableModule.UpdateKind;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.impl.CompilerStats;
+import org.eclipse.jdt.internal.compiler.impl.UnitStats;
 import org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment;
 import org.eclipse.jdt.internal.compiler.lookup.ModuleBinding;
 import org.eclipse.jdt.internal.compiler.lookup.PackageBinding;
@@ -1060,6 +1068,70 @@ public class Main implements ProblemSeverities, SuffixConstants {
 								String.valueOf(compilerStats.generateTime),
 								String.valueOf(((int) (compilerStats.generateTime * 1000.0 / time)) / 10.0),
 							}));
+				if (compilerStats.readAheadCount != 0) {
+					printlnOut(
+							this.main.bind("compile.readAhead", //$NON-NLS-1$
+								new String[] {
+									String.valueOf(compilerStats.readAheadCount),
+									String.valueOf(compilerStats.directReadCount),
+									String.valueOf(compilerStats.readWaitCount),
+									String.valueOf(compilerStats.readWaitTime),
+									String.valueOf(compilerStats.maxReadQueueDepth),
+								}));
+				}
+				if (compilerStats.classFileAllocationCount != 0) {
+					printlnOut(
+							this.main.bind("compile.classFilePool", //$NON-NLS-1$
+								String.valueOf(compilerStats.classFileReuseCount),
+								String.valueOf(compilerStats.classFileAllocationCount)));
+				}
+				printlnOut(
+						this.main.bind("compile.lookups", //$NON-NLS-1$
+							String.valueOf(compilerStats.typeLookupCount),
+							String.valueOf(compilerStats.packageLookupCount)));
+				int inferenceCount = compilerStats.inferenceCacheHitCount + compilerStats.inferenceCacheMissCount;
+				if (inferenceCount != 0) {
+					printlnOut(
+							this.main.bind("compile.inferenceCache", //$NON-NLS-1$
+								new String[] {
+									String.valueOf(compilerStats.inferenceCacheHitCount),
+									String.valueOf(inferenceCount),
+									String.valueOf(compilerStats.inferenceTimeSaved / 1000000),
+								}));
+				}
+				int methodLookupCount = compilerStats.methodLookupHitCount + compilerStats.methodLookupMissCount;
+				if (methodLookupCount != 0) {
+					printlnOut(
+							this.main.bind("compile.methodLookups", //$NON-NLS-1$
+								String.valueOf(compilerStats.methodLookupHitCount),
+								String.valueOf(methodLookupCount)));
+				}
+				if (compilerStats.getAllocation(UnitStats.PARSE) >= 0) {
+					printlnOut(
+							this.main.bind("compile.allocation", //$NON-NLS-1$
+								new String[] {
+									String.valueOf(compilerStats.getAllocation(UnitStats.PARSE) / (1024 * 1024)),
+									String.valueOf(compilerStats.getAllocation(UnitStats.RESOLVE) / (1024 * 1024)),
+									String.valueOf(compilerStats.getAllocation(UnitStats.ANALYZE) / (1024 * 1024)),
+									String.valueOf(compilerStats.getAllocation(UnitStats.GENERATE) / (1024 * 1024)),
+								}));
+				}
+				UnitStats[] slowestUnits = compilerStats.getSlowestUnits(SLOWEST_UNITS_COUNT);
+				if (slowestUnits.length != 0) {
+					printlnOut(this.main.bind("compile.slowestUnits", String.valueOf(slowestUnits.length))); //$NON-NLS-1$
+					for (UnitStats unitStats : slowestUnits) {
+						printlnOut(
+								this.main.bind("compile.unitTime", //$NON-NLS-1$
+									new String[] {
+										String.valueOf(unitStats.totalTime() / 1000000),
+										String.valueOf(unitStats.times[UnitStats.PARSE] / 1000000),
+										String.valueOf(unitStats.times[UnitStats.RESOLVE] / 1000000),
+										String.valueOf(unitStats.times[UnitStats.ANALYZE] / 1000000),
+										String.valueOf(unitStats.times[UnitStats.GENERATE] / 1000000),
+										unitStats.fileName,
+									}));
+					}
+				}
 			}
 		}
 
@@ -1242,6 +1314,13 @@ public class Main implements ProblemSeverities, SuffixConstants {
 				compilerStats.startTime = this.main.startTime; // also include batch initialization times
 				compilerStats.endTime = System.currentTimeMillis(); // also include batch output times
 				logTiming(compilerStats);
+				if (this.main.timingFile != null) {
+					try (Writer writer = new OutputStreamWriter(new FileOutputStream(this.main.timingFile), Util.UTF_8)) {
+						compilerStats.writeJSON(writer);
+					} catch (IOException e) {
+						printlnErr(this.main.bind("compile.cannotWriteTimingFile", this.main.timingFile, e.getMessage())); //$NON-NLS-1$
+					}
+				}
 			}
 			if (this.main.globalProblemsCount > 0) {
 				logProblemsSummary(this.main.globalProblemsCount, this.main.globalErrorsCount, this.main.globalWarningsCount,
@@ -1423,6 +1502,15 @@ public class Main implements ProblemSeverities, SuffixConstants {
 	private boolean didSpecifyTarget;
 	public String[] encodings;
 	public int exportedClassFilesCounter;
+	// directory of the state of incremental compilations, null to compile all the given source files
+	public String incrementalStateDirectory;
+	// state recorded by the current incremental compilation, and the class files whose structure changed
+	private IncrementalState incrementalState, previousIncrementalState;
+	private Set<String> incrementalPaths, structurallyChangedClassFiles;
+	// writes the class files, created on demand and closed at the end of each compilation
+	protected ClassFileSink classFileSink;
+	// number of threads writing the class files, 0 to write them while accepting the results
+	public int outputWriters;
 	public String[] filenames;
 	public String[] modNames;
 	public String[] classNames;
@@ -1463,6 +1551,10 @@ public class Main implements ProblemSeverities, SuffixConstants {
 
 	public int timing = TIMING_DISABLED;
 	public CompilerStats[] compilerStats;
+	/** file receiving the compilation statistics, including those of each unit, as JSON (see -time:json) */
+	public String timingFile;
+	/** number of slowest units listed with detailed timing */
+	private static final int SLOWEST_UNITS_COUNT = 10;
 	public boolean verbose = false;
 	private String[] expandedCommandLine;
 
@@ -1772,6 +1864,27 @@ private boolean checkVMVersion(long minimalSupportedVersion) {
 	}
 	return ClassFileConstants.getComplianceLevelForJavaVersion(majorVersion) >=minimalSupportedVersion;
 }
+/*
+ * Answer the sink the class files are written to, created on first use
+ */
+protected ClassFileSink getClassFileSink() {
+	if (this.classFileSink == null)
+		this.classFileSink = new ClassFileSink(this.outputWriters);
+	return this.classFileSink;
+}
+/*
+ * Wait until all class files are written, reporting those which could not be
+ */
+protected void closeClassFileSink() {
+	if (this.classFileSink == null)
+		return;
+	List<ClassFileSink.Failure> failures = this.classFileSink.close();
+	this.classFileSink = null;
+	for (ClassFileSink.Failure failure : failures) {
+		this.logger.logNoClassFileCreated(failure.outputPath, failure.relativeFileName, failure.exception);
+		this.exportedClassFilesCounter--;
+	}
+}
 /*
  *  Low-level API performing the actual compilation
  */
@@ -1877,6 +1990,8 @@ public void configure(String[] argv) {
 	final int INSIDE_RELEASE = 30;
 	final int INSIDE_LIMIT_MODULES = 31;
 	final int INSIDE_MODULE_VERSION = 32;
+	final int INSIDE_TIMING_FILE = 33;
+	final int INSIDE_INCREMENTAL = 34;
 
 	final int DEFAULT = 0;
 	ArrayList<String> bootclasspaths = new ArrayList<>(DEFAULT_SIZE_CLASSPATH);
@@ -2078,6 +2193,13 @@ public void configure(String[] argv) {
 					mode = INSIDE_LOG;
 					continue;
 				}
+				if (currentArg.equals("-incremental")) { //$NON-NLS-1$
+					if (this.incrementalStateDirectory != null)
+						throw new IllegalArgumentException(
+							this.bind("configure.duplicateIncremental", currentArg)); //$NON-NLS-1$
+					mode = INSIDE_INCREMENTAL;
+					continue;
+				}
 				if (currentArg.equals("-repeat")) { //$NON-NLS-1$
 					if (this.maxRepetition > 0)
 						throw new IllegalArgumentException(
@@ -2271,6 +2393,11 @@ public void configure(String[] argv) {
 					this.timing = TIMING_ENABLED|TIMING_DETAILED;
 					continue;
 				}
+				if (currentArg.equals("-time:json")) { //$NON-NLS-1$
+					mode = INSIDE_TIMING_FILE;
+					this.timing = TIMING_ENABLED|TIMING_DETAILED;
+					continue;
+				}
 				if (currentArg.equals("-version") //$NON-NLS-1$
 						|| currentArg.equals("-v")) { //$NON-NLS-1$
 					this.logger.logVersion(true);
@@ -2674,6 +2801,14 @@ public void configure(String[] argv) {
 				this.log = currentArg;
 				mode = DEFAULT;
 				continue;
+			case INSIDE_TIMING_FILE :
+				this.timingFile = currentArg;
+				mode = DEFAULT;
+				continue;
+			case INSIDE_INCREMENTAL :
+				this.incrementalStateDirectory = currentArg;
+				mode = DEFAULT;
+				continue;
 			case INSIDE_REPETITION :
 				try {
 					this.maxRepetition = Integer.parseInt(currentArg);
@@ -3060,6 +3195,14 @@ public void configure(String[] argv) {
 			&& CompilerOptions.versionToJdkLevel(this.options.get(CompilerOptions.OPTION_Compliance)) >= ClassFileConstants.JDK1_6) {
 		this.options.put(CompilerOptions.OPTION_Process_Annotations, CompilerOptions.ENABLED);
 	}
+	if (this.incrementalStateDirectory != null) {
+		// the class files of the source files which are not compiled again are looked up in the destination directory
+		if (this.destinationPath == null || this.destinationPath == NONE || ClassFileSink.isArchive(this.destinationPath)
+				|| this.destinationPaths != null && Arrays.stream(this.destinationPaths).anyMatch(Objects::nonNull))
+			throw new IllegalArgumentException(this.bind("configure.incrementalDestination")); //$NON-NLS-1$
+		if (CompilerOptions.ENABLED.equals(this.options.get(CompilerOptions.OPTION_Process_Annotations)))
+			throw new IllegalArgumentException(this.bind("configure.incrementalAnnotationProcessing")); //$NON-NLS-1$
+	}
 
 	this.logger.logCommandLineArguments(newCommandLineArgs);
 	this.logger.logOptions(this.options);
@@ -4679,6 +4822,8 @@ private static boolean isParentOf(char[] folderName, char[] fileName) {
 // Dump classfiles onto disk for all compilation units that where successful
 // and do not carry a -d none spec, either directly or inherited from Main.
 public void outputClassFiles(CompilationResult unitResult) {
+	// record the result before the class files are released, the units it does not record are checked on disk
+	boolean checkStructuralChanges = this.incrementalState != null && unitResult != null && !recordIncrementalResult(unitResult);
 	if (!((unitResult == null) || (unitResult.hasErrors() && !this.proceedOnError))) {
 		ClassFile[] classFiles = unitResult.getClassFiles();
 		String currentDestinationPath = null;
@@ -4706,6 +4851,8 @@ public void outputClassFiles(CompilationResult unitResult) {
 				char[] relativeName = new char[length + 6];
 				System.arraycopy(filename, 0, relativeName, 0, length);
 				System.arraycopy(SuffixConstants.SUFFIX_class, 0, relativeName, length, 6);
+				if (checkStructuralChanges)
+					checkStructuralChanges(currentDestinationPath, new String(filename), classFile);
 				CharOperation.replace(relativeName, '/', File.separatorChar);
 				String relativeStringName = new String(relativeName);
 				try {
@@ -4717,9 +4864,9 @@ public void outputClassFiles(CompilationResult unitResult) {
 									String.valueOf(this.exportedClassFilesCounter+1),
 									relativeStringName
 								}));
-					Util.writeToDisk(
-						generateClasspathStructure,
+					getClassFileSink().write(
 						currentDestinationPath,
+						generateClasspathStructure,
 						relativeStringName,
 						classFile);
 					this.logger.logClassFile(
@@ -4735,6 +4882,186 @@ public void outputClassFiles(CompilationResult unitResult) {
 		}
 	}
 }
+/*
+ * Record the class file as structurally changed if its structure differs from the one it replaces,
+ * or if it is a new top level type, as the IDE builder does. Used for the class files which have no
+ * fingerprint recorded by the previous incremental state, such as those of the units found on the
+ * source path.
+ */
+private void checkStructuralChanges(String destinationPath, String fileName, ClassFile classFile) {
+	File file = new File(destinationPath, fileName + SuffixConstants.SUFFIX_STRING_class);
+	if (!file.isFile()) {
+		if (!classFile.isNestedType)
+			this.structurallyChangedClassFiles.add(fileName);
+		return;
+	}
+	try {
+		byte[] newBytes = classFile.getBytes();
+		byte[] oldBytes = Files.readAllBytes(file.toPath());
+		if (Arrays.equals(oldBytes, newBytes))
+			return;
+		ClassFileReader reader = new ClassFileReader(oldBytes, file.getPath().toCharArray());
+		// ignore local types since they're only visible inside a single method
+		if (!(reader.isLocal() || reader.isAnonymous()) && reader.hasStructuralChanges(newBytes))
+			this.structurallyChangedClassFiles.add(fileName);
+	} catch (IOException | ClassFormatException e) {
+		this.structurallyChangedClassFiles.add(fileName);
+	}
+}
+/*
+ * Record the outcome of the compilation of one of the given source files in the incremental state,
+ * deleting the class files it no longer produces, and checking the structure of those it produces
+ * against the fingerprints recorded for the class files they replace. Answer false for the other units.
+ */
+private boolean recordIncrementalResult(CompilationResult unitResult) {
+	String path = new File(new String(unitResult.getFileName())).getAbsolutePath();
+	if (!this.incrementalPaths.contains(path))
+		return false; // a unit found on the source path, or generated
+	IncrementalState.SourceFile previous = this.previousIncrementalState == null ? null : this.previousIncrementalState.get(path);
+	String[] previousClassFileNames = previous == null ? CharOperation.NO_STRINGS : previous.classFileNames;
+	String[] classFileNames;
+	long[] structuralFingerprints;
+	if (unitResult.hasErrors() && !this.proceedOnError) {
+		// no class file was written, those of the previous compilation are left as they were
+		classFileNames = previousClassFileNames;
+		structuralFingerprints = previous == null ? new long[0] : previous.structuralFingerprints;
+		this.structurallyChangedClassFiles.addAll(Arrays.asList(previousClassFileNames));
+	} else {
+		ClassFile[] classFiles = unitResult.getClassFiles();
+		classFileNames = new String[classFiles.length];
+		structuralFingerprints = new long[classFiles.length];
+		for (int i = 0; i < classFiles.length; i++) {
+			ClassFile classFile = classFiles[i];
+			String classFileName = classFileNames[i] = new String(classFile.fileName());
+			// ignore local types since they're only visible inside a single method
+			if (classFile.referenceBinding != null && classFile.referenceBinding.isLocalType())
+				continue;
+			try {
+				structuralFingerprints[i] = classFile.getStructuralFingerprint();
+			} catch (ClassFormatException e) {
+				this.structurallyChangedClassFiles.add(classFileName);
+				continue;
+			}
+			int previousIndex = previous == null ? -1 : previous.indexOf(classFileName);
+			if (previousIndex == -1)
+				checkStructuralChanges(this.destinationPath, classFileName, classFile); // a new type, or one moved from another unit
+			else if (previous.structuralFingerprints[previousIndex] != structuralFingerprints[i])
+				this.structurallyChangedClassFiles.add(classFileName);
+		}
+		Set<String> produced = new HashSet<>(Arrays.asList(classFileNames));
+		for (String previousClassFileName : previousClassFileNames) {
+			if (!produced.contains(previousClassFileName)) {
+				new File(this.destinationPath, previousClassFileName + SuffixConstants.SUFFIX_STRING_class).delete();
+				this.structurallyChangedClassFiles.add(previousClassFileName);
+			}
+		}
+	}
+	this.incrementalState.record(path, new File(path), unitResult, classFileNames, structuralFingerprints);
+	return true;
+}
+/*
+ * Compile the given source files which changed since the incremental state was recorded, then those
+ * depending on the types whose structure changed, round after round
+ */
+protected void compileIncrementally(FileSystem environment) {
+	File stateDirectory = new File(this.incrementalStateDirectory);
+	String key = getIncrementalStateKey();
+	this.previousIncrementalState = IncrementalState.read(stateDirectory, key);
+	this.incrementalState = new IncrementalState(key);
+	this.incrementalPaths = new HashSet<>();
+	this.structurallyChangedClassFiles = new HashSet<>();
+	try {
+		Map<String, CompilationUnit> pendingUnits = new HashMap<>(); // unchanged source files, not compiled yet
+		List<CompilationUnit> round = new ArrayList<>();
+		for (CompilationUnit unit : getCompilationUnits()) {
+			String path = new File(new String(unit.getFileName())).getAbsolutePath();
+			this.incrementalPaths.add(path);
+			IncrementalState.SourceFile previous = this.previousIncrementalState == null ? null : this.previousIncrementalState.get(path);
+			if (previous != null && previous.isUnchanged(new File(path)) && classFilesExist(previous.classFileNames)) {
+				this.incrementalState.put(previous);
+				pendingUnits.put(path, unit);
+			} else {
+				round.add(unit);
+			}
+		}
+		if (this.previousIncrementalState != null) {
+			for (IncrementalState.SourceFile removed : this.previousIncrementalState.sourceFiles()) {
+				if (this.incrementalPaths.contains(removed.path))
+					continue;
+				for (String classFileName : removed.classFileNames) {
+					new File(this.destinationPath, classFileName + SuffixConstants.SUFFIX_STRING_class).delete();
+					this.structurallyChangedClassFiles.add(classFileName);
+				}
+			}
+		}
+		while (true) {
+			if (!this.structurallyChangedClassFiles.isEmpty() && !pendingUnits.isEmpty()) {
+				List<IncrementalState.SourceFile> candidates = new ArrayList<>(pendingUnits.size());
+				for (String path : pendingUnits.keySet())
+					candidates.add(this.incrementalState.get(path));
+				for (IncrementalState.SourceFile dependent : IncrementalState.dependentsOf(this.structurallyChangedClassFiles, candidates))
+					round.add(pendingUnits.remove(dependent.path));
+			}
+			this.structurallyChangedClassFiles.clear();
+			if (round.isEmpty())
+				break;
+			String[] roundFileNames = new String[round.size()];
+			for (int i = 0; i < roundFileNames.length; i++)
+				roundFileNames[i] = new String(round.get(i).getFileName());
+			// the class files written by the previous round are now found on the classpath, instead of the sources of this round
+			environment.setInitialFileNames(roundFileNames);
+			environment.cleanup();
+			this.batchCompiler.compile(round.toArray(new CompilationUnit[round.size()]));
+			closeClassFileSink();
+			round.clear();
+		}
+		try {
+			this.incrementalState.write(stateDirectory);
+		} catch (IOException e) {
+			this.logger.logWarning(this.bind("compile.cannotWriteIncrementalState", stateDirectory.getPath(), e.getMessage())); //$NON-NLS-1$
+		}
+	} finally {
+		this.incrementalState = null;
+		this.previousIncrementalState = null;
+		this.incrementalPaths = null;
+		this.structurallyChangedClassFiles = null;
+	}
+}
+private boolean classFilesExist(String[] classFileNames) {
+	for (String classFileName : classFileNames) {
+		if (!new File(this.destinationPath, classFileName + SuffixConstants.SUFFIX_STRING_class).isFile())
+			return false;
+	}
+	return true;
+}
+/*
+ * Answer the key of the options, classpath and destination of this compilation, which must match the
+ * one recorded by the incremental state for the state to be used
+ */
+private String getIncrementalStateKey() {
+	StringBuilder key = new StringBuilder();
+	for (Map.Entry<String, String> option : new TreeMap<>(this.options).entrySet())
+		key.append(option.getKey()).append('=').append(option.getValue()).append('\n');
+	for (Classpath classpath : this.checkedClasspaths) {
+		File file = new File(classpath.getPath());
+		key.append(classpath.getPath());
+		if (file.isFile())
+			key.append(':').append(file.lastModified()).append(':').append(file.length());
+		key.append('\n');
+	}
+	key.append(new File(this.destinationPath).getAbsolutePath()).append('\n').append(this.releaseVersion);
+	try {
+		byte[] digest = MessageDigest.getInstance("SHA-1").digest(key.toString().getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+		StringBuilder hex = new StringBuilder(digest.length * 2);
+		for (byte b : digest) {
+			hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+			hex.append(Character.forDigit(b & 0xF, 16));
+		}
+		return hex.toString();
+	} catch (NoSuchAlgorithmException e) {
+		return key.toString();
+	}
+}
 /*
  *  Low-level API performing the actual compilation
  */
@@ -4759,6 +5086,11 @@ public void performCompilation() {
 		// temporary code to allow the compiler to revert to a single thread
 		String setting = System.getProperty("jdt.compiler.useSingleThread"); //$NON-NLS-1$
 		this.batchCompiler.useSingleThread = setting != null && setting.equals("true"); //$NON-NLS-1$
+		this.batchCompiler.parseThreads = Integer.getInteger("jdt.compiler.parseThreads", 0).intValue(); //$NON-NLS-1$
+		this.batchCompiler.readThreads = Integer.getInteger("jdt.compiler.readThreads", 0).intValue(); //$NON-NLS-1$
+		this.outputWriters = Integer.getInteger("jdt.compiler.outputWriters", 0).intValue(); //$NON-NLS-1$
+		if ((this.timing & TIMING_DETAILED) != 0)
+			this.batchCompiler.stats.recordUnits();
 
 		if (this.compilerOptions.complianceLevel >= ClassFileConstants.JDK1_6
 				&& this.compilerOptions.processAnnotations) {
@@ -4781,8 +5113,14 @@ public void performCompilation() {
 		this.compilerOptions.produceReferenceInfo = this.produceRefInfo;
 		try {
 			this.logger.startLoggingSources();
-			this.batchCompiler.compile(getCompilationUnits());
+			if (this.incrementalStateDirectory != null) {
+				this.compilerOptions.produceReferenceInfo = true;
+				compileIncrementally(environment);
+			} else {
+				this.batchCompiler.compile(getCompilationUnits());
+			}
 		} finally {
+			closeClassFileSink();
 			this.logger.endLoggingSources();
 		}
 
@@ -5303,6 +5641,13 @@ protected void setPaths(ArrayList<String> bootclasspaths,
 	 */
 	allPaths.addAll(0, endorsed);
 	allPaths.addAll(extdirs);
+	if (this.incrementalStateDirectory != null) {
+		File destination = new File(this.destinationPath);
+		destination.mkdirs();
+		Classpath classpath = FileSystem.getClasspath(destination.getAbsolutePath(), customEncoding, null, this.options, this.releaseVersion);
+		if (classpath != null)
+			allPaths.add(classpath);
+	}
 	allPaths.addAll(sourcepaths);
 	allPaths.addAll(cp);
 	allPaths.addAll(mp);
@@ -990,6 +990,18 @@ private boolean hasNonSyntheticMethodChanges(MethodInfo[] currentMethodInfos, Me
 	return false;
 }
 
+/**
+ * Answer a hash of the structure of the receiver, made of what {@link #hasStructuralChanges(byte[])}
+ * compares. Two class files with different fingerprints may have structural changes, two class files
+ * with the same fingerprint have none but for hash collisions, so that a class file can be checked
+ * against the fingerprint recorded for the one it replaces, without reading the latter again.
+ *
+ * @return long the structural fingerprint of the receiver
+ */
+public long getStructuralFingerprint() {
+	return StructuralFingerprint.of(this, this.version >= ClassFileConstants.JDK1_8);
+}
+
 /**
  * Check if the receiver has structural changes compare to the byte array in argument.
  * Structural changes are:
@@ -1354,7 +1366,7 @@ private boolean hasStructuralTypeAnnotationChanges(IBinaryTypeAnnotation[] curre
 	return false;
 }
 
-private boolean affectsSignature(IBinaryTypeAnnotation typeAnnotation) {
+static boolean affectsSignature(IBinaryTypeAnnotation typeAnnotation) {
 	if (typeAnnotation == null) return false;
 	int targetType = typeAnnotation.getTargetType();
 	if (targetType >= AnnotationTargetTypeConstants.LOCAL_VARIABLE && targetType <= AnnotationTargetTypeConstants.METHOD_REFERENCE_TYPE_ARGUMENT)
@@ -0,0 +1,279 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.classfmt;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.internal.compiler.env.ClassSignature;
+import org.eclipse.jdt.internal.compiler.env.EnumConstantSignature;
+import org.eclipse.jdt.internal.compiler.env.IBinaryAnnotation;
+import org.eclipse.jdt.internal.compiler.env.IBinaryElementValuePair;
+import org.eclipse.jdt.internal.compiler.env.IBinaryNestedType;
+import org.eclipse.jdt.internal.compiler.env.IBinaryTypeAnnotation;
+import org.eclipse.jdt.internal.compiler.impl.Constant;
+import org.eclipse.jdt.internal.compiler.lookup.TagBits;
+import org.eclipse.jdt.internal.compiler.lookup.TypeIds;
+
+/**
+ * Computes the hash of the structure of a class file, made of what
+ * {@link ClassFileReader#hasStructuralChanges(byte[])} compares: the modifiers, structural tag bits,
+ * annotations, signatures and supertypes of the type, its member types, and the modifiers, annotations,
+ * signatures, constants and thrown exceptions of its non synthetic fields and methods, taken in sorted
+ * order. The hash is a 64-bit FNV-1a of these elements, each prefixed by its length when it varies.
+ */
+final class StructuralFingerprint {
+
+	private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long PRIME = 0x100000001b3L;
+
+	// same as in ClassFileReader#hasStructuralChanges(byte[], boolean, boolean)
+	private static final long STRUCTURAL_TAG_BITS = TagBits.AnnotationTargetMASK
+		| TagBits.AnnotationDeprecated
+		| TagBits.AnnotationRetentionMASK
+		| TagBits.HierarchyHasProblems;
+
+	private final boolean hasTypeAnnotations;
+	private long hash = OFFSET_BASIS;
+
+	private StructuralFingerprint(boolean hasTypeAnnotations) {
+		this.hasTypeAnnotations = hasTypeAnnotations;
+	}
+
+	static long of(ClassFileReader reader, boolean hasTypeAnnotations) {
+		StructuralFingerprint fingerprint = new StructuralFingerprint(hasTypeAnnotations);
+		fingerprint.addType(reader);
+		return fingerprint.hash;
+	}
+
+	private void addType(ClassFileReader reader) {
+		add(reader.getModifiers());
+		add(reader.getTagBits() & STRUCTURAL_TAG_BITS);
+		add(reader.getAnnotations());
+		addTypeAnnotations(reader.getTypeAnnotations());
+		add(reader.getGenericSignature());
+		add(reader.getSuperclassName());
+		add(reader.getInterfaceNames());
+		add(reader.getPermittedSubtypeNames());
+
+		IBinaryNestedType[] memberTypes = reader.getMemberTypes();
+		int length = memberTypes == null ? 0 : memberTypes.length;
+		add(length);
+		for (int i = 0; i < length; i++) {
+			add(memberTypes[i].getName());
+			add(memberTypes[i].getModifiers());
+		}
+
+		FieldInfo[] fields = (FieldInfo[]) reader.getFields();
+		if (fields != null) {
+			fields = fields.clone();
+			Arrays.sort(fields);
+			for (FieldInfo field : fields) {
+				if (!field.isSynthetic())
+					addField(field);
+			}
+		}
+		add(-1); // end of the fields
+
+		MethodInfo[] methods = (MethodInfo[]) reader.getMethods();
+		if (methods != null) {
+			methods = methods.clone();
+			Arrays.sort(methods);
+			char[] fileName = reader.getFileName();
+			for (MethodInfo method : methods) {
+				if (!method.isSynthetic() && !method.isClinit())
+					addMethod(method, fileName);
+			}
+		}
+		add(-1); // end of the methods
+
+		char[][][] missingTypes = reader.getMissingTypeNames();
+		length = missingTypes == null ? 0 : missingTypes.length;
+		add(length);
+		for (int i = 0; i < length; i++)
+			add(missingTypes[i]);
+	}
+
+	private void addField(FieldInfo field) {
+		add(field.getName());
+		add(field.getTypeName());
+		add(field.getGenericSignature());
+		add(field.getModifiers());
+		add(field.getTagBits() & TagBits.AnnotationDeprecated);
+		add(field.getAnnotations());
+		addTypeAnnotations(field.getTypeAnnotations());
+		if (field.hasConstant()) {
+			add(true);
+			add(field.getConstant());
+		} else {
+			add(false);
+		}
+	}
+
+	private void addMethod(MethodInfo method, char[] fileName) {
+		add(method.getSelector());
+		add(method.getMethodDescriptor());
+		add(method.getGenericSignature());
+		add(method.getModifiers());
+		add(method.getTagBits() & TagBits.AnnotationDeprecated);
+		add(method.getAnnotations());
+		int annotatedParametersCount = method.getAnnotatedParametersCount();
+		add(annotatedParametersCount);
+		for (int i = 0; i < annotatedParametersCount; i++)
+			add(method.getParameterAnnotations(i, fileName));
+		addTypeAnnotations(method.getTypeAnnotations());
+		add(method.getExceptionTypeNames());
+	}
+
+	private void add(IBinaryAnnotation[] annotations) {
+		int length = annotations == null ? 0 : annotations.length;
+		add(length);
+		for (int i = 0; i < length; i++)
+			add(annotations[i]);
+	}
+
+	private void add(IBinaryAnnotation annotation) {
+		add(annotation.getTypeName());
+		IBinaryElementValuePair[] pairs = annotation.getElementValuePairs();
+		int length = pairs == null ? 0 : pairs.length;
+		add(length);
+		for (int i = 0; i < length; i++) {
+			add(pairs[i].getName());
+			addValue(pairs[i].getValue());
+		}
+	}
+
+	private void addValue(Object value) {
+		if (value instanceof Constant) {
+			add(1);
+			add((Constant) value);
+		} else if (value instanceof ClassSignature) {
+			add(2);
+			add(((ClassSignature) value).getTypeName());
+		} else if (value instanceof EnumConstantSignature) {
+			add(3);
+			add(((EnumConstantSignature) value).getTypeName());
+			add(((EnumConstantSignature) value).getEnumConstantName());
+		} else if (value instanceof IBinaryAnnotation) {
+			add(4);
+			add((IBinaryAnnotation) value);
+		} else if (value instanceof Object[]) {
+			Object[] values = (Object[]) value;
+			add(5);
+			add(values.length);
+			for (Object element : values)
+				addValue(element);
+		} else {
+			add(0);
+		}
+	}
+
+	/*
+	 * The type annotations which affect the signatures are compared regardless of their order,
+	 * hence the sum of their separate hashes
+	 */
+	private void addTypeAnnotations(IBinaryTypeAnnotation[] typeAnnotations) {
+		if (!this.hasTypeAnnotations)
+			return;
+		long sum = 0;
+		int count = 0;
+		if (typeAnnotations != null) {
+			for (IBinaryTypeAnnotation typeAnnotation : typeAnnotations) {
+				if (!ClassFileReader.affectsSignature(typeAnnotation))
+					continue;
+				StructuralFingerprint annotationFingerprint = new StructuralFingerprint(false);
+				annotationFingerprint.add(typeAnnotation.getTargetType());
+				annotationFingerprint.add(typeAnnotation.getAnnotation());
+				sum += annotationFingerprint.hash;
+				count++;
+			}
+		}
+		add(count);
+		add(sum);
+	}
+
+	private void add(Constant constant) {
+		add(constant.typeID());
+		switch (constant.typeID()) {
+			case TypeIds.T_float :
+				add(Float.floatToIntBits(constant.floatValue()));
+				break;
+			case TypeIds.T_double :
+				add(Double.doubleToLongBits(constant.doubleValue()));
+				break;
+			case TypeIds.T_boolean :
+				add(constant.booleanValue());
+				break;
+			case TypeIds.T_JavaLangString :
+				add(constant.stringValue());
+				break;
+			case TypeIds.T_int :
+			case TypeIds.T_byte :
+			case TypeIds.T_short :
+			case TypeIds.T_char :
+			case TypeIds.T_long :
+				add(constant.longValue());
+				break;
+			default :
+				add(0);
+		}
+	}
+
+	private void add(char[][][] names) {
+		int length = names == null ? 0 : names.length;
+		add(length);
+		for (int i = 0; i < length; i++)
+			add(names[i]);
+	}
+
+	private void add(char[][] names) {
+		int length = names == null ? 0 : names.length;
+		add(length);
+		for (int i = 0; i < length; i++)
+			add(names[i]);
+	}
+
+	private void add(char[] name) {
+		if (name == null) {
+			add(-1);
+			return;
+		}
+		add(name.length);
+		for (char c : name)
+			mix(c);
+	}
+
+	private void add(String string) {
+		add(string.length());
+		for (int i = 0, length = string.length(); i < length; i++)
+			mix(string.charAt(i));
+	}
+
+	private void add(boolean value) {
+		mix(value ? 1 : 0);
+	}
+
+	private void add(long value) {
+		add((int) (value >>> 32));
+		add((int) value);
+	}
+
+	private void add(int value) {
+		mix(value >>> 16);
+		mix(value & 0xFFFF);
+	}
+
+	private void mix(int value) {
+		this.hash = (this.hash ^ value) * PRIME;
+	}
+}
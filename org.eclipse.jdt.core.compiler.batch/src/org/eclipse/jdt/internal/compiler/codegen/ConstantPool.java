@@ -66,6 +66,16 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	public int[] offsets;
 
 	public ClassFile classFile;
+
+	// the nested tables and entries of the caches released by reset(), reused by the next class files
+	// generated with this constant pool (see ClassFilePool)
+	public static final int MAX_RECYCLED_TABLES = 256;
+	private HashtableOfObject[] recycledTables;
+	private int recycledTableCount;
+	private CharArrayCache[] recycledCaches;
+	private int recycledCacheCount;
+	private CachedIndexEntry[] recycledEntries;
+	private int recycledEntryCount;
 	public static final char[] Append = "append".toCharArray(); //$NON-NLS-1$
 	public static final char[] ARRAY_NEWINSTANCE_NAME = "newInstance".toCharArray(); //$NON-NLS-1$
 	public static final char[] ARRAY_NEWINSTANCE_SIGNATURE = "(Ljava/lang/Class;[I)Ljava/lang/Object;".toCharArray(); //$NON-NLS-1$
@@ -1110,7 +1120,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 		int index ;
 		Object key1Value = this.nameAndTypeCacheForFieldsAndMethods.get(key1);
 		if (key1Value == null) {
-			CachedIndexEntry cachedIndexEntry = new CachedIndexEntry(key2, value);
+			CachedIndexEntry cachedIndexEntry = newCachedIndexEntry(key2, value);
 			index = -value;
 			this.nameAndTypeCacheForFieldsAndMethods.put(key1, cachedIndexEntry);
 		} else if (key1Value instanceof CachedIndexEntry) {
@@ -1119,7 +1129,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 			if (CharOperation.equals(key2, entry.signature)) {
 				index = entry.index;
 			} else {
-				CharArrayCache charArrayCache = new CharArrayCache();
+				CharArrayCache charArrayCache = newCharArrayCache();
 				charArrayCache.putIfAbsent(entry.signature, entry.index);
 				index = charArrayCache.putIfAbsent(key2, value);
 				this.nameAndTypeCacheForFieldsAndMethods.put(key1, charArrayCache);
@@ -1141,15 +1151,15 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 		int index;
 		HashtableOfObject key1Value = (HashtableOfObject) this.dynamicCache.get(bootstrapIndex);
 		if (key1Value == null) {
-			key1Value = new HashtableOfObject();
+			key1Value = newHashtableOfObject();
 			this.dynamicCache.put(bootstrapIndex, key1Value);
-			CachedIndexEntry cachedIndexEntry = new CachedIndexEntry(descriptor, value);
+			CachedIndexEntry cachedIndexEntry = newCachedIndexEntry(descriptor, value);
 			index = -value;
 			key1Value.put(selector, cachedIndexEntry);
 		} else {
 			Object key2Value = key1Value.get(selector);
 			if (key2Value == null) {
-				CachedIndexEntry cachedIndexEntry = new CachedIndexEntry(descriptor, value);
+				CachedIndexEntry cachedIndexEntry = newCachedIndexEntry(descriptor, value);
 				index = -value;
 				key1Value.put(selector, cachedIndexEntry);
 			} else if (key2Value instanceof CachedIndexEntry) {
@@ -1158,7 +1168,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 				if (CharOperation.equals(descriptor, entry.signature)) {
 					index = entry.index;
 				} else {
-					CharArrayCache charArrayCache = new CharArrayCache();
+					CharArrayCache charArrayCache = newCharArrayCache();
 					charArrayCache.putIfAbsent(entry.signature, entry.index);
 					index = charArrayCache.putIfAbsent(descriptor, value);
 					key1Value.put(selector, charArrayCache);
@@ -1182,15 +1192,15 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 		int index;
 		HashtableOfObject key1Value = (HashtableOfObject) this.methodsAndFieldsCache.get(key1);
 		if (key1Value == null) {
-			key1Value = new HashtableOfObject();
+			key1Value = newHashtableOfObject();
 			this.methodsAndFieldsCache.put(key1, key1Value);
-			CachedIndexEntry cachedIndexEntry = new CachedIndexEntry(key3, value);
+			CachedIndexEntry cachedIndexEntry = newCachedIndexEntry(key3, value);
 			index = -value;
 			key1Value.put(key2, cachedIndexEntry);
 		} else {
 			Object key2Value = key1Value.get(key2);
 			if (key2Value == null) {
-				CachedIndexEntry cachedIndexEntry = new CachedIndexEntry(key3, value);
+				CachedIndexEntry cachedIndexEntry = newCachedIndexEntry(key3, value);
 				index = -value;
 				key1Value.put(key2, cachedIndexEntry);
 			} else if (key2Value instanceof CachedIndexEntry) {
@@ -1199,7 +1209,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 				if (CharOperation.equals(key3, entry.signature)) {
 					index = entry.index;
 				} else {
-					CharArrayCache charArrayCache = new CharArrayCache();
+					CharArrayCache charArrayCache = newCharArrayCache();
 					charArrayCache.putIfAbsent(entry.signature, entry.index);
 					index = charArrayCache.putIfAbsent(key3, value);
 					key1Value.put(key2, charArrayCache);
@@ -1265,6 +1275,9 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 		this.poolContent[this.currentOffset++] = (byte) value;
 	}
 	public void reset() {
+		recycleTables(this.methodsAndFieldsCache.valueTable);
+		recycleEntries(this.nameAndTypeCacheForFieldsAndMethods.valueTable);
+		recycleTables(this.dynamicCache.valueTable);
 		if (this.doubleCache != null) this.doubleCache.clear();
 		if (this.floatCache != null) this.floatCache.clear();
 		if (this.intCache != null) this.intCache.clear();
@@ -1280,4 +1293,75 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 		this.currentIndex = 1;
 		this.currentOffset = 0;
 	}
+	/*
+	 * Clear the nested tables of a cache, and keep them for the next class files. The values of
+	 * the nested tables are CachedIndexEntry or CharArrayCache, see putInCacheIfAbsent().
+	 */
+	private void recycleTables(Object[] tables) {
+		for (Object table : tables) {
+			if (table == null)
+				continue;
+			HashtableOfObject hashtable = (HashtableOfObject) table;
+			recycleEntries(hashtable.valueTable);
+			hashtable.clear();
+			if (this.recycledTables == null) {
+				this.recycledTables = new HashtableOfObject[16];
+			} else if (this.recycledTableCount == this.recycledTables.length) {
+				if (this.recycledTableCount == MAX_RECYCLED_TABLES)
+					continue;
+				System.arraycopy(this.recycledTables, 0, this.recycledTables = new HashtableOfObject[this.recycledTableCount * 2], 0, this.recycledTableCount);
+			}
+			this.recycledTables[this.recycledTableCount++] = hashtable;
+		}
+	}
+	private void recycleEntries(Object[] entries) {
+		for (Object entry : entries) {
+			if (entry instanceof CachedIndexEntry) {
+				CachedIndexEntry cachedIndexEntry = (CachedIndexEntry) entry;
+				cachedIndexEntry.signature = null;
+				if (this.recycledEntries == null) {
+					this.recycledEntries = new CachedIndexEntry[64];
+				} else if (this.recycledEntryCount == this.recycledEntries.length) {
+					if (this.recycledEntryCount == MAX_RECYCLED_TABLES * 4)
+						continue;
+					System.arraycopy(this.recycledEntries, 0, this.recycledEntries = new CachedIndexEntry[this.recycledEntryCount * 2], 0, this.recycledEntryCount);
+				}
+				this.recycledEntries[this.recycledEntryCount++] = cachedIndexEntry;
+			} else if (entry instanceof CharArrayCache) {
+				CharArrayCache charArrayCache = (CharArrayCache) entry;
+				charArrayCache.clear();
+				if (this.recycledCaches == null) {
+					this.recycledCaches = new CharArrayCache[16];
+				} else if (this.recycledCacheCount == this.recycledCaches.length) {
+					if (this.recycledCacheCount == MAX_RECYCLED_TABLES)
+						continue;
+					System.arraycopy(this.recycledCaches, 0, this.recycledCaches = new CharArrayCache[this.recycledCacheCount * 2], 0, this.recycledCacheCount);
+				}
+				this.recycledCaches[this.recycledCacheCount++] = charArrayCache;
+			}
+		}
+	}
+	private HashtableOfObject newHashtableOfObject() {
+		if (this.recycledTableCount == 0)
+			return new HashtableOfObject();
+		HashtableOfObject hashtable = this.recycledTables[--this.recycledTableCount];
+		this.recycledTables[this.recycledTableCount] = null;
+		return hashtable;
+	}
+	private CharArrayCache newCharArrayCache() {
+		if (this.recycledCacheCount == 0)
+			return new CharArrayCache();
+		CharArrayCache charArrayCache = this.recycledCaches[--this.recycledCacheCount];
+		this.recycledCaches[this.recycledCacheCount] = null;
+		return charArrayCache;
+	}
+	private CachedIndexEntry newCachedIndexEntry(char[] signature, int index) {
+		if (this.recycledEntryCount == 0)
+			return new CachedIndexEntry(signature, index);
+		CachedIndexEntry cachedIndexEntry = this.recycledEntries[--this.recycledEntryCount];
+		this.recycledEntries[this.recycledEntryCount] = null;
+		cachedIndexEntry.signature = signature;
+		cachedIndexEntry.index = index;
+		return cachedIndexEntry;
+	}
 }
@@ -102,6 +102,9 @@ public class UnconditionalFlowInfo extends FlowInfo {
 		// extra[INN] is iNNBit
 		// lifecycle is extra == null or else all extra[]'s are allocated
 		// arrays which have the same size
+	private int sharedExtra;
+		// bit j is set when extra[j] may be shared with copies of this flow
+		// info, and must be replaced by a private copy before being written
 
 	public int maxFieldCount; // limit between fields and locals
 
@@ -109,6 +112,13 @@ public class UnconditionalFlowInfo extends FlowInfo {
 	public static final int BitCacheSize = 64; // 64 bits in a long.
 	public static final int IN = 6;
 	public static final int INN = 7;
+	// extra vectors of at least this length are shared by copy() until written
+	public static final int CopyOnWriteLength = 4;
+	// masks of indices into extra, see unshareExtra(int)
+	private static final int INITS_EXTRA = 1 << 0 | 1 << 1;
+	private static final int NULL_BITS_EXTRA = 1 << 2 | 1 << 3 | 1 << 4 | 1 << 5;
+	private static final int NULL_EXTRA = NULL_BITS_EXTRA | 1 << IN | 1 << INN;
+	private static final int ALL_EXTRA = INITS_EXTRA | NULL_EXTRA;
 
 /* fakeInitializedFlowInfo: For Lambda expressions tentative analysis during overload resolution.
    We presume that any and all outer locals touched by the lambda are definitely assigned and
@@ -301,6 +311,7 @@ private FlowInfo addInfoFrom(FlowInfo inits, boolean handleInits) {
 				}
 			}
 		}
+		unshareExtra(handleInits ? ALL_EXTRA : NULL_EXTRA);
 		int i;
 		if (handleInits) {
 			// manage definite assignment info
@@ -427,6 +438,7 @@ public FlowInfo addPotentialInitializationsFrom(FlowInfo inits) {
 			}
 			else {
 				// current storage is longer
+				unshareExtra(1 << 1);
 				for (; i < otherLength; i++) {
 					this.extra[1][i] |= otherInits.extra[1][i];
 				}
@@ -543,6 +555,7 @@ public UnconditionalFlowInfo addPotentialNullInfoFrom(
 				}
 			}
 		}
+		unshareExtra(NULL_BITS_EXTRA);
 		// PREMATURE skip operations for fields
 		int i;
 		for (i = 0 ; i < mergeLimit ; i++) {
@@ -715,8 +728,18 @@ public FlowInfo copy() {
 	if (this.extra != null) {
 		int length;
 		copy.extra = new long[extraLength][];
+		if ((length = this.extra[0].length) >= CopyOnWriteLength) {
+			// share the vectors until either flow info writes them
+			int shared = hasNullInfo ? ALL_EXTRA : ALL_EXTRA & ~NULL_BITS_EXTRA;
+			for (int j = 0; j < extraLength; j++) {
+				copy.extra[j] = (shared & (1 << j)) != 0 ? this.extra[j] : new long[length];
+			}
+			this.sharedExtra |= shared;
+			copy.sharedExtra = shared;
+			return copy;
+		}
 		System.arraycopy(this.extra[0], 0,
-			(copy.extra[0] = new long[length = this.extra[0].length]), 0,
+			(copy.extra[0] = new long[length]), 0,
 			length);
 		System.arraycopy(this.extra[1], 0,
 			(copy.extra[1] = new long[length]), 0, length);
@@ -749,6 +772,7 @@ public UnconditionalFlowInfo discardInitializationInfo() {
 	this.definiteInits =
 		this.potentialInits = 0;
 	if (this.extra != null) {
+		unshareExtra(INITS_EXTRA);
 		for (int i = 0, length = this.extra[0].length; i < length; i++) {
 			this.extra[0][i] = this.extra[1][i] = 0;
 		}
@@ -781,6 +805,7 @@ public UnconditionalFlowInfo discardNonFieldInitializations() {
 	if ((vectorIndex = (limit / BitCacheSize) - 1) >= length) {
 		return this; // not enough room yet
 	}
+	unshareExtra(ALL_EXTRA);
 	if (vectorIndex >= 0) {
 		// else we only have complete non field array items left
 		long mask = (1L << (limit % BitCacheSize))-1;
@@ -1203,6 +1228,7 @@ public void markAsComparedEqualToNonNull(LocalVariableBinding local) {
 					}
 				}
 			}
+			unshareExtra(NULL_BITS_EXTRA | 1 << IN);
 			// MACRO :'b,'es/nullBit\(.\)/extra[\1 + 1][vectorIndex]/gc
 			if (((mask = 1L << (position % BitCacheSize))
   				& (a1 = this.extra[1 + 1][vectorIndex])
@@ -1295,6 +1321,7 @@ public void markAsComparedEqualToNull(LocalVariableBinding local) {
 					}
 				}
 			}
+			unshareExtra(NULL_BITS_EXTRA | 1 << INN);
 			if ((mask & this.extra[1 + 1][vectorIndex]) != 0) {
   			  	if ((mask
   			  		& (~this.extra[2 + 1][vectorIndex] | this.extra[3 + 1][vectorIndex]
@@ -1345,6 +1372,7 @@ final private void markAsDefinitelyAssigned(int position) {
 					growSpace(vectorIndex + 1, 0, oldLength);
 				}
 			}
+			unshareExtra(INITS_EXTRA);
 			long mask;
 			this.extra[0][vectorIndex] |=
 				(mask = 1L << (position % BitCacheSize));
@@ -1402,6 +1430,7 @@ public void markAsDefinitelyNonNull(LocalVariableBinding local) {
     				growSpace(vectorIndex + 1, 0, oldLength);
     			}
     		}
+    		unshareExtra(NULL_EXTRA);
     		this.extra[2][vectorIndex]
     		    |= (mask = 1L << (position % BitCacheSize));
     		this.extra[4][vectorIndex] |= mask;
@@ -1456,6 +1485,7 @@ public void markAsDefinitelyNull(LocalVariableBinding local) {
     				growSpace(vectorIndex + 1, 0, oldLength);
     			}
     		}
+    		unshareExtra(NULL_EXTRA);
     		this.extra[2][vectorIndex]
     		    |= (mask = 1L << (position % BitCacheSize));
     		this.extra[3][vectorIndex] |= mask;
@@ -1517,6 +1547,7 @@ public void markAsDefinitelyUnknown(LocalVariableBinding local) {
 					growSpace(vectorIndex+1, 0, oldLength);
 				}
 			}
+			unshareExtra(NULL_EXTRA);
 			this.extra[2][vectorIndex]
 			    |= (mask = 1L << (position % BitCacheSize));
 			this.extra[5][vectorIndex] |= mask;
@@ -1556,6 +1587,7 @@ public void resetNullInfo(LocalVariableBinding local) {
     			// before and for which no null bits exist.
     			return;
     		}
+    		unshareExtra(NULL_EXTRA);
     		this.extra[2][vectorIndex]
     		    &= (mask = ~(1L << (position % BitCacheSize)));
     		this.extra[3][vectorIndex] &= mask;
@@ -1601,6 +1633,7 @@ public void markPotentiallyUnknownBit(LocalVariableBinding local) {
     				growSpace(vectorIndex + 1, 0, oldLength);
 				}
 			}
+    		unshareExtra(1 << 5);
     		mask = 1L << (position % BitCacheSize);
     		isTrue((this.extra[2][vectorIndex] & mask) == 0, "Adding 'unknown' mark in unexpected state"); //$NON-NLS-1$
     		this.extra[5][vectorIndex] |= mask;
@@ -1645,6 +1678,7 @@ public void markPotentiallyNullBit(LocalVariableBinding local) {
     				growSpace(vectorIndex + 1, 0, oldLength);
 				}
 			}
+    		unshareExtra(1 << 3);
     		mask = 1L << (position % BitCacheSize);
     		this.extra[3][vectorIndex] |= mask;
     		isTrue((this.extra[2][vectorIndex] & mask) == 0, "Adding 'potentially null' mark in unexpected state"); //$NON-NLS-1$
@@ -1689,6 +1723,7 @@ public void markPotentiallyNonNullBit(LocalVariableBinding local) {
 					growSpace(vectorIndex + 1, 0, oldLength);
 				}
 			}
+    		unshareExtra(1 << 4);
     		mask = 1L << (position % BitCacheSize);
     		isTrue((this.extra[2][vectorIndex] & mask) == 0, "Adding 'potentially non-null' mark in unexpected state"); //$NON-NLS-1$
     		this.extra[4][vectorIndex] |= mask;
@@ -1874,6 +1909,7 @@ public UnconditionalFlowInfo mergedWith(UnconditionalFlowInfo otherInits) {
 				}
 			}
 		}
+		unshareExtra(ALL_EXTRA);
         // MACRO :'b,'es/nullBit\(.\)/extra[\1 + 1][i]/g
 		// manage definite assignment
 		for (i = 0; i < mergeLimit; i++) {
@@ -2065,6 +2101,7 @@ public FlowInfo setReachMode(int reachMode) {
 			// see InitializationTest#test090 (and others)
 			this.potentialInits = 0;
 			if (this.extra != null) {
+				unshareExtra(1 << 1);
 				for (int i = 0, length = this.extra[0].length;
 						i < length; i++) {
 					this.extra[1][i] = 0;
@@ -2226,6 +2263,7 @@ public UnconditionalFlowInfo mergeDefiniteInitsWith(UnconditionalFlowInfo otherI
 	// intersection of definitely assigned variables,
 	this.definiteInits &= otherInits.definiteInits;
 	if (this.extra != null) {
+		unshareExtra(1 << 0);
 		if (otherInits.extra != null) {
 			// both sides have extra storage
 			int i = 0, length, otherLength;
@@ -2280,6 +2318,7 @@ public void resetAssignmentInfo(int position) {
 			// use extra vector
 			int vectorIndex = (position / BitCacheSize) - 1;
 			if (this.extra == null || vectorIndex >= this.extra[0].length) return;	// variable doesnt exist in flow info
+			unshareExtra(INITS_EXTRA);
 			long mask;
 			this.extra[0][vectorIndex] &=
 				(mask = ~(1L << (position % BitCacheSize)));
@@ -2293,6 +2332,7 @@ private void createExtraSpace(int length) {
 	for (int j = 0; j < extraLength; j++) {
 		this.extra[j] = new long[length];
 	}
+	this.sharedExtra = 0;
 	if ((this.tagBits & UNROOTED) != 0) {
 		Arrays.fill(this.extra[IN], -1L);
 		Arrays.fill(this.extra[INN], -1L);
@@ -2305,6 +2345,7 @@ public void growSpace(int newLength, int copyStart, int copyLength) {
 			(this.extra[j] = new long[newLength]), copyStart,
 			copyLength);
 	}
+	this.sharedExtra = 0;
 	if ((this.tagBits & UNROOTED) != 0) {
 		Arrays.fill(this.extra[IN], copyStart+copyLength, newLength, -1);
 		Arrays.fill(this.extra[INN], copyStart+copyLength, newLength, -1);
@@ -2315,9 +2356,26 @@ public void acceptAllIncomingNullness() {
 	this.iNBit = -1L;
 	this.iNNBit = -1L;
 	if (this.extra != null) {
+		unshareExtra(1 << IN | 1 << INN);
 		Arrays.fill(this.extra[IN], -1L);
 		Arrays.fill(this.extra[INN], -1L);
 	}
 }
-}
 
+/**
+ * Replace the given shared extra vectors of this flow info by private copies,
+ * before writing them.
+ * @param vectors a mask of the indices into extra of the vectors to write
+ */
+private void unshareExtra(int vectors) {
+	int shared = this.sharedExtra & vectors;
+	if (shared != 0) {
+		for (int j = 0; j < extraLength; j++) {
+			if ((shared & (1 << j)) != 0) {
+				this.extra[j] = this.extra[j].clone();
+			}
+		}
+		this.sharedExtra &= ~shared;
+	}
+}
+}
@@ -13,6 +13,12 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.impl;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @SuppressWarnings("rawtypes")
 public class CompilerStats implements Comparable {
 
@@ -28,6 +34,38 @@ public class CompilerStats implements Comparable {
 	public long analyzeTime;
 	public long generateTime;
 
+	// reading source files ahead (see ReadManager)
+	public int readAheadCount;
+	public int directReadCount;
+	public int readWaitCount;
+	public long readWaitTime;
+	public int maxReadQueueDepth;
+
+	// units whose method bodies were parsed ahead by a worker (see ParseTaskManager)
+	public int parseAheadCount;
+
+	// recycling class files (see ClassFilePool)
+	public int classFileReuseCount;
+	public int classFileAllocationCount;
+
+	// lookups missing the caches of the LookupEnvironment, answered by the name environment
+	public int typeLookupCount;
+	public int packageLookupCount;
+
+	// remembered results of type inference (see InferenceResultCache)
+	public int inferenceCacheHitCount;
+	public int inferenceCacheMissCount;
+	public long inferenceTimeSaved; // in nanoseconds
+
+	// remembered results of method lookups (see MethodLookupCache)
+	public int methodLookupHitCount;
+	public int methodLookupMissCount;
+
+	// per unit statistics, see recordUnits()
+	private Map<String, UnitStats> units;
+
+	private static final String[] PHASE_NAMES = { "parse", "resolve", "analyze", "generate" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
 /**
  * Returns the total elapsed time (between start and end)
  * @return the time spent between start and end
@@ -43,4 +81,114 @@ public int compareTo(Object o) {
 	long time2 = otherStats.elapsedTime();
 	return time1 < time2 ? -1 : (time1 == time2 ? 0 : 1);
 }
+
+/**
+ * Record the time and memory spent in each phase of each compilation unit from now on.
+ */
+public synchronized void recordUnits() {
+	if (this.units == null)
+		this.units = new LinkedHashMap<>();
+}
+
+/**
+ * Answer the statistics of the given unit, or null if units are not {@link #recordUnits() recorded}.
+ * Statistics are accumulated by file name, e.g. across annotation processing rounds.
+ */
+public synchronized UnitStats getUnitStats(char[] fileName) {
+	if (this.units == null)
+		return null;
+	return this.units.computeIfAbsent(new String(fileName), UnitStats::new);
+}
+
+/**
+ * Answer the statistics of all recorded units, in the order they were first compiled.
+ */
+public synchronized UnitStats[] getUnitStats() {
+	if (this.units == null)
+		return new UnitStats[0];
+	return this.units.values().toArray(new UnitStats[this.units.size()]);
+}
+
+/**
+ * Answer the statistics of at most the given number of units, the slowest first.
+ */
+public UnitStats[] getSlowestUnits(int count) {
+	UnitStats[] all = getUnitStats();
+	Arrays.sort(all);
+	return all.length > count ? Arrays.copyOf(all, count) : all;
+}
+
+/**
+ * Answer the bytes allocated during the given phase (see {@link UnitStats#PARSE} and others)
+ * in all recorded units, or -1 if units are not recorded or allocations cannot be measured.
+ */
+public long getAllocation(int phase) {
+	UnitStats[] all = getUnitStats();
+	if (all.length == 0)
+		return -1;
+	long total = 0;
+	for (UnitStats unit : all) {
+		if (unit.allocations[phase] < 0)
+			return -1;
+		total += unit.allocations[phase];
+	}
+	return total;
+}
+
+/**
+ * Write these statistics as a JSON object. Overall and phase times are in milliseconds,
+ * unit times in nanoseconds, allocations in bytes (-1 when unknown).
+ */
+public void writeJSON(Writer writer) throws IOException {
+	writer.write("{\n  \"elapsedTime\": " + elapsedTime()); //$NON-NLS-1$
+	writer.write(",\n  \"lineCount\": " + this.lineCount); //$NON-NLS-1$
+	long[] phaseTimes = { this.parseTime, this.resolveTime, this.analyzeTime, this.generateTime };
+	writer.write(",\n  \"phases\": {"); //$NON-NLS-1$
+	for (int phase = 0; phase < UnitStats.PHASE_COUNT; phase++) {
+		writer.write(phase == 0 ? "\n    \"" : ",\n    \""); //$NON-NLS-1$ //$NON-NLS-2$
+		writer.write(PHASE_NAMES[phase]);
+		writer.write("\": { \"time\": " + phaseTimes[phase] + ", \"allocation\": " + getAllocation(phase) + " }"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+	writer.write("\n  },\n  \"parseAhead\": " + this.parseAheadCount); //$NON-NLS-1$
+	writer.write(",\n  \"lookups\": { \"types\": " + this.typeLookupCount + ", \"packages\": " + this.packageLookupCount + " }"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	writer.write(",\n  \"classFiles\": { \"reused\": " + this.classFileReuseCount + ", \"allocated\": " + this.classFileAllocationCount + " }"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	writer.write(",\n  \"inferenceCache\": { \"hits\": " + this.inferenceCacheHitCount + ", \"misses\": " + this.inferenceCacheMissCount //$NON-NLS-1$ //$NON-NLS-2$
+			+ ", \"timeSaved\": " + this.inferenceTimeSaved / 1000000 + " }"); //$NON-NLS-1$ //$NON-NLS-2$
+	writer.write(",\n  \"methodLookups\": { \"hits\": " + this.methodLookupHitCount + ", \"misses\": " + this.methodLookupMissCount + " }"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	writer.write(",\n  \"units\": ["); //$NON-NLS-1$
+	UnitStats[] all = getUnitStats();
+	for (int i = 0; i < all.length; i++) {
+		UnitStats unit = all[i];
+		writer.write(i == 0 ? "\n    { \"file\": " : ",\n    { \"file\": "); //$NON-NLS-1$ //$NON-NLS-2$
+		writeJSONString(writer, unit.fileName);
+		for (int phase = 0; phase < UnitStats.PHASE_COUNT; phase++) {
+			writer.write(", \""); //$NON-NLS-1$
+			writer.write(PHASE_NAMES[phase]);
+			writer.write("\": { \"time\": " + unit.times[phase] + ", \"allocation\": " + unit.allocations[phase] + " }"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		writer.write(" }"); //$NON-NLS-1$
+	}
+	writer.write(all.length == 0 ? "]\n}\n" : "\n  ]\n}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+}
+
+private static void writeJSONString(Writer writer, String string) throws IOException {
+	writer.write('"');
+	for (int i = 0, length = string.length(); i < length; i++) {
+		char c = string.charAt(i);
+		switch (c) {
+			case '"' :
+			case '\\' :
+				writer.write('\\');
+				writer.write(c);
+				break;
+			default :
+				if (c < 0x20) {
+					writer.write(String.format("\\u%04x", Integer.valueOf(c))); //$NON-NLS-1$
+				} else {
+					writer.write(c);
+				}
+		}
+	}
+	writer.write('"');
+}
 }
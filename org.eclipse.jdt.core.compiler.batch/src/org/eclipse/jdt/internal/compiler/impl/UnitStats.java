@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.impl;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Time and memory spent in each phase of the compilation of one compilation unit, recorded
+ * when {@link CompilerStats#recordUnits() requested}. Times are in nanoseconds, allocations in bytes.
+ * <p>
+ * A phase is measured from the previous call to {@link #start()} or {@link #end(int)}, in the
+ * thread compiling the unit. Allocations are only measured on virtual machines supporting
+ * <code>com.sun.management.ThreadMXBean</code>, they are -1 otherwise.
+ * </p>
+ */
+public class UnitStats implements Comparable<UnitStats> {
+
+	public static final int PARSE = 0;
+	public static final int RESOLVE = 1;
+	public static final int ANALYZE = 2;
+	public static final int GENERATE = 3;
+	public static final int PHASE_COUNT = 4;
+
+	private static final com.sun.management.ThreadMXBean THREAD_BEAN = getThreadBean();
+
+	public final String fileName;
+	public final long[] times = new long[PHASE_COUNT];
+	public final long[] allocations = new long[PHASE_COUNT];
+
+	private long startTime;
+	private long startAllocation;
+
+public UnitStats(String fileName) {
+	this.fileName = fileName;
+}
+
+private static com.sun.management.ThreadMXBean getThreadBean() {
+	try {
+		if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+			if (bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled())
+				return bean;
+		}
+	} catch (LinkageError | RuntimeException e) {
+		// management classes are not available, e.g. not visible in an OSGi framework
+	}
+	return null;
+}
+
+/**
+ * Answer the number of bytes allocated so far by the current thread, or -1 if it cannot be measured.
+ */
+public static long currentThreadAllocatedBytes() {
+	if (THREAD_BEAN == null)
+		return -1;
+	return THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+}
+
+/**
+ * Start measuring a phase.
+ */
+public void start() {
+	this.startTime = System.nanoTime();
+	this.startAllocation = currentThreadAllocatedBytes();
+}
+
+/**
+ * Record the end of the given phase, and start measuring the next one.
+ */
+public void end(int phase) {
+	long time = System.nanoTime();
+	long allocation = currentThreadAllocatedBytes();
+	this.times[phase] += time - this.startTime;
+	if (allocation < 0)
+		this.allocations[phase] = -1;
+	else
+		this.allocations[phase] += allocation - this.startAllocation;
+	this.startTime = time;
+	this.startAllocation = allocation;
+}
+
+public long totalTime() {
+	long total = 0;
+	for (long time : this.times)
+		total += time;
+	return total;
+}
+
+/**
+ * Answer the bytes allocated while compiling the unit, or -1 if they could not be measured.
+ */
+public long totalAllocation() {
+	long total = 0;
+	for (long allocation : this.allocations) {
+		if (allocation < 0)
+			return -1;
+		total += allocation;
+	}
+	return total;
+}
+
+/**
+ * Units compare by decreasing total time, the slowest first.
+ */
+@Override
+public int compareTo(UnitStats other) {
+	return Long.compare(other.totalTime(), totalTime());
+}
+
+@Override
+public String toString() {
+	StringBuilder builder = new StringBuilder();
+	builder.append(this.fileName);
+	builder.append(" [parse: "); //$NON-NLS-1$
+	builder.append(this.times[PARSE] / 1000);
+	builder.append(" us, resolve: "); //$NON-NLS-1$
+	builder.append(this.times[RESOLVE] / 1000);
+	builder.append(" us, analyze: "); //$NON-NLS-1$
+	builder.append(this.times[ANALYZE] / 1000);
+	builder.append(" us, generate: "); //$NON-NLS-1$
+	builder.append(this.times[GENERATE] / 1000);
+	builder.append(" us, allocated: "); //$NON-NLS-1$
+	builder.append(totalAllocation());
+	builder.append(" bytes]"); //$NON-NLS-1$
+	return builder.toString();
+}
+}
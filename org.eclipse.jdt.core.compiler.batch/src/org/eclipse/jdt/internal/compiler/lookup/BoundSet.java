@@ -59,21 +59,32 @@ class BoundSet {
 	 * For a given inference variable this structure holds all type bounds
 	 * with a relation in { SUPERTYPE, SAME, SUBTYPE }.
 	 * These are internally stored in three sets, one for each of the relations.
+	 * <p>
+	 * Instances are shared by copies of a bound set, only the bound set of the same
+	 * {@link BoundSet#generation generation} may modify them.
+	 * </p>
 	 */
 	private static class ThreeSets {
+		final Object generation;
 		Set<TypeBound> superBounds;
 		Set<TypeBound> sameBounds;
 		Set<TypeBound> subBounds;
 		TypeBinding	instantiation;
 		Map<InferenceVariable,TypeBound> inverseBounds; // from right inference variable to bound
 		Set<InferenceVariable> dependencies;
-		public ThreeSets() {
-			// empty, the sets are lazily initialized
+		// indices in mentionedVariables of the variables mentioned by the bounds, and of the own variable, see BoundSet.directDependencies()
+		InferenceVariable[] mentionedVariables;
+		int[] mentionedIndices;
+		public ThreeSets(Object generation) {
+			// the sets are lazily initialized
+			this.generation = generation;
 		}
 		/** Add a type bound to the appropriate set. */
 		public boolean addBound(TypeBound bound) {
 			boolean result = addBound1(bound);
 			if(result) {
+				this.mentionedVariables = null;
+				this.mentionedIndices = null;
 				Set<InferenceVariable> set = (this.dependencies == null ? new LinkedHashSet<>() : this.dependencies);
 				bound.right.collectInferenceVariables(set);
 				if (this.dependencies == null && set.size() > 0) {
@@ -97,6 +108,23 @@ class BoundSet {
 					throw new IllegalArgumentException("Unexpected bound relation in : " + bound); //$NON-NLS-1$
 			}
 		}
+		public boolean contains(TypeBound bound) {
+			Set<TypeBound> bounds;
+			switch (bound.relation) {
+				case ReductionResult.SUPERTYPE:
+					bounds = this.superBounds;
+					break;
+				case ReductionResult.SAME:
+					bounds = this.sameBounds;
+					break;
+				case ReductionResult.SUBTYPE:
+					bounds = this.subBounds;
+					break;
+				default:
+					throw new IllegalArgumentException("Unexpected bound relation in : " + bound); //$NON-NLS-1$
+			}
+			return bounds != null && bounds.contains(bound);
+		}
 		// pre: this.superBounds != null
 		public TypeBinding[] lowerBounds(boolean onlyProper, InferenceVariable variable) {
 			TypeBinding[] boundTypes = new TypeBinding[this.superBounds.size()];
@@ -190,8 +218,8 @@ class BoundSet {
 			}
 			return idx;
 		}
-		public ThreeSets copy() {
-			ThreeSets copy = new ThreeSets();
+		public ThreeSets copy(Object newGeneration) {
+			ThreeSets copy = new ThreeSets(newGeneration);
 			if (this.superBounds != null)
 				copy.superBounds = new LinkedHashSet<>(this.superBounds);
 			if (this.sameBounds != null)
@@ -199,6 +227,8 @@ class BoundSet {
 			if (this.subBounds != null)
 				copy.subBounds = new LinkedHashSet<>(this.subBounds);
 			copy.instantiation = this.instantiation;
+			if (this.inverseBounds != null)
+				copy.inverseBounds = new HashMap<>(this.inverseBounds);
 			if (this.dependencies != null) {
 				copy.dependencies = new LinkedHashSet<>(this.dependencies);
 			}
@@ -330,6 +360,12 @@ class BoundSet {
 	}
 	// main storage of type bounds:
 	HashMap<InferenceVariable, ThreeSets> boundsPerVariable = new LinkedHashMap<>();
+	/*
+	 * Copies share the map and the ThreeSets until they add bounds: a bound set only modifies
+	 * the map if it is not shared, and only modifies the ThreeSets of its own generation.
+	 */
+	private boolean boundsPerVariableShared;
+	private Object generation = new Object();
 
 	/**
 	 * 18.1.3 bullet 4: G<α1, ..., αn> = capture(G<A1, ..., An>)
@@ -342,6 +378,7 @@ class BoundSet {
 	private TypeBound[] incorporatedBounds = Binding.NO_TYPE_BOUNDS;
 	private TypeBound[] unincorporatedBounds = new TypeBound[8];
 	private int unincorporatedBoundsCount = 0;
+	private boolean unincorporatedBoundsShared; // with a copy, see copy()
 	private TypeBound[] mostRecentBounds = new TypeBound[4]; // for quick & dirty duplicate elimination
 
 	public BoundSet() {}
@@ -378,27 +415,35 @@ class BoundSet {
 
 	/**
 	 * For resolution we work with a copy of the bound set, to enable retrying.
+	 * The copy shares the storage of the type bounds with this bound set, each of them
+	 * copies only the parts it modifies afterwards.
 	 * @return the new bound set.
 	 */
 	public BoundSet copy() {
 		BoundSet copy = new BoundSet();
-		if (!this.boundsPerVariable.isEmpty()) {
-			Iterator<Entry<InferenceVariable, ThreeSets>> setsIterator = this.boundsPerVariable.entrySet().iterator();
-			while (setsIterator.hasNext()) {
-				Entry<InferenceVariable, ThreeSets> entry = setsIterator.next();
-				copy.boundsPerVariable.put(entry.getKey(), entry.getValue().copy());
-			}
-		}
+		copy.boundsPerVariable = this.boundsPerVariable;
+		copy.boundsPerVariableShared = this.boundsPerVariableShared = true;
+		this.generation = new Object(); // the current ThreeSets are now read-only for both
 		copy.inThrows.addAll(this.inThrows);
 		copy.captures.putAll(this.captures);
-		if (this.incorporatedBounds.length > 0)
-			System.arraycopy(this.incorporatedBounds, 0, copy.incorporatedBounds = new TypeBound[this.incorporatedBounds.length], 0, this.incorporatedBounds.length);
-		if (this.unincorporatedBoundsCount > 0)
-			System.arraycopy(this.unincorporatedBounds, 0, copy.unincorporatedBounds = new TypeBound[this.unincorporatedBounds.length], 0, this.unincorporatedBounds.length);
+		copy.incorporatedBounds = this.incorporatedBounds; // never modified in place
+		copy.unincorporatedBounds = this.unincorporatedBounds;
 		copy.unincorporatedBoundsCount = this.unincorporatedBoundsCount;
+		copy.unincorporatedBoundsShared = this.unincorporatedBoundsShared = true;
 		return copy;
 	}
 
+	/* Answer the ThreeSets of the given variable, that this bound set may modify. */
+	private ThreeSets modifiableThreeSets(InferenceVariable variable, ThreeSets three) {
+		if (this.boundsPerVariableShared) {
+			this.boundsPerVariable = new LinkedHashMap<>(this.boundsPerVariable);
+			this.boundsPerVariableShared = false;
+		}
+		three = three == null ? new ThreeSets(this.generation) : three.copy(this.generation);
+		this.boundsPerVariable.put(variable, three);
+		return three;
+	}
+
 	public void addBound(TypeBound bound, LookupEnvironment environment) {
 
 		if (bound.relation == ReductionResult.SUBTYPE && bound.right.id == TypeIds.T_JavaLangObject)
@@ -429,12 +474,18 @@ class BoundSet {
 
 		InferenceVariable variable = bound.left.prototype();
 		ThreeSets three = this.boundsPerVariable.get(variable);
-		if (three == null)
-			this.boundsPerVariable.put(variable, (three = new ThreeSets()));
+		if (three == null || three.generation != this.generation) {
+			if (three != null && three.contains(bound))
+				return;
+			three = modifiableThreeSets(variable, three);
+		}
 		if (three.addBound(bound)) {
 			int unincorporatedBoundsLength = this.unincorporatedBounds.length;
 			if (this.unincorporatedBoundsCount >= unincorporatedBoundsLength)
 				System.arraycopy(this.unincorporatedBounds, 0, this.unincorporatedBounds = new TypeBound[unincorporatedBoundsLength * 2], 0, unincorporatedBoundsLength);
+			else if (this.unincorporatedBoundsShared)
+				this.unincorporatedBounds = this.unincorporatedBounds.clone();
+			this.unincorporatedBoundsShared = false;
 			this.unincorporatedBounds[this.unincorporatedBoundsCount ++] = bound;
 			// check if this makes the inference variable instantiated:
 			TypeBinding typeBinding = bound.right;
@@ -446,11 +497,13 @@ class BoundSet {
 				// TODO: so far no test could be identified which actually needs it ...
 				InferenceVariable rightIV = (InferenceVariable) bound.right.prototype();
 				three = this.boundsPerVariable.get(rightIV);
-				if (three == null)
-					this.boundsPerVariable.put(rightIV, (three = new ThreeSets()));
+				if (three == null || three.generation != this.generation)
+					three = modifiableThreeSets(rightIV, three);
 				if (three.inverseBounds == null)
 					three.inverseBounds = new HashMap<>();
 				three.inverseBounds.put(rightIV, bound);
+				three.mentionedVariables = null;
+				three.mentionedIndices = null;
 			}
 		}
 	}
@@ -1047,19 +1100,140 @@ class BoundSet {
 		return false;
 	}
 
+	/**
+	 * Helper for resolution (18.4):
+	 * Answer for each of the given variables the indices of the other variables on whose resolution it depends
+	 * according to {@link #dependsOnResolutionOf(InferenceVariable, InferenceVariable)}, in ascending order.
+	 * Unless capture bounds are involved, this only visits the variables mentioned by the bounds of each variable,
+	 * rather than all pairs of variables.
+	 */
+	int[][] directDependencies(InferenceVariable[] variables) {
+		int length = variables.length;
+		int[][] dependencies = new int[length][];
+		int[] buffer = new int[length];
+		if (!this.captures.isEmpty()) {
+			for (int i = 0; i < length; i++) {
+				int count = 0;
+				for (int j = 0; j < length; j++) {
+					if (j != i && dependsOnResolutionOf(variables[i], variables[j]))
+						buffer[count++] = j;
+				}
+				dependencies[i] = Arrays.copyOf(buffer, count);
+			}
+			return dependencies;
+		}
+		// without capture bounds, α depends on β if β is mentioned by a bound of α
+		Map<InferenceVariable, int[]> positions = null; // by prototype
+		boolean[] isDependency = null;
+		for (int i = 0; i < length; i++) {
+			InferenceVariable alpha = variables[i].prototype();
+			ThreeSets three = this.boundsPerVariable.get(alpha);
+			int[] mentioned = three != null && three.mentionedVariables == variables ? three.mentionedIndices : null;
+			if (mentioned == null) {
+				if (positions == null) {
+					positions = positions(variables);
+					isDependency = new boolean[length];
+				}
+				markDependencies(positions.get(alpha), isDependency);
+				if (three != null) {
+					if (three.dependencies != null) {
+						for (InferenceVariable beta : three.dependencies)
+							markDependencies(positions.get(beta), isDependency);
+					}
+					if (three.inverseBounds != null) {
+						for (InferenceVariable beta : three.inverseBounds.keySet())
+							markDependencies(positions.get(beta), isDependency);
+					}
+				}
+				int count = 0;
+				for (int j = 0; j < length; j++) {
+					if (isDependency[j]) {
+						buffer[count++] = j;
+						isDependency[j] = false;
+					}
+				}
+				mentioned = Arrays.copyOf(buffer, count);
+				if (three != null) {
+					// unchanged until a bound is added to three, which then is not shared with copies
+					three.mentionedVariables = variables;
+					three.mentionedIndices = mentioned;
+				}
+			}
+			int count = 0;
+			for (int j : mentioned) {
+				if (j != i)
+					buffer[count++] = j;
+			}
+			dependencies[i] = Arrays.copyOf(buffer, count);
+		}
+		return dependencies;
+	}
+
+	private static Map<InferenceVariable, int[]> positions(InferenceVariable[] variables) {
+		Map<InferenceVariable, int[]> positions = new HashMap<>();
+		for (int i = 0; i < variables.length; i++) {
+			int[] known = positions.get(variables[i].prototype());
+			if (known == null) {
+				known = new int[] { i };
+			} else {
+				known = Arrays.copyOf(known, known.length + 1);
+				known[known.length - 1] = i;
+			}
+			positions.put(variables[i].prototype(), known);
+		}
+		return positions;
+	}
+
+	private static void markDependencies(int[] positions, boolean[] isDependency) {
+		if (positions != null) {
+			for (int position : positions)
+				isDependency[position] = true;
+		}
+	}
+
 	List<Set<InferenceVariable>> computeConnectedComponents(InferenceVariable[] inferenceVariables) {
+		int length = inferenceVariables.length;
+		int[][] dependencies = directDependencies(inferenceVariables);
+		// for each variable, the lower indices of the variables depending on it, ascending:
+		int[][] dependents = new int[length][];
+		int[] dependentsCounts = new int[length];
+		for (int j = 0; j < length; j++) {
+			for (int i : dependencies[j]) {
+				if (i > j) {
+					int count = dependentsCounts[i]++;
+					if (dependents[i] == null)
+						dependents[i] = new int[4];
+					else if (count == dependents[i].length)
+						dependents[i] = Arrays.copyOf(dependents[i], count * 2);
+					dependents[i][count] = j;
+				}
+			}
+		}
 		// create all dependency edges (as bi-directional):
 		Map<InferenceVariable, Set<InferenceVariable>> allEdges = new HashMap<>();
-		for (int i = 0; i < inferenceVariables.length; i++) {
+		for (int i = 0; i < length; i++) {
 			InferenceVariable iv1 = inferenceVariables[i];
 			Set<InferenceVariable> targetSet = new LinkedHashSet<InferenceVariable>();
 			allEdges.put(iv1, targetSet); // eventually ensures: forall iv in inferenceVariables : allEdges.get(iv) != null
-			for (int j = 0; j < i; j++) {
-				InferenceVariable iv2 = inferenceVariables[j];
-				if (dependsOnResolutionOf(iv1, iv2) || dependsOnResolutionOf(iv2, iv1)) {
-					targetSet.add(iv2);
-					allEdges.get(iv2).add(iv1);
+			// merge the lower indices of the variables iv1 depends on, and of those depending on iv1:
+			int[] lower = dependencies[i];
+			int lowerCount = 0;
+			while (lowerCount < lower.length && lower[lowerCount] < i)
+				lowerCount++;
+			int[] upper = dependents[i];
+			int upperCount = dependentsCounts[i];
+			for (int l = 0, u = 0; l < lowerCount || u < upperCount;) {
+				int j;
+				if (u == upperCount || (l < lowerCount && lower[l] < upper[u])) {
+					j = lower[l++];
+				} else {
+					j = upper[u++];
+					if (l < lowerCount && lower[l] == j)
+						l++;
 				}
+				InferenceVariable iv2 = inferenceVariables[j];
+				targetSet.add(iv2);
+				allEdges.get(iv2).add(iv1);
 			}
 		}
 		// collect all connected IVs into one component:
@@ -1344,10 +1344,11 @@ public class InferenceContext18 {
 		// "Given a set of inference variables to resolve, let V be the union of this set and
 		//  all variables upon which the resolution of at least one variable in this set depends."
 		Set<InferenceVariable> v = new LinkedHashSet<InferenceVariable>();
+		DependencyWalk walk = new DependencyWalk(bounds);
 		Map<InferenceVariable,Set<InferenceVariable>> dependencies = new HashMap<>(); // compute only once, store for the final loop over 'v'.
 		for (InferenceVariable iv : subSet) {
 			Set<InferenceVariable> tmp = new LinkedHashSet<>();
-			addDependencies(bounds, tmp, iv);
+			walk.addDependencies(tmp, iv, indexOf(iv));
 			dependencies.put(iv, tmp);
 			v.addAll(tmp);
 		}
@@ -1362,7 +1363,7 @@ public class InferenceContext18 {
 				// "... if αi depends on the resolution of a variable β, then either β has an instantiation or there is some j such that β = αj; ..."
 				Set<InferenceVariable> set = dependencies.get(currentVariable);
 				if (set == null) // not an element of the original subSet, still need to fetch this var's dependencies
-					addDependencies(bounds, set = new LinkedHashSet<>(), currentVariable);
+					walk.addDependencies(set = new LinkedHashSet<>(), currentVariable, indexOf(currentVariable));
 				//  "... and ii) there exists no non-empty proper subset of { α1, ..., αn } with this property."
 				int cur = set.size();
 				if (cur == 1)
@@ -1376,15 +1377,76 @@ public class InferenceContext18 {
 		return result;
 	}
 
-	private void addDependencies(BoundSet boundSet, Set<InferenceVariable> variableSet, InferenceVariable currentVariable) {
-		if (boundSet.isInstantiated(currentVariable)) return; // not added
-		if (!variableSet.add(currentVariable)) return; // already present
-		for (int j = 0; j < this.inferenceVariables.length; j++) {
-			InferenceVariable nextVariable = this.inferenceVariables[j];
-			if (TypeBinding.equalsEquals(nextVariable, currentVariable)) continue;
-			if (boundSet.dependsOnResolutionOf(currentVariable, nextVariable))
-				addDependencies(boundSet, variableSet, nextVariable);
+	/**
+	 * Collects the uninstantiated variables on whose resolution a variable transitively depends,
+	 * using the dependencies between this.inferenceVariables computed once per bound set.
+	 */
+	private class DependencyWalk {
+		final BoundSet boundSet;
+		// excluding variables equal to the dependent variable
+		final int[][] directDependencies;
+		final boolean[] isInstantiated;
+		// variables of this.inferenceVariables added to the set of the current walk
+		final boolean[] isAdded;
+		Set<InferenceVariable> variableSet;
+
+		DependencyWalk(BoundSet boundSet) {
+			InferenceVariable[] variables = InferenceContext18.this.inferenceVariables;
+			this.boundSet = boundSet;
+			this.directDependencies = boundSet.directDependencies(variables);
+			this.isInstantiated = new boolean[variables.length];
+			for (int i = 0; i < variables.length; i++) {
+				this.isInstantiated[i] = boundSet.isInstantiated(variables[i]);
+				int[] dependencies = this.directDependencies[i];
+				int count = 0;
+				for (int j : dependencies) {
+					if (TypeBinding.notEquals(variables[j], variables[i]))
+						dependencies[count++] = j;
+				}
+				if (count < dependencies.length)
+					this.directDependencies[i] = Arrays.copyOf(dependencies, count);
+			}
+			this.isAdded = new boolean[variables.length];
+		}
+
+		/* currentIndex: the index of currentVariable in this.inferenceVariables, or -1 */
+		void addDependencies(Set<InferenceVariable> set, InferenceVariable currentVariable, int currentIndex) {
+			if (this.variableSet != set) {
+				this.variableSet = set;
+				Arrays.fill(this.isAdded, false);
+			}
+			add(currentVariable, currentIndex);
+		}
+
+		private void add(InferenceVariable currentVariable, int currentIndex) {
+			InferenceVariable[] variables = InferenceContext18.this.inferenceVariables;
+			if (currentIndex >= 0) {
+				if (this.isInstantiated[currentIndex] || this.isAdded[currentIndex]) return;
+				this.isAdded[currentIndex] = true;
+			} else if (this.boundSet.isInstantiated(currentVariable)) {
+				return; // not added
+			}
+			if (!this.variableSet.add(currentVariable)) return; // already present
+			if (currentIndex >= 0) {
+				for (int j : this.directDependencies[currentIndex])
+					add(variables[j], j);
+				return;
+			}
+			for (int j = 0; j < variables.length; j++) {
+				InferenceVariable nextVariable = variables[j];
+				if (TypeBinding.equalsEquals(nextVariable, currentVariable)) continue;
+				if (this.boundSet.dependsOnResolutionOf(currentVariable, nextVariable))
+					add(nextVariable, j);
+			}
+		}
+	}
+
+	private int indexOf(InferenceVariable variable) {
+		for (int i = 0; i < this.inferenceVariables.length; i++) {
+			if (this.inferenceVariables[i] == variable) //$IDENTITY-COMPARISON$
+				return i;
 		}
+		return -1;
 	}
 
 	private ConstraintFormula pickFromCycle(Set<ConstraintFormula> c) {
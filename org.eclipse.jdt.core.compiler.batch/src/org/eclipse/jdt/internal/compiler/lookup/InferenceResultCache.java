@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.lookup;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.Expression;
+import org.eclipse.jdt.internal.compiler.ast.ExpressionContext;
+import org.eclipse.jdt.internal.compiler.ast.Invocation;
+
+/**
+ * Results of the type inference of generic method invocations (JLS 18.5.1 and 18.5.2), shared by
+ * all the invocations of the same method with the same argument types and target type in a
+ * {@link LookupEnvironment}, until it is {@link LookupEnvironment#reset() reset}.
+ * <p>
+ * Only self-contained inferences are remembered: the invocation has no explicit type arguments,
+ * none of its arguments is a poly expression, all argument types and the target type are proper, and
+ * the invocation is not nested in an outer inference. The outcome of such an inference only depends
+ * on the key. Successful inferences are only remembered if they fully inferred the invocation type
+ * without problem, and if their solutions do not mention captures created during the inference,
+ * which are specific to the invocation position.
+ * </p>
+ * <p>
+ * The outcome also depends on the argument expressions when they have errors, e.g. an allocation whose
+ * arguments have errors is compatible with no type. Since the errors of an expression are not recorded
+ * in its bindings, the cache is neither consulted nor filled once errors were reported in the unit, nor
+ * while errors are ignored, e.g. while resolving copies of lambda expressions.
+ * </p>
+ */
+public class InferenceResultCache {
+
+	/* beyond this number of entries, the cache is cleared rather than grown */
+	private static final int MAX_ENTRIES = 10000;
+
+	static final class Key {
+		final MethodBinding method;
+		final TypeBinding[] arguments;
+		final TypeBinding expectedType;
+		final ExpressionContext expressionContext;
+		final boolean isPolyExpression;
+		private final int hashCode;
+
+		Key(MethodBinding method, TypeBinding[] arguments, TypeBinding expectedType, ExpressionContext expressionContext, boolean isPolyExpression) {
+			this.method = method;
+			this.arguments = arguments;
+			this.expectedType = expectedType;
+			this.expressionContext = expressionContext;
+			this.isPolyExpression = isPolyExpression;
+			int hash = System.identityHashCode(method);
+			for (TypeBinding argument : arguments)
+				hash = hash * 31 + System.identityHashCode(argument);
+			hash = hash * 31 + System.identityHashCode(expectedType);
+			this.hashCode = hash * 31 + expressionContext.ordinal() * 2 + (isPolyExpression ? 1 : 0);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			Key that = (Key) other; // homogeneous container.
+			if (this.method != that.method || this.expectedType != that.expectedType //$IDENTITY-COMPARISON$
+					|| this.expressionContext != that.expressionContext || this.isPolyExpression != that.isPolyExpression
+					|| this.arguments.length != that.arguments.length)
+				return false;
+			for (int i = 0; i < this.arguments.length; i++) {
+				if (this.arguments[i] != that.arguments[i]) //$IDENTITY-COMPARISON$
+					return false;
+			}
+			return true;
+		}
+	}
+
+	static final class Result {
+		/* null if the method is not applicable */
+		final TypeBinding[] solutions;
+		final int inferenceKind;
+		final boolean usesUncheckedConversion;
+
+		Result(TypeBinding[] solutions, int inferenceKind, boolean usesUncheckedConversion) {
+			this.solutions = solutions;
+			this.inferenceKind = inferenceKind;
+			this.usesUncheckedConversion = usesUncheckedConversion;
+		}
+	}
+
+	private final HashMap<Key, Result> results = new HashMap<>();
+
+	public int hitCount;
+	public int missCount;
+	/* time spent in the inferences which missed, in nanoseconds */
+	private long missTime;
+
+/**
+ * Answer the key of the inference of the given invocation, or null if its outcome cannot be remembered.
+ */
+static Key keyFor(MethodBinding method, TypeBinding[] arguments, InvocationSite invocationSite, InferenceContext18 context,
+		boolean isPolyExpression, Scope scope) {
+	if (!(invocationSite instanceof Invocation) || method.isConstructor() || invocationSite.genericTypeArguments() != null
+			|| context.outerContext != null || !isErrorFree(scope))
+		return null;
+	for (TypeBinding argument : arguments) {
+		if (argument == null || !argument.isValidBinding() || argument.isPolyType() || !argument.isProperType(true))
+			return null;
+	}
+	Expression[] argumentExpressions = ((Invocation) invocationSite).arguments();
+	if (argumentExpressions != null) {
+		try {
+			for (Expression argument : argumentExpressions) {
+				if (argument.isPolyExpression() || argument.getPolyExpressions().length != 0)
+					return null;
+			}
+		} catch (UnsupportedOperationException e) {
+			return null; // not yet known
+		}
+	}
+	TypeBinding expectedType = invocationSite.invocationTargetType();
+	if (expectedType != null && (!expectedType.isValidBinding() || !expectedType.isProperType(true)))
+		return null;
+	return new Key(method, arguments, expectedType, invocationSite.getExpressionContext(), isPolyExpression);
+}
+
+/*
+ * Answer whether no error was reported in the unit of the given scope, and errors are not being ignored.
+ */
+private static boolean isErrorFree(Scope scope) {
+	CompilationUnitDeclaration unit = scope.referenceCompilationUnit();
+	return unit != null && !unit.compilationResult.hasErrors()
+			&& (unit.problemReporter == null || !unit.problemReporter.policy.ignoreAllErrors());
+}
+
+Result get(Key key) {
+	Result result = this.results.get(key);
+	if (result == null)
+		this.missCount++;
+	else
+		this.hitCount++;
+	return result;
+}
+
+void putNotApplicable(Key key, Scope scope) {
+	if (isErrorFree(scope)) // errors may have been reported during the inference
+		put(key, new Result(null, 0, false));
+}
+
+void putSolutions(Key key, TypeBinding[] solutions, InferenceContext18 context, Scope scope) {
+	if (!isErrorFree(scope) || mentionsForeignCapture(solutions, key))
+		return;
+	put(key, new Result(solutions, context.inferenceKind, context.usesUncheckedConversion));
+}
+
+private void put(Key key, Result result) {
+	if (this.results.size() >= MAX_ENTRIES)
+		this.results.clear();
+	this.results.put(key, result);
+}
+
+void recordMissTime(long time) {
+	this.missTime += time;
+}
+
+/**
+ * Answer an estimate of the time saved by reusing results since the counters were last reset,
+ * in nanoseconds: the number of hits times the average time of the inferences which missed.
+ */
+public long getSavedTime() {
+	return this.missCount == 0 ? 0 : this.hitCount * (this.missTime / this.missCount);
+}
+
+public void resetCounters() {
+	this.hitCount = this.missCount = 0;
+	this.missTime = 0;
+}
+
+/*
+ * Answer whether the solutions mention a capture which is not mentioned by the key: such
+ * a capture was created during the inference, for the position of the invocation.
+ */
+private static boolean mentionsForeignCapture(TypeBinding[] solutions, Key key) {
+	Set<TypeBinding> keyCaptures = Collections.newSetFromMap(new IdentityHashMap<>());
+	TypeBindingVisitor keyVisitor = new TypeBindingVisitor() {
+		@Override
+		public boolean visit(TypeVariableBinding typeVariable) {
+			if (typeVariable.isCapture())
+				keyCaptures.add(typeVariable);
+			return true;
+		}
+	};
+	TypeBindingVisitor.visit(keyVisitor, key.arguments);
+	TypeBindingVisitor.visit(keyVisitor, key.expectedType);
+	boolean[] found = new boolean[1];
+	TypeBindingVisitor solutionVisitor = new TypeBindingVisitor() {
+		@Override
+		public boolean visit(TypeVariableBinding typeVariable) {
+			if (typeVariable.isCapture()) {
+				if (!keyCaptures.contains(typeVariable))
+					found[0] = true;
+				return false;
+			}
+			return true;
+		}
+	};
+	TypeBindingVisitor.visit(solutionVisitor, solutions);
+	return found[0];
+}
+
+public void clear() {
+	this.results.clear();
+}
+
+public int size() {
+	return this.results.size();
+}
+}
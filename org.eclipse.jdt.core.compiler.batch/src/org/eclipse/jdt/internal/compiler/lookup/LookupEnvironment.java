@@ -88,6 +88,9 @@ public class LookupEnvironment implements ProblemReasons, TypeConstants {
 	HashtableOfPackage<PackageBinding> knownPackages;
 	private int lastCompletedUnitIndex = -1; 	// ROOT_ONLY
 	private int lastUnitIndex = -1; 			// ROOT_ONLY
+	// lookups missing the binding caches, answered by the name environment (see CompilerStats)
+	public int typeLookupCount;					// ROOT_ONLY
+	public int packageLookupCount;				// ROOT_ONLY
 
 	TypeSystem typeSystem;					 	// SHARED
 
@@ -96,6 +99,8 @@ public class LookupEnvironment implements ProblemReasons, TypeConstants {
 
 	public ProblemReporter problemReporter; 	// SHARED
 	public ClassFilePool classFilePool; 		// SHARED
+	public InferenceResultCache inferenceResults;	// SHARED
+	public MethodLookupCache methodLookups;		// SHARED
 	// indicate in which step on the compilation we are.
 	// step 1 : build the reference binding
 	// step 2 : conect the hierarchy (connect bindings)
@@ -174,6 +179,8 @@ public LookupEnvironment(ITypeRequestor typeRequestor, CompilerOptions globalOpt
 	this.missingTypes = null;
 	this.accessRestrictions = new HashMap(3);
 	this.classFilePool = ClassFilePool.newInstance();
+	this.inferenceResults = new InferenceResultCache();
+	this.methodLookups = new MethodLookupCache();
 	this.typesBeingConnected = new LinkedHashSet<>();
 	this.deferredEnumMethods = new ArrayList<>();
 	this.typeSystem = this.globalOptions.sourceLevel >= ClassFileConstants.JDK1_8 && this.globalOptions.storeAnnotations ? new AnnotatableTypeSystem(this) : new TypeSystem(this);
@@ -199,6 +206,8 @@ LookupEnvironment(LookupEnvironment rootEnv, ModuleBinding module) {
 	this.missingTypes = null;
 	this.accessRestrictions = new HashMap(3);
 	this.classFilePool = rootEnv.classFilePool;
+	this.inferenceResults = rootEnv.inferenceResults;
+	this.methodLookups = rootEnv.methodLookups;
 	this.typesBeingConnected = rootEnv.typesBeingConnected;
 	this.deferredEnumMethods = rootEnv.deferredEnumMethods;
 	this.typeSystem = rootEnv.typeSystem;
@@ -233,6 +242,7 @@ public ModuleBinding getModule(char[] name) {
 
 public ReferenceBinding askForType(char[][] compoundName, /*@NonNull*/ModuleBinding clientModule) {
 	assert clientModule != null : "lookup needs a module"; //$NON-NLS-1$
+	this.root.typeLookupCount++;
 	NameEnvironmentAnswer[] answers = null;
 	if (this.useModuleSystem) {
 		IModuleAwareNameEnvironment moduleEnv = (IModuleAwareNameEnvironment) this.nameEnvironment;
@@ -288,6 +298,7 @@ public ReferenceBinding askForType(char[][] compoundName, /*@NonNull*/ModuleBind
 */
 ReferenceBinding askForType(PackageBinding packageBinding, char[] name, ModuleBinding clientModule) {
 	assert clientModule != null : "lookup needs a module"; //$NON-NLS-1$
+	this.root.typeLookupCount++;
 	if (packageBinding == null) {
 		packageBinding = this.defaultPackage;
 	}
@@ -568,6 +579,14 @@ public void completeTypeBindings(CompilationUnitDeclaration parsedUnit) {
 	}
 }
 
+/*
+* Answer whether the fields and methods of all the known source types are built, so that
+* the outcome of a method lookup cannot change until this environment is reset.
+*/
+boolean areFieldsAndMethodsBuilt() {
+	return this.root.stepCompleted == BUILD_FIELDS_AND_METHODS;
+}
+
 /*
 * Used by other compiler tools which do not start by calling completeTypeBindings().
 *
@@ -2183,6 +2202,8 @@ public void reset() {
 	this.uniqueParameterizedGenericMethodBindings = new SimpleLookupTable(3);
 	this.uniquePolymorphicMethodBindings = new SimpleLookupTable(3);
 	this.uniqueGetClassMethodBinding = null;
+	this.inferenceResults.clear();
+	this.methodLookups.clear();
 	this.missingTypes = null;
 	this.typesBeingConnected = new LinkedHashSet();
 
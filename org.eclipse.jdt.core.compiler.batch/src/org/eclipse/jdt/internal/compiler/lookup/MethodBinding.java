@@ -280,6 +280,14 @@ public final boolean canBeSeenBy(PackageBinding invocationPackage) {
 	return invocationPackage == this.declaringClass.getPackage();
 }
 
+/* The depth of an access to a protected method from an enclosing type is specific to the invocation site,
+* hence the method lookups which set it are not remembered.
+*/
+private static void setDepth(InvocationSite invocationSite, int depth, Scope scope) {
+	scope.environment().methodLookups.dependsOnInvocationSite();
+	invocationSite.setDepth(depth);
+}
+
 /* Answer true if the receiver is visible to the type provided by the scope.
 * InvocationSite implements isSuperAccess() to provide additional information
 * if the receiver is protected.
@@ -327,11 +335,11 @@ public final boolean canBeSeenBy(TypeBinding receiverType, InvocationSite invoca
 				if (receiverType instanceof ArrayBinding)
 					return false;
 				if (isStatic()) {
-					if (depth > 0) invocationSite.setDepth(depth);
+					if (depth > 0) setDepth(invocationSite, depth, scope);
 					return true; // see 1FMEPDL - return invocationSite.isTypeAccess();
 				}
 				if (TypeBinding.equalsEquals(currentType, receiverErasure) || receiverErasure.findSuperTypeOriginatingFrom(currentType) != null) {
-					if (depth > 0) invocationSite.setDepth(depth);
+					if (depth > 0) setDepth(invocationSite, depth, scope);
 					return true;
 				}
 			}
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.lookup;
+
+import java.util.HashMap;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
+
+/**
+ * Results of {@link Scope#findMethod(ReferenceBinding, char[], TypeBinding[], InvocationSite, boolean)},
+ * shared by all the lookups of the same selector with the same receiver type and argument types from
+ * the same type in a {@link LookupEnvironment}, until it is {@link LookupEnvironment#reset() reset}.
+ * <p>
+ * The invoking type is part of the key since it decides which methods are visible, as do the static
+ * context and the kind of access of the invocation site. Since the invoking type also decides the unit
+ * which records the type references made by a lookup, a lookup answered by the cache already recorded
+ * them in the same unit. Only valid methods are remembered, once the fields and methods of all the
+ * source types are built, when found with no explicit type arguments and proper argument types which
+ * are not poly types, by a lookup which neither involved a generic method nor captured a supertype nor
+ * updated the invocation site: these depend on the invocation and are signaled by
+ * {@link #dependsOnInvocationSite()} while the lookup runs.
+ * </p>
+ */
+public class MethodLookupCache {
+
+	/* beyond this number of entries, the cache is cleared rather than grown */
+	private static final int MAX_ENTRIES = 50000;
+
+	private static final int IN_STATIC_CONTEXT = 1;
+	private static final int SUPER_ACCESS = 2;
+	private static final int TYPE_ACCESS = 4;
+	private static final int IMPLICIT_THIS = 8;
+
+	static final class Key {
+		final ReferenceBinding receiverType;
+		final char[] selector;
+		final TypeBinding[] argumentTypes;
+		final SourceTypeBinding invocationType;
+		final int flags;
+		private final int hashCode;
+
+		Key(ReferenceBinding receiverType, char[] selector, TypeBinding[] argumentTypes, SourceTypeBinding invocationType, int flags) {
+			this.receiverType = receiverType;
+			this.selector = selector;
+			this.argumentTypes = argumentTypes;
+			this.invocationType = invocationType;
+			this.flags = flags;
+			int hash = System.identityHashCode(receiverType) * 31 + CharOperation.hashCode(selector);
+			for (TypeBinding argumentType : argumentTypes)
+				hash = hash * 31 + System.identityHashCode(argumentType);
+			this.hashCode = (hash * 31 + System.identityHashCode(invocationType)) * 31 + flags;
+		}
+
+		private Key(Key key, TypeBinding[] argumentTypes) {
+			this.receiverType = key.receiverType;
+			this.selector = key.selector;
+			this.argumentTypes = argumentTypes;
+			this.invocationType = key.invocationType;
+			this.flags = key.flags;
+			this.hashCode = key.hashCode;
+		}
+
+		/* answer the key to store, which does not share the argument types array of the caller, who may update it */
+		Key stored() {
+			return this.argumentTypes.length == 0 ? this : new Key(this, this.argumentTypes.clone());
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			Key that = (Key) other; // homogeneous container.
+			if (this.receiverType != that.receiverType || this.invocationType != that.invocationType //$IDENTITY-COMPARISON$
+					|| this.flags != that.flags || this.argumentTypes.length != that.argumentTypes.length
+					|| !CharOperation.equals(this.selector, that.selector))
+				return false;
+			for (int i = 0; i < this.argumentTypes.length; i++) {
+				if (this.argumentTypes[i] != that.argumentTypes[i]) //$IDENTITY-COMPARISON$
+					return false;
+			}
+			return true;
+		}
+	}
+
+	private final HashMap<Key, MethodBinding> methods = new HashMap<>();
+
+	/* incremented whenever the running lookups depend on their invocation site */
+	int siteDependencies;
+
+	public int hitCount;
+	public int missCount; // including the lookups which cannot be remembered
+
+/**
+ * Answer the key of the lookup of the given selector from the given scope, or null if its outcome cannot be remembered.
+ */
+static Key keyFor(ReferenceBinding receiverType, char[] selector, TypeBinding[] argumentTypes, InvocationSite invocationSite, Scope scope, boolean inStaticContext) {
+	if (invocationSite == null || invocationSite.genericTypeArguments() != null || receiverType.isCapture()
+			|| !scope.environment().areFieldsAndMethodsBuilt())
+		return null;
+	SourceTypeBinding invocationType = scope.enclosingSourceType();
+	if (invocationType == null)
+		return null;
+	for (TypeBinding argumentType : argumentTypes) {
+		if (argumentType == null || !argumentType.isValidBinding() || argumentType.isPolyType() || !argumentType.isProperType(true))
+			return null;
+	}
+	int flags = 0;
+	if (inStaticContext)
+		flags |= IN_STATIC_CONTEXT;
+	if (invocationSite.isSuperAccess())
+		flags |= SUPER_ACCESS;
+	if (invocationSite.isTypeAccess())
+		flags |= TYPE_ACCESS;
+	if (invocationSite.receiverIsImplicitThis())
+		flags |= IMPLICIT_THIS;
+	return new Key(receiverType, selector, argumentTypes, invocationType, flags);
+}
+
+/**
+ * Signal that the lookups running on behalf of some invocation depend on this invocation,
+ * and shall not be remembered.
+ */
+void dependsOnInvocationSite() {
+	this.siteDependencies++;
+}
+
+MethodBinding get(Key key) {
+	MethodBinding method = this.methods.get(key);
+	if (method == null) {
+		this.missCount++;
+	} else {
+		this.hitCount++;
+	}
+	return method;
+}
+
+void put(Key key, MethodBinding method) {
+	if (method == null || !method.isValidBinding() || method instanceof ParameterizedGenericMethodBinding)
+		return;
+	if (this.methods.size() >= MAX_ENTRIES)
+		this.methods.clear();
+	this.methods.put(key.stored(), method);
+}
+
+public void resetCounters() {
+	this.hitCount = this.missCount = 0;
+}
+
+public void clear() {
+	this.methods.clear();
+}
+
+public int size() {
+	return this.methods.size();
+}
+}
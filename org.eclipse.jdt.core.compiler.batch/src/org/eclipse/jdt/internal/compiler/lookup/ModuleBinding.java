@@ -570,6 +570,8 @@ public class ModuleBinding extends Binding implements IUpdatableModule {
 				return pkg;
 		}
 
+		this.environment.root.packageLookupCount++;
+
 		// check cached plain PackageBinding in declaredPackages (which may need combining with siblings):
 		char[][] parentName = parent == null ? CharOperation.NO_CHAR_CHAR : parent.compoundName;
 		char[][] subPkgCompoundName = CharOperation.arrayConcat(parentName, name);
@@ -233,6 +233,17 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 		arguments = argumentsCopy; // either way, this allows the engine to update arguments without harming the callers.
 
 		LookupEnvironment environment = scope.environment();
+		final boolean isPolyExpression = invocationSite instanceof Expression &&   ((Expression) invocationSite).isTrulyExpression() &&
+				((Expression)invocationSite).isPolyExpression(originalMethod);
+		InferenceResultCache inferenceResults = environment.inferenceResults;
+		InferenceResultCache.Key cacheKey = compilerOptions.isAnnotationBasedNullAnalysisEnabled ? null
+				: InferenceResultCache.keyFor(originalMethod, arguments, invocationSite, infCtx18, isPolyExpression, scope);
+		if (cacheKey != null) {
+			InferenceResultCache.Result cached = inferenceResults.get(cacheKey);
+			if (cached != null)
+				return cachedResult(originalMethod, cached, infCtx18, scope, invocationSite);
+		}
+		long inferenceStart = cacheKey != null ? System.nanoTime() : 0;
 		InferenceContext18 previousContext = environment.currentInferenceContext;
 		if (previousContext == null)
 			environment.currentInferenceContext = infCtx18;
@@ -240,8 +251,6 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 			BoundSet provisionalResult = null;
 			BoundSet result = null;
 			// ---- 18.5.1 (Applicability): ----
-			final boolean isPolyExpression = invocationSite instanceof Expression &&   ((Expression) invocationSite).isTrulyExpression() &&
-					((Expression)invocationSite).isPolyExpression(originalMethod);
 			boolean isDiamond = isPolyExpression && originalMethod.isConstructor();
 			if (arguments.length == parameters.length) {
 				infCtx18.inferenceKind = requireBoxing ? InferenceContext18.CHECK_LOOSE : InferenceContext18.CHECK_STRICT; // engine may still slip into loose mode and adjust level.
@@ -255,13 +264,12 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 				infCtx18.inferInvocationApplicability(originalMethod, arguments, isDiamond);
 				result = infCtx18.solve(true);
 			}
-			if (result == null)
-				return null;
-			if (infCtx18.isResolved(result)) {
-				infCtx18.stepCompleted = InferenceContext18.APPLICABILITY_INFERRED;
-			} else {
+			if (result == null || !infCtx18.isResolved(result)) {
+				if (cacheKey != null)
+					inferenceResults.putNotApplicable(cacheKey, scope);
 				return null;
 			}
+			infCtx18.stepCompleted = InferenceContext18.APPLICABILITY_INFERRED;
 			// Applicability succeeded, proceed to infer invocation type, if possible.
 			TypeBinding expectedType = invocationSite.invocationTargetType();
 			boolean hasReturnProblem = false;
@@ -295,6 +303,8 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 							if (problemMethod != null) {
 								return problemMethod;
 							}
+							if (cacheKey != null && !hasReturnProblem)
+								inferenceResults.putSolutions(cacheKey, solutions, infCtx18, scope);
 						} else {
 							methodSubstitute = new PolyParameterizedGenericMethodBinding(methodSubstitute);
 						}
@@ -316,9 +326,32 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 			return null;
 		} finally {
 			environment.currentInferenceContext = previousContext;
+			if (cacheKey != null)
+				inferenceResults.recordMissTime(System.nanoTime() - inferenceStart);
 		}
 	}
 
+	/*
+	 * Answer the method inferred by a previous invocation with the same key, mimicking the side effects of the inference.
+	 */
+	private static MethodBinding cachedResult(MethodBinding originalMethod, InferenceResultCache.Result cached, InferenceContext18 infCtx18,
+			Scope scope, InvocationSite invocationSite) {
+		if (cached.solutions == null)
+			return null;
+		TypeBinding expectedType = invocationSite.invocationTargetType();
+		ParameterizedGenericMethodBinding methodSubstitute = scope.environment().createParameterizedGenericMethod(originalMethod,
+				cached.solutions, cached.usesUncheckedConversion, false, expectedType);
+		Invocation invocation = (Invocation) invocationSite;
+		if (expectedType != null)
+			invocation.registerResult(expectedType, methodSubstitute);
+		// the context is only consulted for its inference kind and completion once the invocation is resolved
+		infCtx18.inferenceKind = cached.inferenceKind;
+		infCtx18.usesUncheckedConversion = cached.usesUncheckedConversion;
+		infCtx18.stepCompleted = InferenceContext18.TYPE_INFERRED_FINAL;
+		invocation.registerInferenceContext(methodSubstitute, infCtx18);
+		return methodSubstitute;
+	}
+
 	MethodBinding boundCheck18(Scope scope, TypeBinding[] arguments, InvocationSite site) {
 		Substitution substitution = this;
 		ParameterizedGenericMethodBinding methodSubstitute = this;
@@ -823,6 +823,7 @@ public abstract class Scope {
 		CompilerOptions compilerOptions = this.compilerOptions();
 		// https://bugs.eclipse.org/bugs/show_bug.cgi?id=330435, inference should kick in only at source 1.5+
 		if (typeVariables != Binding.NO_TYPE_VARIABLES && compilerOptions.sourceLevel >= ClassFileConstants.JDK1_5) { // generic method
+			environment().methodLookups.dependsOnInvocationSite(); // inference depends on the invocation
 			TypeBinding[] newArgs = null;
 			if (compilerOptions.sourceLevel < ClassFileConstants.JDK1_8 || genericTypeArguments != null) { // for 1.8+ inferred calls, we do this inside PGMB.cCM18.
 				for (int i = 0; i < argLength; i++) {
@@ -856,6 +857,7 @@ public abstract class Scope {
 				return new ProblemMethodBinding(method, method.selector, genericTypeArguments, ProblemReasons.TypeParameterArityMismatch);
 			}
 		} else if (typeVariables == Binding.NO_TYPE_VARIABLES && method instanceof ParameterizedGenericMethodBinding) {
+			environment().methodLookups.dependsOnInvocationSite();
 			if (compilerOptions.sourceLevel >= ClassFileConstants.JDK1_8 && invocationSite instanceof Invocation) {
 				Invocation invocation = (Invocation) invocationSite;
 				InferenceContext18 infCtx = invocation.getInferenceContext((ParameterizedGenericMethodBinding) method);
@@ -872,6 +874,7 @@ public abstract class Scope {
 
 		if ((parameterCompatibilityLevel(method, arguments, tiebreakingVarargsMethods)) > NOT_COMPATIBLE) {
 			if (method.hasPolymorphicSignature(this)) {
+				environment().methodLookups.dependsOnInvocationSite();
 				// generate polymorphic method and set polymorphic tagbits as well
 				method.tagBits |= TagBits.AnnotationPolymorphicSignature;
 				return this.environment().createPolymorphicMethod(method, arguments, this);
@@ -1653,6 +1656,16 @@ public abstract class Scope {
 
 	// Internal use only - use findMethod()
 	public MethodBinding findMethod(ReferenceBinding receiverType, char[] selector, TypeBinding[] argumentTypes, InvocationSite invocationSite, boolean inStaticContext) {
+		MethodLookupCache methodLookups = environment().methodLookups;
+		MethodLookupCache.Key key = MethodLookupCache.keyFor(receiverType, selector, argumentTypes, invocationSite, this, inStaticContext);
+		if (key != null) {
+			MethodBinding cached = methodLookups.get(key);
+			if (cached != null)
+				return cached;
+		} else {
+			methodLookups.missCount++;
+		}
+		int siteDependencies = methodLookups.siteDependencies;
 		MethodBinding method = findMethod0(receiverType, selector, argumentTypes, invocationSite, inStaticContext);
 		if (method != null && method.isValidBinding() && method.isVarargs()) {
 			TypeBinding elementType = method.parameters[method.parameters.length - 1].leafComponentType();
@@ -1662,6 +1675,8 @@ public abstract class Scope {
 				}
 			}
 		}
+		if (key != null && methodLookups.siteDependencies == siteDependencies)
+			methodLookups.put(key, method);
 		return method;
 	}
 
@@ -1690,7 +1705,7 @@ public abstract class Scope {
 		MethodVerifier verifier = environment().methodVerifier();
 		while (currentType != null) {
 			unitScope.recordTypeReference(currentType);
-			currentType = (ReferenceBinding) currentType.capture(this, invocationSite == null ? 0 : invocationSite.sourceStart(), invocationSite == null ? 0 : invocationSite.sourceEnd());
+			currentType = captureForLookup(currentType, invocationSite);
 			MethodBinding[] currentMethods = currentType.getMethods(selector, argumentTypes.length);
 			int currentLength = currentMethods.length;
 			if (currentLength > 0) {
@@ -1967,6 +1982,17 @@ public abstract class Scope {
 		return methodBinding;
 	}
 
+	/*
+	 * Capture the given type at the position of the invocation site; the lookups which need a capture
+	 * depend on this position, hence are not remembered by the MethodLookupCache.
+	 */
+	private ReferenceBinding captureForLookup(ReferenceBinding type, InvocationSite invocationSite) {
+		ReferenceBinding captured = (ReferenceBinding) type.capture(this, invocationSite == null ? 0 : invocationSite.sourceStart(), invocationSite == null ? 0 : invocationSite.sourceEnd());
+		if (captured != type) //$IDENTITY-COMPARISON$
+			environment().methodLookups.dependsOnInvocationSite();
+		return captured;
+	}
+
 	protected void findMethodInSuperInterfaces(ReferenceBinding receiverType, char[] selector, ObjectVector found, List<TypeBinding> visitedTypes, InvocationSite invocationSite) {
 		ReferenceBinding currentType = receiverType;
 		ReferenceBinding[] itsInterfaces = currentType.superInterfaces();
@@ -1984,7 +2010,7 @@ public abstract class Scope {
 					visitedTypes.add(uncaptured);
 				}
 				compilationUnitScope().recordTypeReference(currentType);
-				currentType = (ReferenceBinding) currentType.capture(this, invocationSite == null ? 0 : invocationSite.sourceStart(), invocationSite == null ? 0 : invocationSite.sourceEnd());
+				currentType = captureForLookup(currentType, invocationSite);
 				MethodBinding[] currentMethods = currentType.getMethods(selector);
 				if (currentMethods.length > 0) {
 					int foundSize = found.size;
@@ -4548,6 +4574,7 @@ public abstract class Scope {
 
 		boolean isJdk18 = compilerOptions().sourceLevel >= ClassFileConstants.JDK1_8;
 		if (isJdk18 && invocationSite.checkingPotentialCompatibility()) {
+			environment().methodLookups.dependsOnInvocationSite();
 			if (visibleSize != visible.length)
 				System.arraycopy(visible, 0, visible = new MethodBinding[visibleSize], 0, visibleSize);
 			invocationSite.acceptPotentiallyCompatibleMethods(visible);
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.parser;
+
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+
+/**
+ * Iterates over the tokens of a source with a {@link Scanner}, exposing each token as its kind and
+ * its range in the shared source buffer. Unlike {@link Scanner#getCurrentTokenSource()}, moving to
+ * the next token and inspecting it does not allocate, which matters to clients tokenizing large
+ * amounts of source, e.g. for indexing or formatting.
+ * <p>
+ * The range of a token containing escapes (see {@link #hasEscapes()}) is its raw text: only
+ * {@link #getTokenText()} answers the unescaped text. Identifiers are only interned
+ * (see {@link org.eclipse.jdt.internal.compiler.util.CharDeduplication}) when requested on creation.
+ * </p>
+ */
+public final class TokenCursor implements TerminalTokens {
+
+	private final Scanner scanner;
+	private final boolean internIdentifiers;
+	private int kind = TokenNameNotAToken;
+
+public TokenCursor(Scanner scanner, boolean internIdentifiers) {
+	this.scanner = scanner;
+	this.internIdentifiers = internIdentifiers;
+}
+
+/**
+ * Restart the iteration on the given source.
+ */
+public void reset(char[] source) {
+	this.scanner.setSource(source);
+	this.scanner.resetTo(0, this.scanner.source.length - 1);
+	this.kind = TokenNameNotAToken;
+}
+
+/**
+ * Move to the next token.
+ *
+ * @return false if the end of the source is reached
+ */
+public boolean next() throws InvalidInputException {
+	this.kind = this.scanner.getNextToken();
+	return this.kind != TokenNameEOF;
+}
+
+/**
+ * @return the kind of the current token, one of the {@link TerminalTokens}
+ */
+public int kind() {
+	return this.kind;
+}
+
+/**
+ * @return the position of the first character of the current token in {@link #source()}
+ */
+public int start() {
+	return this.scanner.startPosition;
+}
+
+/**
+ * @return the position following the last character of the current token in {@link #source()}
+ */
+public int end() {
+	return this.scanner.currentPosition;
+}
+
+public int length() {
+	return this.scanner.currentPosition - this.scanner.startPosition;
+}
+
+/**
+ * @return the source being tokenized, shared with the scanner: it must not be modified
+ */
+public char[] source() {
+	return this.scanner.source;
+}
+
+/**
+ * @return true if the current token contains unicode escapes or, for a string literal, escape
+ * sequences (e.g. <code>\n</code>), in which case its text differs from its range
+ */
+public boolean hasEscapes() {
+	return this.scanner.withoutUnicodePtr != 0;
+}
+
+/**
+ * Answer whether the text of the current token is the given one, without allocating.
+ */
+public boolean tokenEquals(char[] text) {
+	if (hasEscapes()) {
+		int length = this.scanner.withoutUnicodePtr;
+		if (length != text.length)
+			return false;
+		char[] buffer = this.scanner.withoutUnicodeBuffer;
+		for (int i = 0; i < length; i++) {
+			if (buffer[i + 1] != text[i]) // the first char of the buffer is at position 1
+				return false;
+		}
+		return true;
+	}
+	int start = this.scanner.startPosition;
+	int length = this.scanner.currentPosition - start;
+	if (length != text.length)
+		return false;
+	char[] source = this.scanner.source;
+	for (int i = 0; i < length; i++) {
+		if (source[start + i] != text[i])
+			return false;
+	}
+	return true;
+}
+
+/**
+ * Answer a copy of the (unescaped) text of the current token. Identifiers are interned
+ * if requested on creation, the answered array is then shared and must not be modified.
+ */
+public char[] getTokenText() {
+	if (this.internIdentifiers && this.kind == TokenNameIdentifier)
+		return this.scanner.getCurrentIdentifierSource();
+	return this.scanner.getCurrentTokenSource();
+}
+
+public Scanner getScanner() {
+	return this.scanner;
+}
+}
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.util;
+
+import java.nio.file.FileSystem;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cache of the contents of the class files (and ct.sym signature files) read from JRT images,
+ * shared by all the JRT file systems and {@link CtSym}s. The cache is bounded by the total
+ * number of bytes it holds, and evicts the least recently used contents first.
+ * <p>
+ * Entries are keyed by the path of the file, and held in a concurrent map per file system, i.e. per
+ * JDK image, and for ct.sym files per release directory. Missing files are cached as empty contents.
+ * Reads take no lock: they only stamp the entry they find. When the budget is exceeded, the thread
+ * which added the last contents evicts the least recently stamped ones, down to 7/8 of the budget
+ * so that eviction does not run again for the next contents.
+ * </p>
+ * The byte budget defaults to 128 MB, and can be set in megabytes through the
+ * <code>org.eclipse.jdt.JRT_cache_size</code> system property.
+ */
+public class ClassBytesCache {
+
+	public static final String CACHE_SIZE_PROPERTY = "org.eclipse.jdt.JRT_cache_size"; //$NON-NLS-1$
+	private static final long DEFAULT_BUDGET = 128L * 1024 * 1024;
+	/* approximate memory used by an entry in addition to its bytes */
+	private static final int ENTRY_OVERHEAD = 128;
+
+	private static class Entry {
+		final Optional<byte[]> bytes;
+		final long weight;
+		volatile long lastAccess;
+
+		Entry(Optional<byte[]> bytes, long lastAccess) {
+			this.bytes = bytes;
+			this.weight = ENTRY_OVERHEAD + (bytes.isPresent() ? bytes.get().length : 0);
+			this.lastAccess = lastAccess;
+		}
+	}
+
+	/* an entry considered for eviction, with its access stamp at the time eviction started */
+	private static class Candidate {
+		final Map<Path, Entry> entries;
+		final Path path;
+		final Entry entry;
+		final long lastAccess;
+
+		Candidate(Map<Path, Entry> entries, Path path, Entry entry) {
+			this.entries = entries;
+			this.path = path;
+			this.entry = entry;
+			this.lastAccess = entry.lastAccess;
+		}
+	}
+
+	private final long budget;
+	private final long evictionTarget;
+	private final Map<FileSystem, Map<Path, Entry>> fileSystems = new ConcurrentHashMap<>();
+	private final AtomicLong weight = new AtomicLong();
+	private final AtomicLong clock = new AtomicLong();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+public ClassBytesCache(long budget) {
+	this.budget = budget;
+	this.evictionTarget = budget - budget / 8;
+}
+
+static long getConfiguredBudget() {
+	String size = System.getProperty(CACHE_SIZE_PROPERTY);
+	if (size != null) {
+		try {
+			return Long.parseLong(size.trim()) * 1024 * 1024;
+		} catch (NumberFormatException e) {
+			// use the default
+		}
+	}
+	return DEFAULT_BUDGET;
+}
+
+/**
+ * Answer the cached contents of the given file: empty if the file is known to be missing,
+ * or null if the file is not in the cache.
+ */
+public Optional<byte[]> get(Path path) {
+	Map<Path, Entry> entries = this.fileSystems.get(path.getFileSystem());
+	Entry entry = entries == null ? null : entries.get(path);
+	if (entry == null) {
+		this.missCount.increment();
+		return null;
+	}
+	entry.lastAccess = this.clock.incrementAndGet();
+	this.hitCount.increment();
+	return entry.bytes;
+}
+
+/**
+ * Cache the contents of the given file, evicting the least recently used contents
+ * if the budget is exceeded. Contents larger than the whole budget are not cached.
+ */
+public void put(Path path, Optional<byte[]> bytes) {
+	Entry entry = new Entry(bytes, this.clock.incrementAndGet());
+	if (entry.weight > this.budget)
+		return;
+	FileSystem fileSystem = path.getFileSystem();
+	Map<Path, Entry> entries = this.fileSystems.computeIfAbsent(fileSystem, key -> new ConcurrentHashMap<>());
+	Entry previous = entries.put(path, entry);
+	this.weight.addAndGet(previous == null ? entry.weight : entry.weight - previous.weight);
+	if (this.fileSystems.get(fileSystem) != entries) {
+		// the contents of the file system were dropped meanwhile
+		if (entries.remove(path, entry))
+			this.weight.addAndGet(-entry.weight);
+		return;
+	}
+	// contents added while another thread is evicting are checked by that thread once it is done
+	while (this.weight.get() > this.budget && this.evictionLock.tryLock()) {
+		try {
+			if (!evict())
+				break;
+		} finally {
+			this.evictionLock.unlock();
+		}
+	}
+}
+
+/*
+ * Evict the least recently used contents down to the eviction target, answer whether any was evicted.
+ */
+private boolean evict() {
+	boolean evicted = false;
+	List<Candidate> candidates = new ArrayList<>();
+	for (Map<Path, Entry> entries : this.fileSystems.values()) {
+		for (Map.Entry<Path, Entry> entry : entries.entrySet())
+			candidates.add(new Candidate(entries, entry.getKey(), entry.getValue()));
+	}
+	candidates.sort((candidate1, candidate2) -> Long.compare(candidate1.lastAccess, candidate2.lastAccess));
+	for (int i = 0, length = candidates.size(); i < length && this.weight.get() > this.evictionTarget; i++) {
+		Candidate candidate = candidates.get(i);
+		if (candidate.entries.remove(candidate.path, candidate.entry)) {
+			this.weight.addAndGet(-candidate.entry.weight);
+			this.evictionCount.increment();
+			evicted = true;
+		}
+	}
+	return evicted;
+}
+
+/**
+ * Drop the cached contents of all the files of the given file system.
+ */
+public void remove(FileSystem fileSystem) {
+	Map<Path, Entry> entries = this.fileSystems.remove(fileSystem);
+	if (entries == null)
+		return;
+	for (Map.Entry<Path, Entry> entry : entries.entrySet()) {
+		if (entries.remove(entry.getKey(), entry.getValue()))
+			this.weight.addAndGet(-entry.getValue().weight);
+	}
+}
+
+public void clear() {
+	for (FileSystem fileSystem : this.fileSystems.keySet())
+		remove(fileSystem);
+}
+
+public long getBudget() {
+	return this.budget;
+}
+
+public long getWeight() {
+	return this.weight.get();
+}
+
+public int size() {
+	int size = 0;
+	for (Map<Path, Entry> entries : this.fileSystems.values())
+		size += entries.size();
+	return size;
+}
+
+public long getHitCount() {
+	return this.hitCount.sum();
+}
+
+public long getMissCount() {
+	return this.missCount.sum();
+}
+
+public long getEvictionCount() {
+	return this.evictionCount.sum();
+}
+
+@Override
+public String toString() {
+	StringBuilder builder = new StringBuilder();
+	builder.append("ClassBytesCache [entries="); //$NON-NLS-1$
+	builder.append(size());
+	builder.append(", weight="); //$NON-NLS-1$
+	builder.append(getWeight());
+	builder.append('/');
+	builder.append(this.budget);
+	builder.append(", hits="); //$NON-NLS-1$
+	builder.append(getHitCount());
+	builder.append(", misses="); //$NON-NLS-1$
+	builder.append(getMissCount());
+	builder.append(", evictions="); //$NON-NLS-1$
+	builder.append(getEvictionCount());
+	builder.append(']');
+	return builder.toString();
+}
+}
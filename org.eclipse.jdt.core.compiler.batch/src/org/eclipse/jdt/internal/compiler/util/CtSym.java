@@ -88,17 +88,17 @@ public class CtSym {
 
 	static boolean VERBOSE = false;
 
-	/**
-	 * Map from path (release) inside ct.sym file to all class signatures loaded
-	 */
-	private final Map<Path, Optional<byte[]>> fileCache = new ConcurrentHashMap<>(10007);
-
 	private final Path jdkHome;
 
 	private final Path ctSymFile;
 
 	private FileSystem fs;
 
+	/**
+	 * Last modification time of the ct.sym file when it was opened
+	 */
+	private long timeStamp;
+
 	Path root;
 
 	private boolean isJRE12Plus;
@@ -127,6 +127,7 @@ public class CtSym {
 		if (!exists) {
 			throw new FileNotFoundException("File " + this.ctSymFile + " does not exist"); //$NON-NLS-1$//$NON-NLS-2$
 		}
+		this.timeStamp = Files.getLastModifiedTime(this.ctSymFile).toMillis();
 		FileSystem fst = null;
 		URI uri = URI.create("jar:file:" + this.ctSymFile.toUri().getRawPath()); //$NON-NLS-1$
 		try {
@@ -159,6 +160,17 @@ public class CtSym {
 		return this.fs;
 	}
 
+	/**
+	 * @return true if the ct.sym file was modified or deleted since it was opened
+	 */
+	boolean isOutdated() {
+		try {
+			return Files.getLastModifiedTime(this.ctSymFile).toMillis() != this.timeStamp;
+		} catch (IOException e) {
+			return true;
+		}
+	}
+
 	/**
 	 *
 	 * @return true if this file is from Java 12+ JRE
@@ -370,17 +382,21 @@ public class CtSym {
 		if (DISABLE_CACHE) {
 			return JRTUtil.safeReadBytes(path);
 		} else {
-			Optional<byte[]> bytes = this.fileCache.computeIfAbsent(path, key -> {
+			// class signatures loaded from the path (release) inside ct.sym file are shared with the JRT images
+			ClassBytesCache cache = JRTUtil.getClassBytesCache();
+			Optional<byte[]> bytes = cache.get(path);
+			if (bytes == null) {
 				try {
-					return Optional.ofNullable(JRTUtil.safeReadBytes(key));
+					bytes = Optional.ofNullable(JRTUtil.safeReadBytes(path));
+					cache.put(path, bytes);
 				} catch (ClosedByInterruptException e) {
 					// Don't cache
-					return null;
 				} catch (IOException e) {
 					// remember there is nothing to return
-					return Optional.empty();
+					bytes = Optional.empty();
+					cache.put(path, bytes);
 				}
-			});
+			}
 			if (VERBOSE) {
 				System.out.println("got bytes: " + path); //$NON-NLS-1$
 			}
@@ -77,6 +77,11 @@ public class JRTUtil {
 	 */
 	private static final Map<Path, CtSym> ctSymFiles = new ConcurrentHashMap<>();
 
+	/**
+	 * Contents of the files read from all the JRT images and ct.sym files
+	 */
+	private static final ClassBytesCache classBytesCache = new ClassBytesCache(ClassBytesCache.getConfiguredBudget());
+
 	public interface JrtFileVisitor<T> {
 
 		public default FileVisitResult visitPackage(T dir, T mod, BasicFileAttributes attrs) throws IOException {
@@ -215,9 +220,46 @@ public class JRTUtil {
 		return ctSym;
 	}
 
+	/**
+	 * Drops the cached JRT images and ct.sym files whose underlying files were modified since
+	 * they were opened, e.g. because a JDK was updated in place. The caches are never invalidated
+	 * otherwise, so long running batch compilations (see the batch compiler daemon) call this
+	 * before each compilation.
+	 */
+	public static void invalidateOutdatedCaches() {
+		for (Map.Entry<String, JrtFileSystem> entry : images.entrySet()) {
+			JrtFileSystem system = entry.getValue();
+			if (system.isOutdated() && images.remove(entry.getKey(), system)) {
+				Jdk.pathToRelease.remove(system.jdk.path);
+				if (system.fs != null)
+					classBytesCache.remove(system.fs);
+			}
+		}
+		for (Map.Entry<Path, CtSym> entry : ctSymFiles.entrySet()) {
+			CtSym ctSym = entry.getValue();
+			if (ctSym.isOutdated() && ctSymFiles.remove(entry.getKey(), ctSym)) {
+				classBytesCache.remove(ctSym.getFs());
+				// the zip file system is registered globally, it must be closed to be opened again
+				try {
+					ctSym.getFs().close();
+				} catch (IOException e) {
+					// ignore
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the cache of the class file contents read from JRT images and ct.sym files, shared by all of them
+	 */
+	public static ClassBytesCache getClassBytesCache() {
+		return classBytesCache;
+	}
+
 	/** TEST ONLY (use when changing the "modules.to.load" property). */
 	public static void reset() {
 		images.clear();
+		classBytesCache.clear();
 		MODULE_TO_LOAD = System.getProperty("modules.to.load"); //$NON-NLS-1$
 	}
 
@@ -342,6 +384,11 @@ class JrtFileSystemWithOlderRelease extends JrtFileSystem {
 		this.releaseRoots = this.ctSym.releaseRoots(releaseCode);
 	}
 
+	@Override
+	boolean isOutdated() {
+		return super.isOutdated() || this.ctSym.isOutdated() || !this.ctSym.getFs().isOpen();
+	}
+
 	@Override
 	void walkModuleImage(final JRTUtil.JrtFileVisitor<java.nio.file.Path> visitor, final int notify) throws IOException {
 		for (Path p : this.releaseRoots) {
@@ -477,12 +524,11 @@ class JrtFileSystem {
 	private final Map<String, List<String>> packageToModules = new HashMap<String, List<String>>();
 
 
-	private final Map<Path, Optional<byte[]>> classCache = new ConcurrentHashMap<>(10007);
-
 	FileSystem fs;
 	Path modRoot;
 	Jdk jdk;
 	final String release;
+	private final long imageTimeStamp;
 
 	public static JrtFileSystem getNewJrtFileSystem(Jdk jdk, String release) throws IOException {
 		if (release == null || jdk.sameRelease(release)) {
@@ -502,6 +548,7 @@ class JrtFileSystem {
 	JrtFileSystem(Jdk jdkHome, String release) throws IOException {
 		this.jdk = jdkHome;
 		this.release = release;
+		this.imageTimeStamp = getImageTimeStamp();
 		JRTUtil.MODULE_TO_LOAD = System.getProperty("modules.to.load"); //$NON-NLS-1$
 		HashMap<String, String> env = new HashMap<>();
 		env.put("java.home", this.jdk.path); //$NON-NLS-1$
@@ -511,6 +558,17 @@ class JrtFileSystem {
 		walkJrtForModules();
 	}
 
+	private long getImageTimeStamp() {
+		return new File(this.jdk.path, "lib/modules").lastModified(); //$NON-NLS-1$
+	}
+
+	/**
+	 * @return true if the image of the JDK was modified or deleted since this file system was created
+	 */
+	boolean isOutdated() {
+		return getImageTimeStamp() != this.imageTimeStamp;
+	}
+
 	public List<String> getModulesDeclaringPackage(String qualifiedPackageName, String moduleName) {
 		qualifiedPackageName = qualifiedPackageName.replace('.', '/');
 		String module = this.packageToModule.get(qualifiedPackageName);
@@ -637,18 +695,14 @@ class JrtFileSystem {
 		if(JRTUtil.DISABLE_CACHE) {
 			return JRTUtil.safeReadBytes(path);
 		} else {
-			try {
-				Optional<byte[]> bytes = this.classCache.computeIfAbsent(path, key -> {
-					try {
-						return Optional.ofNullable(JRTUtil.safeReadBytes(key));
-					} catch (IOException e) {
-						throw new RuntimeIOException(e);
-					}
-				});
-				return bytes.orElse(null);
-			} catch (RuntimeIOException rio) {
-				throw rio.getCause();
+			ClassBytesCache cache = JRTUtil.getClassBytesCache();
+			Optional<byte[]> bytes = cache.get(path);
+			if (bytes == null) {
+				// read outside of the cache lock, concurrent readers of the same file may read it twice
+				bytes = Optional.ofNullable(JRTUtil.safeReadBytes(path));
+				cache.put(path, bytes);
 			}
+			return bytes.orElse(null);
 		}
 	}
 
@@ -14,7 +14,6 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.util;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
@@ -26,6 +25,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -401,7 +401,8 @@ public class Util implements SuffixConstants {
 	public static byte[] getFileByteContent(File file) throws IOException {
 		InputStream stream = null;
 		try {
-			stream = new BufferedInputStream(new FileInputStream(file));
+			// not buffered: FileInputStream reads all the bytes at once into an array of the size of the file
+			stream = new FileInputStream(file);
 			return getInputStreamAsByteArray(stream);
 		} finally {
 			if (stream != null) {
@@ -613,10 +614,15 @@ public class Util implements SuffixConstants {
 
 		InputStream stream = null;
 		try {
-			InputStream inputStream = zip.getInputStream(ze);
-			if (inputStream == null) throw new IOException("Invalid zip entry name : " + ze.getName()); //$NON-NLS-1$
-			stream = new BufferedInputStream(inputStream);
-			return readNBytes(stream, (int) ze.getSize());
+			stream = zip.getInputStream(ze);
+			if (stream == null) throw new IOException("Invalid zip entry name : " + ze.getName()); //$NON-NLS-1$
+			long size = ze.getSize();
+			if (size < 0 || size > Integer.MAX_VALUE)
+				return getInputStreamAsByteArray(stream);
+			// inflate directly into an array of the entry size, buffering or reading in chunks only adds copies
+			byte[] contents = new byte[(int) size];
+			int read = stream.readNBytes(contents, 0, contents.length);
+			return read == contents.length ? contents : Arrays.copyOf(contents, read);
 		} finally {
 			if (stream != null) {
 				try {
@@ -985,6 +991,24 @@ public class Util implements SuffixConstants {
 			throw e;
 		}
 	}
+	/**
+	 * Like {@link #writeToDisk(boolean, String, String, ClassFile)}, writing the given buffers
+	 * in sequence through the file channel of the class file, without intermediate copy.
+	 *
+	 * @param generatePackagesStructure a flag to know if the packages structure has to be generated.
+	 * @param outputPath the given output directory
+	 * @param relativeFileName the given relative file name
+	 * @param buffers the bytes of the class file
+	 */
+	public static void writeToDisk(boolean generatePackagesStructure, String outputPath, String relativeFileName, ByteBuffer[] buffers) throws IOException {
+		try (FileChannel channel = getFileOutputStream(generatePackagesStructure, outputPath, relativeFileName).getChannel()) {
+			long remaining = 0;
+			for (ByteBuffer buffer : buffers)
+				remaining += buffer.remaining();
+			while (remaining > 0)
+				remaining -= channel.write(buffers);
+		}
+	}
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public static void recordNestedType(ClassFile classFile, TypeBinding typeBinding) {
 		if (classFile.visitedTypes == null) {
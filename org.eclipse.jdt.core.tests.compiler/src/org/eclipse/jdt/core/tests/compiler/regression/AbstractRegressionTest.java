@@ -90,6 +90,7 @@ import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
 import org.eclipse.jdt.internal.compiler.env.INameEnvironment;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.impl.CompilerStats;
 import org.eclipse.jdt.internal.compiler.impl.IrritantSet;
 import org.eclipse.jdt.internal.compiler.lookup.ReferenceBinding;
 import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
@@ -1270,6 +1271,7 @@ protected static class JavacTestOptions {
 	protected INameEnvironment javaClassLib;
 	protected TestVerifier verifier;
 	protected boolean shouldSwallowCaptureId;
+	protected CompilerStats compilerStats; // statistics of the last compilation of runTest
 	public AbstractRegressionTest(String name) {
 		super(name);
 	}
@@ -3484,6 +3486,7 @@ protected void runNegativeTest(boolean skipJavac, JavacTestOptions javacTestOpti
 		Throwable exception = null;
 		try {
 			batchCompiler.compile(getCompilationUnits(testFiles)); // compile all files together
+			this.compilerStats = batchCompiler.stats;
 		} catch(RuntimeException e){
 			exception = e;
 			throw e;
@@ -38,15 +38,28 @@
 package org.eclipse.jdt.core.tests.compiler.regression;
 
 import java.io.ByteArrayInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
 
 import javax.lang.model.SourceVersion;
 
@@ -56,9 +69,13 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.tests.util.AbstractCompilerTest;
 import org.eclipse.jdt.core.tests.util.Util;
+import org.eclipse.jdt.internal.compiler.ReadManager;
 import org.eclipse.jdt.internal.compiler.batch.ClasspathDirectory;
 import org.eclipse.jdt.internal.compiler.batch.ClasspathJar;
+import org.eclipse.jdt.internal.compiler.batch.ClasspathMultiReleaseJar;
+import org.eclipse.jdt.internal.compiler.batch.CompilerDaemon;
 import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.batch.JarPackageCache;
 import org.eclipse.jdt.internal.compiler.batch.Main;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
 import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
@@ -639,7 +656,12 @@ public void test012(){
         "    -d <dir>           destination directory (if omitted, no directory is\n" +
         "                       created); this option can be overridden per source\n" +
         "                       directory\n" +
+        "    -d <jar>           destination archive, a path ending with .jar or .zip\n" +
+        "                       into which the .class files are written\n" +
         "    -d none            generate no .class files\n" +
+        "    -incremental <dir> compile only the changed source files and those which\n" +
+        "                       depend on them, keeping the state of the compilation\n" +
+        "                       in <dir>; requires -d <dir> and -proc:none\n" +
         "    -encoding <enc>    specify default encoding for all source files. Each\n" +
         "                       file/directory can override it when suffixed with\n" +
         "                       ''[''<enc>'']'' (e.g. X.java[utf8]).\n" +
@@ -765,6 +787,8 @@ public void test012(){
         "    -referenceInfo     compute reference info\n" +
         "    -progress          show progress (only in -log mode)\n" +
         "    -time              display speed information \n" +
+        "    -time:json <file>  write detailed timing, including the time and memory\n" +
+        "                       spent in each phase of each unit, as JSON to <file>\n" +
         "    -noExit            do not call System.exit(n) at end of compilation (n==0\n" +
         "                       if no error)\n" +
         "    -repeat <n>        repeat compilation process <n> times for perf analysis\n" +
@@ -13468,4 +13492,324 @@ public void testIssue89_5() {
 				"error: warnings found and -failOnWarning specified\n",
 				true);
 }
+// method bodies parsed ahead on worker threads, including method references re-parsed during code generation
+public void testParseThreads() throws IOException {
+	int unitCount = 2 * ReadManager.THRESHOLD;
+	List<String> commandLine = new ArrayList<>();
+	commandLine.add("-1.8");
+	commandLine.add("-proc:none");
+	for (int i = 0; i < unitCount; i++) {
+		String sourcePath = OUTPUT_DIR + File.separator + "p" + File.separator + "X" + i + ".java";
+		new File(OUTPUT_DIR, "p").mkdirs();
+		Util.writeToFile(
+			"package p;\n" +
+			"import java.util.function.Supplier;\n" +
+			"public class X" + i + " {\n" +
+			"	public static String name() {\n" +
+			"		Supplier<String> s = X" + ((i + 1) % unitCount) + "::other;\n" +
+			"		return s.get();\n" +
+			"	}\n" +
+			"	static String other() {\n" +
+			"		return \"X" + i + "\";\n" +
+			"	}\n" +
+			"}",
+			sourcePath);
+		commandLine.add(sourcePath);
+	}
+	String setting = System.getProperty("jdt.compiler.parseThreads");
+	try {
+		String[] timings = new String[2];
+		for (int run = 0; run < 2; run++) {
+			System.setProperty("jdt.compiler.parseThreads", run == 0 ? "1" : "4");
+			String timingFile = OUTPUT_DIR + File.separator + "timing" + run + ".json";
+			List<String> arguments = new ArrayList<>(commandLine);
+			arguments.addAll(Arrays.asList("-d", OUTPUT_DIR + File.separator + "bin" + run, "-time:json", timingFile));
+			StringWriter out = new StringWriter();
+			StringWriter err = new StringWriter();
+			boolean succeeded = new Main(new PrintWriter(out), new PrintWriter(err), false /* systemExit */, null /* options */, null /* progress */)
+					.compile(arguments.toArray(new String[arguments.size()]));
+			assertTrue("unexpected error output: " + err, succeeded);
+			timings[run] = Util.fileContent(timingFile);
+		}
+		assertTrue("method bodies parsed ahead without threads: " + timings[0], timings[0].contains("\"parseAhead\": 0,"));
+		assertFalse("no method bodies parsed ahead: " + timings[1], timings[1].contains("\"parseAhead\": 0,"));
+		for (int i = 0; i < unitCount; i++) {
+			String classFile = "p" + File.separator + "X" + i + ".class";
+			byte[] expected = org.eclipse.jdt.internal.compiler.util.Util.getFileByteContent(new File(OUTPUT_DIR + File.separator + "bin0" + File.separator + classFile));
+			byte[] actual = org.eclipse.jdt.internal.compiler.util.Util.getFileByteContent(new File(OUTPUT_DIR + File.separator + "bin1" + File.separator + classFile));
+			assertTrue("different class file " + classFile, Arrays.equals(expected, actual));
+		}
+	} finally {
+		if (setting == null)
+			System.clearProperty("jdt.compiler.parseThreads");
+		else
+			System.setProperty("jdt.compiler.parseThreads", setting);
+	}
+}
+// white-box test for internal API: persistent cache of the packages of a jar
+public void testJarPackageCache() throws IOException {
+	String jarPath = OUTPUT_DIR + File.separator + "lib.jar";
+	Util.createJar(new String[] {
+			"p/q/X.java",
+			"package p.q;\n" +
+			"public class X {}\n"
+		},
+		jarPath,
+		"1.5");
+	File jar = new File(jarPath);
+	File cacheDirectory = new File(OUTPUT_DIR, "packageCache");
+	JarPackageCache cache = new JarPackageCache(cacheDirectory);
+	String canonicalPath = jar.getCanonicalPath();
+	assertNull("unexpected cache entry", cache.read(jar, canonicalPath));
+	Set<String> packageNames = new HashSet<>(Arrays.asList("", "p", "p/q"));
+	Set<String> packagesWithClassFiles = new HashSet<>(Arrays.asList("p/q"));
+	cache.write(jar, canonicalPath, new JarPackageCache.Packages(packageNames, packagesWithClassFiles));
+	JarPackageCache.Packages packages = cache.read(jar, canonicalPath);
+	assertEquals("unexpected package names", packageNames, packages.packageNames);
+	assertEquals("unexpected packages with class files", packagesWithClassFiles, packages.packagesWithClassFiles);
+	assertNull("entry of another jar", cache.read(jar, canonicalPath + "x"));
+	assertTrue(jar.setLastModified(jar.lastModified() + 2000));
+	assertNull("out of date entry", cache.read(jar, canonicalPath));
+}
+// white-box test for internal API: packages of a multi-release jar answered from the persistent cache
+public void testJarPackageCache_multiRelease() throws IOException {
+	File jar = new File(OUTPUT_DIR, "multi.jar");
+	new File(OUTPUT_DIR).mkdirs();
+	try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+		out.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+		out.write("Manifest-Version: 1.0\nMulti-Release: true\n".getBytes());
+		for (String entry : new String[] { "p/X.class", "p/r/readme.txt", "META-INF/versions/11/q/Y.class" }) {
+			out.putNextEntry(new ZipEntry(entry));
+			out.write(new byte[] { 0 });
+		}
+	}
+	File cacheDirectory = new File(OUTPUT_DIR, "multiReleasePackageCache");
+	JarPackageCache.setDefault(new JarPackageCache(cacheDirectory));
+	try {
+		for (int run = 0; run < 2; run++) { // computed, then read from the cache
+			ClasspathJar multiRelease = new ClasspathMultiReleaseJar(jar, true, null, null, "11");
+			multiRelease.initialize();
+			assertNotNull("missing release package", multiRelease.getModulesDeclaringPackage("q", null));
+			assertNotNull("missing package", multiRelease.getModulesDeclaringPackage("p/r", null));
+			assertTrue("missing compilation unit", multiRelease.hasCompilationUnit("p", null));
+			assertFalse("unexpected compilation unit", multiRelease.hasCompilationUnit("p/r", null));
+			multiRelease.reset();
+			ClasspathJar plain = new ClasspathJar(jar, true, null, null);
+			plain.initialize();
+			assertNull("release package seen by a plain jar", plain.getModulesDeclaringPackage("q", null));
+			assertTrue("missing compilation unit", plain.hasCompilationUnit("p", null));
+			plain.reset();
+			assertEquals("unexpected cache files", 2, cacheDirectory.list().length);
+		}
+	} finally {
+		JarPackageCache.setDefault(null);
+	}
+}
+// white-box test for internal API: compilations performed by the batch compiler daemon
+public void testCompilerDaemon() throws Exception {
+	File stateFile = new File(OUTPUT_DIR, "daemon");
+	String sourcePath = OUTPUT_DIR + File.separator + "p" + File.separator + "X.java";
+	new File(OUTPUT_DIR, "p").mkdirs();
+	Util.writeToFile(
+		"package p;\n" +
+		"public class X {\n" +
+		"	int i = \"\";\n" +
+		"}\n",
+		sourcePath);
+	String[] commandLine = new String[] { "-1.8", "-proc:none", "-d", OUTPUT_DIR + File.separator + "bin", sourcePath };
+	StringWriter out = new StringWriter();
+	StringWriter err = new StringWriter();
+	assertNull("unexpected daemon",
+			CompilerDaemon.compile(stateFile, commandLine, new PrintWriter(out), new PrintWriter(err)));
+	CompilerDaemon daemon = new CompilerDaemon(stateFile);
+	daemon.start();
+	Thread server = new Thread(() -> {
+		try {
+			daemon.serve();
+		} catch (IOException e) {
+			// stopped
+		}
+	});
+	server.start();
+	try {
+		assertEquals("unexpected result", Boolean.FALSE,
+				CompilerDaemon.compile(stateFile, commandLine, new PrintWriter(out), new PrintWriter(err)));
+		assertTrue("unexpected error output: " + err, err.toString().contains("Type mismatch: cannot convert from String to int"));
+		Util.writeToFile(
+			"package p;\n" +
+			"public class X {\n" +
+			"	int i = 0;\n" +
+			"}\n",
+			sourcePath);
+		assertEquals("unexpected result", Boolean.TRUE,
+				CompilerDaemon.compile(stateFile, commandLine, new PrintWriter(out), new PrintWriter(err)));
+		assertTrue("missing class file", new File(OUTPUT_DIR + File.separator + "bin" + File.separator + "p" + File.separator + "X.class").exists());
+		assertTrue("daemon not stopped", CompilerDaemon.stop(stateFile));
+		server.join(10000);
+		assertFalse("state file not removed", stateFile.exists());
+	} finally {
+		daemon.stop();
+	}
+}
+// white-box test for internal API: invalid requests do not stop the batch compiler daemon
+public void testCompilerDaemon_invalidRequests() throws Exception {
+	File stateFile = new File(OUTPUT_DIR, "daemon");
+	String sourcePath = OUTPUT_DIR + File.separator + "p" + File.separator + "X.java";
+	new File(OUTPUT_DIR, "p").mkdirs();
+	Util.writeToFile(
+		"package p;\n" +
+		"public class X {}\n",
+		sourcePath);
+	CompilerDaemon daemon = new CompilerDaemon(stateFile);
+	daemon.start();
+	Thread server = new Thread(() -> {
+		try {
+			daemon.serve();
+		} catch (IOException e) {
+			// stopped
+		}
+	});
+	server.start();
+	try {
+		List<String> state = Files.readAllLines(stateFile.toPath(), StandardCharsets.UTF_8);
+		int port = Integer.parseInt(state.get(0));
+		byte[] token = state.get(1).getBytes(StandardCharsets.UTF_8);
+		int[][] lengths = {
+			{ -1 }, // token length
+			{ Integer.MAX_VALUE }, // token length
+			{ token.length, 1 /* compile */, -1 }, // length of the working directory
+			{ token.length, 1 /* compile */, 0, Integer.MAX_VALUE }, // argument count
+			{ token.length, 1 /* compile */, 0, 1, -5 }, // argument length
+		};
+		for (int[] request : lengths) {
+			try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+				DataOutputStream output = new DataOutputStream(socket.getOutputStream());
+				for (int i = 0; i < request.length; i++) {
+					output.writeInt(request[i]);
+					if (i == 0 && request[0] == token.length)
+						output.write(token);
+				}
+				output.flush();
+				assertEquals("unexpected reply", -1, socket.getInputStream().read());
+			}
+		}
+		StringWriter out = new StringWriter();
+		StringWriter err = new StringWriter();
+		String[] commandLine = new String[] { "-1.8", "-proc:none", "-d", OUTPUT_DIR + File.separator + "bin", sourcePath };
+		assertEquals("unexpected result: " + err, Boolean.TRUE,
+				CompilerDaemon.compile(stateFile, commandLine, new PrintWriter(out), new PrintWriter(err)));
+		assertTrue("daemon not stopped", CompilerDaemon.stop(stateFile));
+		server.join(10000);
+	} finally {
+		daemon.stop();
+	}
+}
+public void testTimingFile() throws Exception {
+	String sourcePath = OUTPUT_DIR + File.separator + "p" + File.separator + "X.java";
+	String timingFile = OUTPUT_DIR + File.separator + "timing.json";
+	new File(OUTPUT_DIR, "p").mkdirs();
+	Util.writeToFile(
+		"package p;\n" +
+		"import java.util.List;\n" +
+		"public class X {\n" +
+		"	int size(List<String> list) { return list.size(); }\n" +
+		"}\n",
+		sourcePath);
+	StringWriter out = new StringWriter();
+	StringWriter err = new StringWriter();
+	boolean succeeded = new Main(new PrintWriter(out), new PrintWriter(err), false /* systemExit */, null /* options */, null /* progress */)
+			.compile(new String[] { "-1.8", "-proc:none", "-d", OUTPUT_DIR + File.separator + "bin", "-time:json", timingFile, sourcePath });
+	assertTrue("unexpected error output: " + err, succeeded);
+	assertTrue("missing phase times: " + out, out.toString().contains("[parse: "));
+	assertTrue("missing slowest units: " + out, out.toString().contains("[1 slowest units:]"));
+	String json = Util.fileContent(timingFile);
+	assertTrue("missing phases: " + json, json.contains("\"phases\": {\n    \"parse\": { \"time\": "));
+	assertTrue("missing unit: " + json, json.contains("{ \"file\": \"" + sourcePath.replace("\\", "\\\\") + "\", \"parse\": { \"time\": "));
+	assertFalse("missing type lookups: " + json, json.contains("\"types\": 0,"));
+}
+// class files streamed into an archive by several writers
+public void testArchiveDestination() throws IOException {
+	String setting = System.getProperty("jdt.compiler.outputWriters");
+	String archivePath = OUTPUT_DIR + File.separator + "bin.jar";
+	try {
+		System.setProperty("jdt.compiler.outputWriters", "2");
+		this.runConformTest(
+			new String[] {
+				"p/X.java",
+				"package p;\n" +
+				"public class X {\n" +
+				"	class Y {}\n" +
+				"	Runnable r = () -> {};\n" +
+				"}",
+				"q/Z.java",
+				"package q;\n" +
+				"public class Z extends p.X {}",
+			},
+			"\"" + OUTPUT_DIR +  File.separator + "p" + File.separator + "X.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "q" + File.separator + "Z.java\""
+			+ " -1.8 -proc:none -d \"" + archivePath + "\"",
+			"",
+			"",
+			true);
+		assertTrue("archive is a directory", new File(archivePath).isFile());
+		try (ZipFile archive = new ZipFile(archivePath)) {
+			assertNotNull("missing manifest", archive.getEntry("META-INF/MANIFEST.MF"));
+			assertNotNull("missing class file", archive.getEntry("p/X.class"));
+			assertNotNull("missing class file", archive.getEntry("p/X$Y.class"));
+			assertNotNull("missing class file", archive.getEntry("q/Z.class"));
+			assertEquals("unexpected entries", 4, archive.size());
+		}
+	} finally {
+		if (setting == null)
+			System.clearProperty("jdt.compiler.outputWriters");
+		else
+			System.setProperty("jdt.compiler.outputWriters", setting);
+	}
+}
+// only the changed units and those depending on their structure are compiled again
+public void testIncrementalCompilation() throws IOException {
+	String sourceDir = OUTPUT_DIR + File.separator + "src";
+	String[] commandLine = new String[] { "-17", "-proc:none", "-verbose",
+			"-incremental", OUTPUT_DIR + File.separator + "state", "-d", OUTPUT_DIR + File.separator + "bin", sourceDir };
+	new File(sourceDir, "p").mkdirs();
+	String aPath = sourceDir + File.separator + "p" + File.separator + "A.java";
+	Util.writeToFile(
+		"package p;\n" +
+		"public class A { public int m() { return 1; } }\n",
+		aPath);
+	Util.writeToFile(
+		"package p;\n" +
+		"public class B { Object x = new A().m(); }\n",
+		sourceDir + File.separator + "p" + File.separator + "B.java");
+	Util.writeToFile(
+		"package p;\n" +
+		"public class C { }\n",
+		sourceDir + File.separator + "p" + File.separator + "C.java");
+	assertEquals("unexpected units", "A.java B.java C.java", compiledUnits(commandLine));
+	assertEquals("unexpected units", "", compiledUnits(commandLine));
+	Util.writeToFile(
+		"package p;\n" +
+		"public class A { public int m() { return 12; } }\n",
+		aPath);
+	assertEquals("unexpected units", "A.java", compiledUnits(commandLine));
+	Util.writeToFile(
+		"package p;\n" +
+		"public class A { public long m() { return 12; } }\n",
+		aPath);
+	assertEquals("unexpected units", "A.java B.java", compiledUnits(commandLine));
+}
+private String compiledUnits(String[] commandLine) {
+	StringWriter out = new StringWriter();
+	StringWriter err = new StringWriter();
+	boolean succeeded = new Main(new PrintWriter(out), new PrintWriter(err), false /* systemExit */, null /* options */, null /* progress */)
+			.compile(commandLine);
+	assertTrue("unexpected error output: " + err, succeeded);
+	List<String> units = new ArrayList<>();
+	for (String line : out.toString().split("\\R")) {
+		if (line.startsWith("[completed "))
+			units.add(new File(line.substring("[completed ".length(), line.lastIndexOf(" - #")).trim()).getName());
+	}
+	units.sort(null);
+	return String.join(" ", units);
+}
 }
@@ -97,6 +97,14 @@ public class ClassFileComparatorTest extends AbstractRegressionTest {
 		}
 	}
 
+	private long structuralFingerprint(String classFile) {
+		try {
+			return ClassFileReader.read(EVAL_DIRECTORY + File.separator + classFile + ".class").getStructuralFingerprint();
+		} catch(IOException | ClassFormatException e) {
+			throw new AssertionError(e);
+		}
+	}
+
 	public void test001() {
 		try {
 			String sourceA001 =
@@ -471,4 +479,81 @@ public class ClassFileComparatorTest extends AbstractRegressionTest {
 			removeTempClass("A016");
 		}
 	}
+
+	public void test017() {
+		try {
+			String sourceA017 =
+				"public class A017 {\n" +
+				"  public static final int C = 1;\n" +
+				"  public int foo() {\n" +
+				"    return 2;\n" +
+				"  }\n" +
+				"  private void bar() {\n" +
+				"  }\n" +
+				"}";
+			compileAndDeploy(sourceA017, "A017");
+			String sourceA017_2 =
+				"public class A017_2 {\n" +
+				"  private void bar() {\n" +
+				"    foo();\n" +
+				"  }\n" +
+				"  public int foo() {\n" +
+				"    return new Object() { int i = 3; }.i;\n" +
+				"  }\n" +
+				"  public static final int C = 1;\n" +
+				"}";
+			compileAndDeploy(sourceA017_2, "A017_2");
+			assertTrue(!areStructurallyDifferent("A017", "A017_2", true, true));
+			assertEquals(structuralFingerprint("A017"), structuralFingerprint("A017_2"));
+		} finally {
+			removeTempClass("A017");
+		}
+	}
+
+	public void test018() {
+		try {
+			String sourceA018 =
+				"public class A018 {\n" +
+				"  public static final int C = 1;\n" +
+				"}";
+			compileAndDeploy(sourceA018, "A018");
+			String sourceA018_2 =
+				"public class A018_2 {\n" +
+				"  public static final int C = 2;\n" +
+				"}";
+			compileAndDeploy(sourceA018_2, "A018_2");
+			assertTrue(areStructurallyDifferent("A018", "A018_2", true, true));
+			assertTrue(structuralFingerprint("A018") != structuralFingerprint("A018_2"));
+		} finally {
+			removeTempClass("A018");
+		}
+	}
+
+	public void test019() {
+		try {
+			String sourceA019 =
+				"public class A019 {\n" +
+				"  public void foo() throws java.io.IOException {\n" +
+				"  }\n" +
+				"}";
+			compileAndDeploy(sourceA019, "A019");
+			String sourceA019_2 =
+				"public class A019_2 {\n" +
+				"  /** @deprecated */\n" +
+				"  public void foo() throws java.io.IOException {\n" +
+				"  }\n" +
+				"}";
+			compileAndDeploy(sourceA019_2, "A019_2");
+			String sourceA019_3 =
+				"public class A019_3 {\n" +
+				"  public void foo() {\n" +
+				"  }\n" +
+				"}";
+			compileAndDeploy(sourceA019_3, "A019_3");
+			assertTrue(structuralFingerprint("A019") != structuralFingerprint("A019_2"));
+			assertTrue(structuralFingerprint("A019") != structuralFingerprint("A019_3"));
+		} finally {
+			removeTempClass("A019");
+		}
+	}
 }
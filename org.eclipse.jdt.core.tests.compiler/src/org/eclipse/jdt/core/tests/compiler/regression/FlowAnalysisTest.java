@@ -4706,6 +4706,43 @@ public void testBug548318_030() {
 			null,
 			true);
 }
+// copies of the flow info of a method with many locals share their extra bits until written
+public void testManyLocals() {
+	int count = 400;
+	StringBuilder declarations = new StringBuilder("		int v0");
+	StringBuilder thenAssignments = new StringBuilder("		if (b) {");
+	StringBuilder elseAssignments = new StringBuilder("		} else {");
+	StringBuilder sum = new StringBuilder("		return v0");
+	for (int i = 1; i < count; i++) {
+		declarations.append(", v").append(i);
+		sum.append(" + v").append(i);
+	}
+	for (int i = 0; i < count; i++) {
+		thenAssignments.append(" v").append(i).append(" = ").append(i).append(';');
+		if (i != count - 2)
+			elseAssignments.append(" v").append(i).append(" = ").append(i).append(';');
+	}
+	String returnStatement = sum.append(';').toString();
+	int start = returnStatement.indexOf(" v" + (count - 2) + " ") + 1;
+	this.runNegativeTest(
+		new String[] {
+			"X.java",
+			"public class X {\n" +
+			"	int m(boolean b) {\n" +
+			declarations + ";\n" +
+			thenAssignments + "\n" +
+			elseAssignments + " }\n" +
+			returnStatement + "\n" +
+			"	}\n" +
+			"}\n"
+		},
+		"----------\n" +
+		"1. ERROR in X.java (at line 6)\n" +
+		"	" + returnStatement.trim() + "\n" +
+		"	" + " ".repeat(start - 2) + "^^^^\n" +
+		"The local variable v" + (count - 2) + " may not have been initialized\n" +
+		"----------\n");
+}
 public static Class testClass() {
 	return FlowAnalysisTest.class;
 }
@@ -10379,4 +10379,85 @@ public void testBug508834_comment0() {
 				"}\n"
 			});
 	}
+	// results of the inference of identical invocations are reused
+	public void testInferenceResultReuse() {
+		runConformTest(
+			new String[] {
+				"X.java",
+				"import java.util.*;\n" +
+				"public class X {\n" +
+				"	static <T> List<T> listOf(T t) { return new ArrayList<>(Collections.singletonList(t)); }\n" +
+				"	static <T extends Comparable<? super T>> T max(Collection<? extends T> c) { return Collections.max(c); }\n" +
+				"	static <T> T first(List<? extends T> l) { return l.get(0); }\n" +
+				"	public static void main(String[] args) {\n" +
+				"		List<? extends Number> numbers = Arrays.asList(1, 2);\n" +
+				"		Number n1 = first(numbers);\n" +
+				"		Number n2 = first(numbers);\n" +
+				"		Object o = first(numbers);\n" +
+				"		List<String> s1 = listOf(\"a\");\n" +
+				"		List<Object> s2 = listOf(\"b\");\n" +
+				"		String m1 = max(s1);\n" +
+				"		String m2 = max(s1);\n" +
+				"		System.out.println(\"\" + n1 + n2 + o + s1 + s2 + m1 + m2);\n" +
+				"	}\n" +
+				"}\n"
+			},
+			"111[a][b]aa");
+		assertTrue("inference result not reused", this.compilerStats.inferenceCacheHitCount > 0);
+	}
+	public void testInferenceResultReuse_problems() {
+		runNegativeTest(
+			new String[] {
+				"X.java",
+				"import java.util.*;\n" +
+				"public class X {\n" +
+				"	static <T> T first(List<T> l) { return l.get(0); }\n" +
+				"	void test(List<String> strings) {\n" +
+				"		String s1 = first(strings);\n" +
+				"		String s2 = first(strings);\n" +
+				"		Integer i1 = first(strings);\n" +
+				"		Integer i2 = first(strings);\n" +
+				"	}\n" +
+				"}\n"
+			},
+			"----------\n" +
+			"1. ERROR in X.java (at line 7)\n" +
+			"	Integer i1 = first(strings);\n" +
+			"	             ^^^^^^^^^^^^^^\n" +
+			"Type mismatch: cannot convert from String to Integer\n" +
+			"----------\n" +
+			"2. ERROR in X.java (at line 8)\n" +
+			"	Integer i2 = first(strings);\n" +
+			"	             ^^^^^^^^^^^^^^\n" +
+			"Type mismatch: cannot convert from String to Integer\n" +
+			"----------\n");
+		assertTrue("inference result not reused", this.compilerStats.inferenceCacheHitCount > 0);
+	}
+	// the outcome of an inference with an argument which has errors is not reused by a correct invocation
+	public void testInferenceResultReuse_argumentErrors() {
+		runNegativeTest(
+			new String[] {
+				"X.java",
+				"import java.util.*;\n" +
+				"public class X {\n" +
+				"	<V> List<V> deco(Runnable r, List<V> l) { return l; }\n" +
+				"	void test(Runnable c) {\n" +
+				"		List<Void> t = deco(c, new ArrayList<Void>(Missing.values()));\n" +
+				"		ArrayList<Void> s = new ArrayList<Void>();\n" +
+				"		List<Void> u = deco(c, s);\n" +
+				"	}\n" +
+				"}\n"
+			},
+			"----------\n" +
+			"1. ERROR in X.java (at line 5)\n" +
+			"	List<Void> t = deco(c, new ArrayList<Void>(Missing.values()));\n" +
+			"	               ^^^^\n" +
+			"The method deco(Runnable, List<V>) in the type X is not applicable for the arguments (Runnable, ArrayList<Void>)\n" +
+			"----------\n" +
+			"2. ERROR in X.java (at line 5)\n" +
+			"	List<Void> t = deco(c, new ArrayList<Void>(Missing.values()));\n" +
+			"	                                           ^^^^^^^\n" +
+			"Missing cannot be resolved\n" +
+			"----------\n");
+	}
 }
@@ -3700,6 +3700,65 @@ public void testBug577350_002() {
 		},
 		"");
 }
+// the same lookup from types which see different methods
+public void testMethodLookupFromDifferentTypes() {
+	this.runConformTest(
+		new String[] {
+			"p/A.java",
+			"package p;\n" +
+			"public class A {\n" +
+			"	public String f(Object o) { return \"f(Object)\"; }\n" +
+			"	String f(String s) { return \"f(String)\"; }\n" +
+			"	protected String g(String s) { return \"g(String)\"; }\n" +
+			"}\n",
+			"p/B.java",
+			"package p;\n" +
+			"public class B {\n" +
+			"	public static String test(A a) { return a.f(\"\") + a.f(\"\") + a.g(\"\"); }\n" +
+			"}\n",
+			"X.java",
+			"public class X extends p.A {\n" +
+			"	String test() { return f(\"\") + this.f(\"\") + g(\"\"); }\n" +
+			"	class Inner {\n" +
+			"		String test() { return f(\"\") + g(\"\") + g(\"\"); }\n" +
+			"	}\n" +
+			"	public static void main(String[] args) {\n" +
+			"		X x = new X();\n" +
+			"		System.out.println(p.B.test(x) + \"|\" + x.test() + \"|\" + x.new Inner().test() + \"|\" + p.B.test(x));\n" +
+			"	}\n" +
+			"}\n",
+		},
+		"f(String)f(String)g(String)|f(Object)f(Object)g(String)|f(Object)g(String)g(String)|f(String)f(String)g(String)");
+}
+public void testMethodLookupFromDifferentTypes_problems() {
+	this.runNegativeTest(
+		new String[] {
+			"p/A.java",
+			"package p;\n" +
+			"public class A {\n" +
+			"	void h(String s) {}\n" +
+			"	void test() { h(\"\"); h(\"\"); }\n" +
+			"}\n",
+			"X.java",
+			"public class X {\n" +
+			"	void test(p.A a) {\n" +
+			"		a.h(\"\");\n" +
+			"		a.h(\"\");\n" +
+			"	}\n" +
+			"}\n",
+		},
+		"----------\n" +
+		"1. ERROR in X.java (at line 3)\n" +
+		"	a.h(\"\");\n" +
+		"	  ^\n" +
+		"The method h(String) from the type A is not visible\n" +
+		"----------\n" +
+		"2. ERROR in X.java (at line 4)\n" +
+		"	a.h(\"\");\n" +
+		"	  ^\n" +
+		"The method h(String) from the type A is not visible\n" +
+		"----------\n");
+}
 public static Class testClass() {	return LookupTest.class;
 }
 }
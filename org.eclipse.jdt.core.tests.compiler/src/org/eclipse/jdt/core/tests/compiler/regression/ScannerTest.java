@@ -21,6 +21,7 @@ import org.eclipse.jdt.core.compiler.InvalidInputException;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
 import org.eclipse.jdt.internal.compiler.parser.Scanner;
 import org.eclipse.jdt.internal.compiler.parser.TerminalTokens;
+import org.eclipse.jdt.internal.compiler.parser.TokenCursor;
 
 import junit.framework.Test;
 
@@ -1857,4 +1858,74 @@ public class ScannerTest extends AbstractRegressionTest {
 			assertTrue(false);
 		}
 	}
+
+	public void testTokenCursor() throws InvalidInputException {
+		char[] source = "int \\u0061b = ab + 12;".toCharArray();
+		Scanner scanner = new Scanner(false, false, false, ClassFileConstants.JDK17, null, null, true);
+		TokenCursor cursor = new TokenCursor(scanner, true);
+		cursor.reset(source);
+		assertTrue(cursor.next());
+		assertEquals(TerminalTokens.TokenNameint, cursor.kind());
+		assertEquals(0, cursor.start());
+		assertEquals(3, cursor.end());
+		assertSame(source, cursor.source());
+		assertTrue(cursor.next());
+		assertEquals(TerminalTokens.TokenNameIdentifier, cursor.kind());
+		assertTrue(cursor.hasEscapes());
+		assertEquals(4, cursor.start());
+		assertEquals(11, cursor.end());
+		assertTrue(cursor.tokenEquals("ab".toCharArray()));
+		assertEquals("ab", new String(cursor.getTokenText()));
+		assertTrue(cursor.next());
+		assertEquals(TerminalTokens.TokenNameEQUAL, cursor.kind());
+		assertTrue(cursor.next());
+		assertFalse(cursor.hasEscapes());
+		assertTrue(cursor.tokenEquals("ab".toCharArray()));
+		assertFalse(cursor.tokenEquals("a".toCharArray()));
+		char[] identifier = cursor.getTokenText();
+		assertEquals("ab", new String(identifier));
+		assertTrue(cursor.next());
+		assertEquals(TerminalTokens.TokenNamePLUS, cursor.kind());
+		assertTrue(cursor.next());
+		assertEquals(TerminalTokens.TokenNameIntegerLiteral, cursor.kind());
+		assertEquals(2, cursor.length());
+		assertTrue(cursor.next());
+		assertEquals(TerminalTokens.TokenNameSEMICOLON, cursor.kind());
+		assertFalse(cursor.next());
+		assertEquals(TerminalTokens.TokenNameEOF, cursor.kind());
+		// interned identifiers are shared
+		cursor.reset(source);
+		for (int i = 0; i < 4; i++)
+			cursor.next();
+		assertSame(identifier, cursor.getTokenText());
+	}
+
+	public void testTokenCursor_escapeSequences() throws InvalidInputException {
+		char[] source = "s = \"a\\n\" + \"ab\" + '\\t';".toCharArray();
+		Scanner scanner = new Scanner(false, false, false, ClassFileConstants.JDK17, null, null, true);
+		TokenCursor cursor = new TokenCursor(scanner, true);
+		cursor.reset(source);
+		assertTrue(cursor.next());
+		assertFalse(cursor.hasEscapes());
+		assertTrue(cursor.next());
+		assertTrue(cursor.next());
+		assertEquals(TerminalTokens.TokenNameStringLiteral, cursor.kind());
+		assertTrue(cursor.hasEscapes());
+		assertEquals(4, cursor.start());
+		assertEquals(9, cursor.end());
+		assertTrue(cursor.tokenEquals("\"a\n\"".toCharArray()));
+		assertFalse(cursor.tokenEquals("\"a\\n\"".toCharArray()));
+		assertEquals("\"a\n\"", new String(cursor.getTokenText()));
+		assertTrue(cursor.next());
+		assertTrue(cursor.next());
+		assertEquals(TerminalTokens.TokenNameStringLiteral, cursor.kind());
+		assertFalse(cursor.hasEscapes());
+		assertTrue(cursor.tokenEquals("\"ab\"".toCharArray()));
+		assertTrue(cursor.next());
+		assertTrue(cursor.next());
+		assertEquals(TerminalTokens.TokenNameCharacterLiteral, cursor.kind());
+		// escape sequences of character literals are not translated by the scanner
+		assertFalse(cursor.hasEscapes());
+		assertTrue(cursor.tokenEquals("'\\t'".toCharArray()));
+	}
 }
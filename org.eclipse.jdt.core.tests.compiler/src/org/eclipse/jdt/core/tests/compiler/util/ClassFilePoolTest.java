@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.compiler.util;
+
+import org.eclipse.jdt.core.tests.junit.extension.TestCase;
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.ClassFilePool;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.junit.Test;
+
+public class ClassFilePoolTest extends TestCase {
+
+	private final CompilerOptions options = new CompilerOptions();
+
+	public ClassFilePoolTest(String name) {
+		super(name);
+	}
+
+	private ClassFile[] acquire(ClassFilePool pool, int count) {
+		ClassFile[] classFiles = new ClassFile[count];
+		for (int i = 0; i < count; i++)
+			classFiles[i] = pool.acquireForModule(null, this.options);
+		return classFiles;
+	}
+
+	private void release(ClassFilePool pool, ClassFile[] classFiles) {
+		for (ClassFile classFile : classFiles)
+			pool.release(classFile);
+	}
+
+	@Test
+	public void testAcquireRelease() {
+		ClassFilePool pool = ClassFilePool.newInstance(2);
+		ClassFile[] classFiles = acquire(pool, 3);
+		assertEquals(3, pool.getAllocationCount());
+		release(pool, classFiles);
+		assertEquals("pool bound", 2, pool.getPooledCount());
+		pool.release(classFiles[0]); // released twice
+		assertEquals("pool bound", 2, pool.getPooledCount());
+		ClassFile reused = pool.acquireForModule(null, this.options);
+		assertTrue("not a released class file", reused == classFiles[1] || reused == classFiles[2]);
+		assertEquals(1, pool.getReuseCount());
+		assertEquals(1, pool.getPooledCount());
+		acquire(pool, 2);
+		assertEquals(2, pool.getReuseCount());
+		assertEquals(4, pool.getAllocationCount());
+		assertEquals(0, pool.getPooledCount());
+	}
+
+	@Test
+	public void testReset() {
+		ClassFilePool pool = ClassFilePool.newInstance(2);
+		ClassFile[] beforeReset = acquire(pool, 2);
+		pool.release(beforeReset[0]);
+		pool.reset();
+		assertEquals(0, pool.getPooledCount());
+		assertEquals(0, pool.getAllocationCount());
+		ClassFile[] afterReset = acquire(pool, 2);
+		assertEquals(2, pool.getAllocationCount());
+		// class files acquired before the reset never make the pool exceed its size
+		pool.release(beforeReset[1]);
+		release(pool, afterReset);
+		assertEquals("pool bound", 2, pool.getPooledCount());
+	}
+
+	@Test
+	public void testEmptyPool() {
+		ClassFilePool pool = ClassFilePool.newInstance(0);
+		ClassFile[] classFiles = acquire(pool, 2);
+		release(pool, classFiles);
+		assertEquals(0, pool.getPooledCount());
+		acquire(pool, 1);
+		assertEquals(0, pool.getReuseCount());
+		assertEquals(3, pool.getAllocationCount());
+	}
+}
@@ -14,11 +14,15 @@
 package org.eclipse.jdt.core.tests.compiler.util;
 
 import java.io.File;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.tests.junit.extension.TestCase;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.util.ClassBytesCache;
 import org.eclipse.jdt.internal.compiler.util.JRTUtil;
 import org.junit.Before;
 import org.junit.Test;
@@ -71,6 +75,87 @@ public class JrtUtilTest extends TestCase {
 		assertSame(jrtSystem, jrtSystem3);
 	}
 
+	@Test
+	public void testClassBytesCache() {
+		ClassBytesCache cache = new ClassBytesCache(1000);
+		Path a = Paths.get("a");
+		Path b = Paths.get("b");
+		Path c = Paths.get("c");
+		Path d = Paths.get("d");
+		assertNull(cache.get(a));
+		cache.put(a, Optional.of(new byte[300]));
+		cache.put(b, Optional.empty());
+		assertEquals(300, cache.get(a).get().length);
+		assertFalse(cache.get(b).isPresent());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(2, cache.getHitCount());
+		cache.put(c, Optional.of(new byte[300]));
+		assertEquals(0, cache.getEvictionCount());
+		// b is the least recently used entry, then a: eviction goes down to 7/8 of the budget
+		cache.get(a);
+		cache.get(c);
+		cache.put(d, Optional.empty());
+		assertEquals(2, cache.getEvictionCount());
+		assertNull(cache.get(b));
+		assertNull(cache.get(a));
+		assertNotNull(cache.get(c));
+		assertNotNull(cache.get(d));
+		assertTrue(cache.getWeight() <= cache.getBudget() - cache.getBudget() / 8);
+		// larger than the budget
+		cache.put(b, Optional.of(new byte[1000]));
+		assertNull(cache.get(b));
+		cache.remove(FileSystems.getDefault());
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getWeight());
+	}
+
+	@Test
+	public void testClassBytesCache_concurrentAccess() throws Exception {
+		ClassBytesCache cache = new ClassBytesCache(64 * 1024);
+		int threadCount = 4;
+		int accessCount = 10000;
+		Thread[] threads = new Thread[threadCount];
+		Throwable[] failures = new Throwable[threadCount];
+		for (int t = 0; t < threadCount; t++) {
+			int thread = t;
+			threads[t] = new Thread(() -> {
+				try {
+					for (int i = 0; i < accessCount; i++) {
+						Path path = Paths.get("f" + (i * 7 + thread) % 500);
+						Optional<byte[]> bytes = cache.get(path);
+						if (bytes == null)
+							cache.put(path, Optional.of(new byte[path.toString().length() * 100]));
+						else
+							assertEquals(path.toString().length() * 100, bytes.get().length);
+					}
+				} catch (Throwable e) {
+					failures[thread] = e;
+				}
+			});
+			threads[t].start();
+		}
+		for (int t = 0; t < threadCount; t++) {
+			threads[t].join();
+			if (failures[t] != null)
+				throw new AssertionError(failures[t]);
+		}
+		assertEquals(threadCount * accessCount, cache.getHitCount() + cache.getMissCount());
+		assertTrue(cache.getEvictionCount() > 0);
+		assertTrue(cache.getWeight() <= cache.getBudget());
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getWeight());
+	}
+
+	@Test
+	public void testSharedClassBytesCache() throws Exception {
+		ClassBytesCache cache = JRTUtil.getClassBytesCache();
+		assertNotNull(JRTUtil.getClassfile(this.image, "java/lang/Object.class", JRTUtil.JAVA_BASE, null));
+		long hits = cache.getHitCount();
+		assertNotNull(JRTUtil.getClassfile(this.image, "java/lang/Object.class", JRTUtil.JAVA_BASE, null));
+		assertEquals(hits + 1, cache.getHitCount());
+	}
+
 	private static int getMajorVersionSegment(String releaseVersion) {
 		int dot = releaseVersion.indexOf('.');
 		if (dot > 0) {
@@ -14,38 +14,116 @@
 package org.eclipse.jdt.core.tests.model;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.core.index.JavaIndexer;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameRequestor;
 import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.eclipse.jdt.internal.core.index.DiskIndex;
 import org.eclipse.jdt.internal.core.index.EntryResult;
+import org.eclipse.jdt.internal.core.index.FileIndexLocation;
 import org.eclipse.jdt.internal.core.index.Index;
 import org.eclipse.jdt.internal.core.index.MetaIndex;
 import org.eclipse.jdt.internal.core.search.indexing.IIndexConstants;
 import org.eclipse.jdt.internal.core.search.indexing.IndexManager;
+import org.eclipse.jdt.internal.core.search.indexing.IndexNamesRegistry;
+import org.eclipse.jdt.internal.core.search.indexing.IndexRequest;
 import org.eclipse.jdt.internal.core.search.indexing.ReadWriteMonitor;
+import org.eclipse.jdt.internal.core.search.indexing.SharedIndexCache;
+import org.eclipse.jdt.internal.core.search.processing.IJob;
 
 import junit.framework.Test;
 
 public class IndexManagerTests extends ModifyingResourceTests {
 	private static final boolean SKIP_TESTS = Boolean.parseBoolean(System.getProperty("org.eclipse.jdt.disableMetaIndex", "false"));
 
+	/*
+	 * Index request recording its execution, which lasts until it is released or cancelled.
+	 */
+	static class RecordingRequest extends IndexRequest {
+		final String name;
+		final CountDownLatch release;
+		final CountDownLatch started = new CountDownLatch(1);
+		final Map<String, AtomicInteger> running;
+		final AtomicInteger overlaps;
+		final List<String> executed;
+		volatile boolean completed;
+
+		RecordingRequest(String name, String containerPath, IndexManager manager, CountDownLatch release,
+				Map<String, AtomicInteger> running, AtomicInteger overlaps, List<String> executed) {
+			super(new Path(containerPath), manager);
+			this.name = name;
+			this.release = release;
+			this.running = running;
+			this.overlaps = overlaps;
+			this.executed = executed;
+		}
+		@Override
+		public void ensureReadyToRun() {
+			// no index to update
+		}
+		@Override
+		public void cancel() {
+			this.isCancelled = true;
+		}
+		@Override
+		public boolean execute(IProgressMonitor progressMonitor) {
+			AtomicInteger count = this.running.computeIfAbsent(getJobFamily(), family -> new AtomicInteger());
+			if (count.incrementAndGet() > 1)
+				this.overlaps.incrementAndGet();
+			this.executed.add(this.name);
+			this.started.countDown();
+			try {
+				Thread.sleep(20);
+				long end = System.currentTimeMillis() + 10000;
+				while (!this.isCancelled && System.currentTimeMillis() < end) {
+					if (this.release.await(10, TimeUnit.MILLISECONDS))
+						break;
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				count.decrementAndGet();
+				this.completed = true;
+			}
+			return !this.isCancelled;
+		}
+		@Override
+		public String toString() {
+			return "recording request " + this.name + " on " + this.containerPath;
+		}
+	}
+
 	private IJavaProject project;
 	private IndexManager indexManager;
 
@@ -178,6 +256,374 @@ public class IndexManagerTests extends ModifyingResourceTests {
 		assertEquals("No results found", 1, indexNames.get().size());
 	}
 
+	public void testQueryIndexFile_ByExactPrefixAndPatternMatch() throws IOException {
+		File file = File.createTempFile("words", ".index");
+		try {
+			Index index = new Index(new FileIndexLocation(file), "/IndexProject", false);
+			String[] words = { "ArrayList", "Array", "ArrayDeque", "HashMap", "Hashtable", "List", "Map" };
+			for (int i = 0; i < 300; i++) {
+				index.addIndexEntry(IIndexConstants.REF, words[i % words.length].toCharArray(), "p/X" + i + ".java");
+				index.addIndexEntry(IIndexConstants.TYPE_DECL, ("T" + i).toCharArray(), "p/X" + i + ".java");
+			}
+			index.save();
+
+			assertQueryResults(new Index(new FileIndexLocation(file), "/IndexProject", true));
+		} finally {
+			file.delete();
+		}
+	}
+
+	public void testMigrateIndexFile_FromPreviousFormat() throws IOException {
+		File file = File.createTempFile("previous", ".index");
+		try {
+			// same words as testQueryIndexFile_ByExactPrefixAndPatternMatch, saved in the INDEX VERSION 1.132 format
+			Files.copy(Paths.get(getSourceWorkspacePath(), "IndexManagerTests", "previousFormat.index"), file.toPath(),
+					StandardCopyOption.REPLACE_EXISTING);
+			Index index = new Index(new FileIndexLocation(file), "/IndexProject", true);
+			assertTrue("Expected the previous format", index.hasPreviousFormat());
+			assertQueryResults(index);
+
+			index.monitor.enterWrite();
+			try {
+				index.migrate();
+			} finally {
+				index.monitor.exitWrite();
+			}
+			assertFalse("Expected the current format", index.hasPreviousFormat());
+			assertQueryResults(index);
+
+			index = new Index(new FileIndexLocation(file), "/IndexProject", true);
+			assertFalse("Expected the current format", index.hasPreviousFormat());
+			assertQueryResults(index);
+			assertEquals("Unexpected documents", 300, index.queryDocumentNames("p/").length);
+		} finally {
+			file.delete();
+		}
+	}
+
+	public void testReadIndexNames_WithPreviousSignature() throws IOException {
+		File file = File.createTempFile("savedIndexNames", ".txt");
+		Path location = new Path(file.getParent());
+		try {
+			assertTrue("Current signature not readable", DiskIndex.isReadableSignature(DiskIndex.SIGNATURE));
+			for (String signature : new String[] { DiskIndex.SIGNATURE, "INDEX VERSION 1.132" }) {
+				Files.write(file.toPath(), (signature + "+" + location.toOSString() + "\n1.index\n2.index").getBytes());
+				char[][] names = new IndexNamesRegistry(file, location).read(null);
+				assertNotNull("Names not read with " + signature, names);
+				assertEquals("Unexpected names", "1.index 2.index", new String(CharOperation.concatWith(
+						Arrays.copyOfRange(names, 1, names.length), ' ')));
+			}
+			for (String firstLine : new String[] { "INDEX VERSION 1.131+" + location.toOSString(), DiskIndex.SIGNATURE + "+" + location.append("other").toOSString() }) {
+				Files.write(file.toPath(), (firstLine + "\n1.index\n2.index").getBytes());
+				assertNull("Names read with " + firstLine, new IndexNamesRegistry(file, location).read(null));
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	public void testGenerateSharedIndexes_ShouldIndexEachJarOnce() throws IOException {
+		File repository = Files.createTempDirectory("repository").toFile();
+		File cacheDirectory = Files.createTempDirectory("cache").toFile();
+		try {
+			File jar = new File(repository, "lib.jar");
+			Files.copy(Paths.get(getSourceWorkspacePath(), "TypeHierarchy", "lib.jar"), jar.toPath());
+
+			assertEquals("Unexpected number of generated indexes", 1,
+					JavaIndexer.generateSharedIndexes(repository.getPath(), cacheDirectory.getPath()));
+			assertEquals("Unexpected number of generated indexes", 0,
+					JavaIndexer.generateSharedIndexes(repository.getPath(), cacheDirectory.getPath()));
+
+			SharedIndexCache cache = new SharedIndexCache(cacheDirectory);
+			File indexFile = cache.getIndexFile(cache.getKey(jar));
+			assertTrue("No shared index", indexFile.isFile());
+			Index index = new Index(new FileIndexLocation(indexFile), jar.getPath(), true);
+			String[] names = index.queryDocumentNames("binary/");
+			Arrays.sort(names);
+			assertEquals("Unexpected documents", "[binary/Deep.class, binary/I.class, binary/X.class, binary/Y$Inner.class, binary/Y.class, binary/Z.class]",
+					Arrays.toString(names));
+		} finally {
+			org.eclipse.jdt.core.tests.util.Util.delete(repository);
+			org.eclipse.jdt.core.tests.util.Util.delete(cacheDirectory);
+		}
+	}
+
+	public void testSharedIndexCache_ShouldRestoreAndStoreExternalJars() throws CoreException, IOException {
+		File repository = Files.createTempDirectory("repository").toFile();
+		File libraries = Files.createTempDirectory("libraries").toFile();
+		File cacheDirectory = Files.createTempDirectory("cache").toFile();
+		IJavaProject javaProject = null;
+		IndexManager.setSharedIndexCache(cacheDirectory);
+		try {
+			// the cached index of restored.jar is the one of another jar, so that its types tell that it was restored
+			File other = new File(repository, "test49809.jar");
+			Files.copy(Paths.get(getSourceWorkspacePath(), "TypeHierarchy", "test49809.jar"), other.toPath());
+			assertEquals("Unexpected number of generated indexes", 1,
+					JavaIndexer.generateSharedIndexes(repository.getPath(), cacheDirectory.getPath()));
+			SharedIndexCache cache = new SharedIndexCache(cacheDirectory);
+			File restored = new File(libraries, "restored.jar");
+			Files.copy(Paths.get(getSourceWorkspacePath(), "TypeHierarchy", "lib.jar"), restored.toPath());
+			Files.move(cache.getIndexFile(cache.getKey(other)).toPath(), cache.getIndexFile(cache.getKey(restored)).toPath());
+			File stored = new File(libraries, "stored.jar");
+			Files.copy(Paths.get(getSourceWorkspacePath(), "TypeHierarchy", "test58440.jar"), stored.toPath());
+			assertFalse("Unexpected shared index", cache.getIndexFile(cache.getKey(stored)).exists());
+
+			javaProject = createJavaProject("SharedIndexProject", new String[] { "src" }, new String[0], "bin", "1.8");
+			addLibraryEntry(javaProject, restored.getAbsolutePath(), false);
+			addLibraryEntry(javaProject, stored.getAbsolutePath(), false);
+			waitUntilIndexesReady();
+
+			Set<String> typeNames = searchTypeNames(javaProject);
+			assertTrue("Missing restored type in " + typeNames, typeNames.contains("p49809.Y49809"));
+			assertFalse("Unexpected indexed type in " + typeNames, typeNames.contains("binary.Deep"));
+			assertTrue("Missing indexed type in " + typeNames, typeNames.contains("p58440.X"));
+			File indexFile = cache.getIndexFile(cache.getKey(stored));
+			assertTrue("No shared index", indexFile.isFile());
+			Index index = new Index(new FileIndexLocation(indexFile), stored.getPath(), true);
+			String[] names = index.queryDocumentNames("p58440/");
+			Arrays.sort(names);
+			assertEquals("Unexpected documents", "[p58440/X$Inner.class, p58440/X.class, p58440/Y.class]", Arrays.toString(names));
+		} finally {
+			String directory = System.getProperty(IndexManager.SHARED_INDEX_CACHE_PROPERTY);
+			IndexManager.setSharedIndexCache(directory == null || directory.isEmpty() ? null : new File(directory));
+			if (javaProject != null)
+				deleteProject(javaProject);
+			org.eclipse.jdt.core.tests.util.Util.delete(repository);
+			org.eclipse.jdt.core.tests.util.Util.delete(libraries);
+			org.eclipse.jdt.core.tests.util.Util.delete(cacheDirectory);
+		}
+	}
+
+	public void testParallelJobs_ShouldIndexJarsAndProjects() throws CoreException, IOException {
+		int maxParallelJobs = this.indexManager.getMaxParallelJobs();
+		File libraries = Files.createTempDirectory("libraries").toFile();
+		IJavaProject[] projects = new IJavaProject[3];
+		this.indexManager.setMaxParallelJobs(4);
+		try {
+			for (int i = 0; i < projects.length; i++) {
+				File jar = new File(libraries, "lib" + i + ".jar");
+				Files.copy(Paths.get(getSourceWorkspacePath(), "TypeHierarchy", "lib.jar"), jar.toPath());
+				projects[i] = createJavaProject("ParallelProject" + i, new String[] { "src" }, new String[0], "bin", "1.8");
+				createFolder("/ParallelProject" + i + "/src/p" + i);
+				createFile("/ParallelProject" + i + "/src/p" + i + "/X" + i + ".java", "package p" + i + ";\npublic class X" + i + " {}");
+				addLibraryEntry(projects[i], jar.getAbsolutePath(), false);
+			}
+			waitUntilIndexesReady();
+			for (int i = 0; i < projects.length; i++) {
+				Set<String> typeNames = searchTypeNames(projects[i]);
+				assertTrue("Missing binary type in " + typeNames, typeNames.contains("binary.Deep"));
+				assertTrue("Missing source type in " + typeNames, typeNames.contains("p" + i + ".X" + i));
+				assertFalse("Unexpected source type in " + typeNames, typeNames.contains("p" + (i + 1) % projects.length + ".X" + (i + 1) % projects.length));
+			}
+		} finally {
+			this.indexManager.setMaxParallelJobs(maxParallelJobs);
+			for (IJavaProject javaProject : projects) {
+				if (javaProject != null)
+					deleteProject(javaProject);
+			}
+			org.eclipse.jdt.core.tests.util.Util.delete(libraries);
+		}
+	}
+
+	public void testParallelJobs_ShouldNotOverlapOnSameIndex() throws InterruptedException {
+		int maxParallelJobs = this.indexManager.getMaxParallelJobs();
+		waitUntilIndexesReady();
+		this.indexManager.setMaxParallelJobs(4);
+		try {
+			CountDownLatch released = new CountDownLatch(0);
+			Map<String, AtomicInteger> running = new ConcurrentHashMap<>();
+			AtomicInteger overlaps = new AtomicInteger();
+			List<String> executed = Collections.synchronizedList(new ArrayList<>());
+			RecordingRequest[] requests = new RecordingRequest[12];
+			for (int i = 0; i < requests.length; i++) {
+				requests[i] = new RecordingRequest(Integer.toString(i), "/ParallelContainer" + i % 3, this.indexManager,
+						released, running, overlaps, executed);
+				this.indexManager.request(requests[i]);
+			}
+			assertTrue("Waiting was cancelled", this.indexManager.waitForIndex(false, null).isOK());
+			for (RecordingRequest request : requests)
+				assertTrue("Not completed: " + request, request.completed);
+			assertEquals("Jobs overlapped on the same index", 0, overlaps.get());
+			for (int container = 0; container < 3; container++) {
+				int last = -1;
+				for (String name : executed) {
+					int i = Integer.parseInt(name);
+					if (i % 3 == container) {
+						assertTrue("Job " + i + " executed out of order, after job " + last, i > last);
+						last = i;
+					}
+				}
+			}
+		} finally {
+			this.indexManager.setMaxParallelJobs(maxParallelJobs);
+		}
+	}
+
+	public void testParallelJobs_ShouldWaitForRunningJobs() throws InterruptedException {
+		int maxParallelJobs = this.indexManager.getMaxParallelJobs();
+		waitUntilIndexesReady();
+		this.indexManager.setMaxParallelJobs(4);
+		try {
+			CountDownLatch release = new CountDownLatch(1);
+			RecordingRequest request = new RecordingRequest("blocked", "/ParallelContainer", this.indexManager, release,
+					new ConcurrentHashMap<>(), new AtomicInteger(), Collections.synchronizedList(new ArrayList<>()));
+			this.indexManager.request(request);
+			assertTrue("Job not started", request.started.await(10, TimeUnit.SECONDS));
+
+			// a search must wait for the job executed by a worker
+			boolean[] completedBeforeSearch = new boolean[1];
+			CountDownLatch searched = new CountDownLatch(1);
+			IJob search = new IJob() {
+				@Override
+				public boolean belongsTo(String jobFamily) {
+					return false;
+				}
+				@Override
+				public void cancel() {
+					// nothing to cancel
+				}
+				@Override
+				public void ensureReadyToRun() {
+					// always ready
+				}
+				@Override
+				public boolean execute(IProgressMonitor progressMonitor) {
+					completedBeforeSearch[0] = request.completed;
+					searched.countDown();
+					return COMPLETE;
+				}
+				@Override
+				public String getJobFamily() {
+					return "";
+				}
+			};
+			Thread searching = new Thread(() -> this.indexManager.performConcurrentJob(search, IJob.WaitUntilReady, null));
+			searching.start();
+			assertFalse("Search did not wait for the running job", searched.await(200, TimeUnit.MILLISECONDS));
+			release.countDown();
+			searching.join(10000);
+			assertEquals("Search not executed", 0, searched.getCount());
+			assertTrue("Search executed before the end of the running job", completedBeforeSearch[0]);
+		} finally {
+			this.indexManager.setMaxParallelJobs(maxParallelJobs);
+		}
+	}
+
+	public void testParallelJobs_ShouldDiscardRunningJobs() throws InterruptedException {
+		int maxParallelJobs = this.indexManager.getMaxParallelJobs();
+		waitUntilIndexesReady();
+		this.indexManager.setMaxParallelJobs(4);
+		try {
+			CountDownLatch release = new CountDownLatch(1);
+			List<String> executed = Collections.synchronizedList(new ArrayList<>());
+			RecordingRequest running = new RecordingRequest("running", "/ParallelDiscarded", this.indexManager, release,
+					new ConcurrentHashMap<>(), new AtomicInteger(), executed);
+			RecordingRequest waiting = new RecordingRequest("waiting", "/ParallelDiscarded", this.indexManager, release,
+					new ConcurrentHashMap<>(), new AtomicInteger(), executed);
+			this.indexManager.request(running);
+			this.indexManager.request(waiting);
+			assertTrue("Job not started", running.started.await(10, TimeUnit.SECONDS));
+
+			this.indexManager.discardJobs("ParallelDiscarded");
+			assertTrue("Running job not stopped", running.completed);
+			release.countDown();
+			assertTrue("Discarded job executed", this.indexManager.waitForIndex(false, null).isOK());
+			assertEquals("Unexpected executed jobs", "[running]", executed.toString());
+			assertEquals("Discarded job started", 1, waiting.started.getCount());
+		} finally {
+			this.indexManager.setMaxParallelJobs(maxParallelJobs);
+		}
+	}
+
+	private Set<String> searchTypeNames(IJavaProject javaProject) throws CoreException {
+		Set<String> typeNames = new TreeSet<>();
+		new SearchEngine().searchAllTypeNames(
+				null,
+				SearchPattern.R_EXACT_MATCH,
+				null,
+				SearchPattern.R_PREFIX_MATCH,
+				IJavaSearchConstants.TYPE,
+				SearchEngine.createJavaSearchScope(new IJavaElement[] { javaProject }),
+				new TypeNameRequestor() {
+					@Override
+					public void acceptType(int modifiers, char[] packageName, char[] simpleTypeName,
+							char[][] enclosingTypeNames, String path) {
+						typeNames.add(new String(packageName) + '.' + new String(simpleTypeName));
+					}
+				},
+				IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH,
+				null);
+		return typeNames;
+	}
+
+	private void assertQueryResults(Index index) throws IOException {
+		assertEquals("Unexpected words", "Array=43",
+				queryIndex(index, "Array", SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE));
+		assertEquals("Unexpected words", "Array=43 ArrayDeque=43 ArrayList=43",
+				queryIndex(index, "Array", SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE));
+		assertEquals("Unexpected words", "HashMap=43 Hashtable=43",
+				queryIndex(index, "Hash*", SearchPattern.R_PATTERN_MATCH | SearchPattern.R_CASE_SENSITIVE));
+		assertEquals("Unexpected words", "ArrayList=43 List=43",
+				queryIndex(index, "*list", SearchPattern.R_PATTERN_MATCH));
+		assertEquals("Unexpected words", "",
+				queryIndex(index, "Arrays", SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE));
+
+		// the 300 type declarations are sorted in blocks of 64 words: T0..T155, T156..T212, T213..T270, T271..T59, T6..T99
+		int exactMatch = SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE;
+		assertEquals("Unexpected words", "T155=1", queryIndex(index, IIndexConstants.TYPE_DECL, "T155", exactMatch));
+		assertEquals("Unexpected words", "T156=1", queryIndex(index, IIndexConstants.TYPE_DECL, "T156", exactMatch));
+		assertEquals("Unexpected words", "T212=1", queryIndex(index, IIndexConstants.TYPE_DECL, "T212", exactMatch));
+		assertEquals("Unexpected words", "T271=1", queryIndex(index, IIndexConstants.TYPE_DECL, "T271", exactMatch));
+		assertEquals("Unexpected words", "T6=1", queryIndex(index, IIndexConstants.TYPE_DECL, "T6", exactMatch));
+		assertEquals("Unexpected words", "T99=1", queryIndex(index, IIndexConstants.TYPE_DECL, "T99", exactMatch));
+		assertEquals("Unexpected words", "", queryIndex(index, IIndexConstants.TYPE_DECL, "T600", exactMatch));
+		assertEquals("Unexpected words", "", queryIndex(index, IIndexConstants.TYPE_DECL, "U", exactMatch));
+
+		int prefixMatch = SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE;
+		assertEquals("Unexpected words",
+				"T150=1 T151=1 T152=1 T153=1 T154=1 T155=1 T156=1 T157=1 T158=1 T159=1 T15=1",
+				queryIndex(index, IIndexConstants.TYPE_DECL, "T15", prefixMatch));
+		assertEquals("Unexpected words",
+				"T270=1 T271=1 T272=1 T273=1 T274=1 T275=1 T276=1 T277=1 T278=1 T279=1 T27=1",
+				queryIndex(index, IIndexConstants.TYPE_DECL, "T27", prefixMatch));
+		assertEquals("Unexpected words", "T99=1", queryIndex(index, IIndexConstants.TYPE_DECL, "T99", prefixMatch));
+		assertEquals("Unexpected words", "", queryIndex(index, IIndexConstants.TYPE_DECL, "T990", prefixMatch));
+
+		int patternMatch = SearchPattern.R_PATTERN_MATCH | SearchPattern.R_CASE_SENSITIVE;
+		assertEquals("Unexpected words",
+				"T290=1 T291=1 T292=1 T293=1 T294=1 T295=1 T296=1 T297=1 T298=1 T299=1",
+				queryIndex(index, IIndexConstants.TYPE_DECL, "T29?", patternMatch));
+		assertEquals("Unexpected words",
+				"T209=1 T219=1 T229=1 T239=1 T249=1 T259=1 T269=1 T279=1 T289=1 T299=1 T29=1",
+				queryIndex(index, IIndexConstants.TYPE_DECL, "T2*9", patternMatch));
+		assertEquals("Unexpected words",
+				"T60=1 T61=1 T62=1 T63=1 T64=1 T65=1 T66=1 T67=1 T68=1 T69=1 T6=1",
+				queryIndex(index, IIndexConstants.TYPE_DECL, "t6*", SearchPattern.R_PATTERN_MATCH));
+	}
+
+	private String queryIndex(Index index, String key, int matchRule) throws IOException {
+		return queryIndex(index, IIndexConstants.REF, key, matchRule);
+	}
+
+	private String queryIndex(Index index, char[] category, String key, int matchRule) throws IOException {
+		index.startQuery();
+		try {
+			EntryResult[] results = index.query(new char[][] { category }, key.toCharArray(), matchRule);
+			return safeList(results).stream()
+					.map(r -> {
+						try {
+							return new String(r.getWord()) + "=" + r.getDocumentNames(index).length;
+						} catch (IOException e) {
+							throw new AssertionError(e.getMessage());
+						}
+					})
+					.sorted()
+					.collect(Collectors.joining(" "));
+		} finally {
+			index.stopQuery();
+		}
+	}
+
 	private void changeFile(String path, String content) {
 		IFile file = getFile(path);
 		if (!file.exists()) {
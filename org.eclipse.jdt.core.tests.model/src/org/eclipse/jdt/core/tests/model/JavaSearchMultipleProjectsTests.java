@@ -26,6 +26,7 @@ import org.eclipse.jdt.core.*;
 import org.eclipse.jdt.core.search.*;
 import org.eclipse.jdt.core.tests.model.AbstractJavaSearchTests.JavaSearchResultCollector;
 import org.eclipse.jdt.core.tests.model.AbstractJavaSearchTests.TypeNameMatchCollector;
+import org.eclipse.jdt.internal.core.search.matching.MatchLocator;
 import org.eclipse.jdt.internal.core.search.matching.PatternLocator;
 
 /**
@@ -1572,4 +1573,61 @@ public void testBug250454_jars() throws CoreException, IOException {
 		deleteProject("P2");
 	}
 }
+/*
+ * Ensures that the references to a method found by locating matches in parallel are the same,
+ * and in the same order, as those found by the searching thread alone.
+ */
+public void testParallelMatchLocating() throws CoreException {
+	try {
+		createJavaProject("P1", new String[] {""}, new String[] {"JCL_LIB"}, "");
+		createFolder("/P1/p");
+		createFile(
+			"/P1/p/Shape.java",
+			"package p;\n" +
+			"public class Shape {\n" +
+			"	public void f() {}\n" +
+			"}\n"
+		);
+		createJavaProject("P2", new String[] {""}, new String[] {"JCL_LIB"}, new String[] {"/P1"}, "");
+		createFolder("/P2/q");
+		for (int i = 0; i < 30; i++) {
+			createFile("/P1/p/Square" + i + ".java",
+				"package p;\n" +
+				"public class Square" + i + " extends Shape {\n" +
+				"	public void f() { super.f(); }\n" +
+				"}\n"
+			);
+			createFile("/P2/q/ShapeUser" + i + ".java",
+				"package q;\n" +
+				"public class ShapeUser" + i + " {\n" +
+				"	void use(p.Shape shape, p.Square" + i + " square) {\n" +
+				"		shape.f();\n" +
+				"		square.f();\n" +
+				"	}\n" +
+				"}\n"
+			);
+		}
+		waitUntilIndexesReady();
+		IMethod method = getCompilationUnit("/P1/p/Shape.java").getType("Shape").getMethod("f", new String[0]);
+
+		MatchLocator.setParallelLocating(1, 1);
+		JavaSearchResultCollector resultCollector = new JavaSearchResultCollector();
+		resultCollector.showProject();
+		resultCollector.showAccuracy(true);
+		search(method, REFERENCES, SearchEngine.createWorkspaceScope(), resultCollector);
+		String expected = resultCollector.toString();
+		assertTrue("Missing references", resultCollector.count >= 60); // at least the ones through Shape and super
+
+		MatchLocator.setParallelLocating(4, 1);
+		resultCollector = new JavaSearchResultCollector();
+		resultCollector.showProject();
+		resultCollector.showAccuracy(true);
+		search(method, REFERENCES, SearchEngine.createWorkspaceScope(), resultCollector);
+		assertEquals("Unexpected references to " + method, expected, resultCollector.toString()); // in the same order
+	} finally {
+		MatchLocator.resetParallelLocating();
+		deleteProject("P1");
+		deleteProject("P2");
+	}
+}
 }
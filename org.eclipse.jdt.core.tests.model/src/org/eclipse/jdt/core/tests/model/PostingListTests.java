@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import junit.framework.Test;
+
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.internal.compiler.env.AccessRuleSet;
+import org.eclipse.jdt.internal.core.index.EntryResult;
+import org.eclipse.jdt.internal.core.index.FileIndexLocation;
+import org.eclipse.jdt.internal.core.index.Index;
+import org.eclipse.jdt.internal.core.index.PostingList;
+import org.eclipse.jdt.internal.core.search.IndexQueryRequestor;
+import org.eclipse.jdt.internal.core.search.indexing.IIndexConstants;
+import org.eclipse.jdt.internal.core.search.matching.AndPattern;
+import org.eclipse.jdt.internal.core.search.matching.TypeReferencePattern;
+
+/**
+ * Tests the posting lists of the document numbers of index entries, and the intersection of the
+ * documents of index queries which uses them.
+ *
+ * @see PostingList
+ * @see org.eclipse.jdt.internal.core.search.matching.IntersectingPattern
+ */
+public class PostingListTests extends AbstractJavaModelTests {
+
+public PostingListTests(String name) {
+	super(name);
+}
+
+public static Test suite() {
+	return buildTestSuite(PostingListTests.class);
+}
+
+public void testOf_Empty() {
+	PostingList empty = PostingList.of(new int[0]);
+	assertTrue("Not empty", empty.isEmpty());
+	assertEquals("Unexpected size", 0, empty.size());
+	assertEquals("Unexpected numbers", "[]", empty.toString());
+
+	PostingList numbers = PostingList.of(new int[] { 1, 2 });
+	assertEquals("Unexpected numbers", "[]", empty.and(numbers).toString());
+	assertEquals("Unexpected numbers", "[]", numbers.and(empty).toString());
+	assertEquals("Unexpected numbers", "[1, 2]", empty.or(numbers).toString());
+	assertEquals("Unexpected numbers", "[1, 2]", numbers.or(empty).toString());
+	assertEquals("Unexpected numbers", "[]", empty.or(empty).toString());
+}
+
+public void testOf_Duplicates() {
+	PostingList numbers = PostingList.of(new int[] { 0, 0, 3, 3, 3, 5 });
+	assertEquals("Unexpected size", 3, numbers.size());
+	assertEquals("Unexpected numbers", "[0, 3, 5]", numbers.toString());
+}
+
+public void testOf_Unsorted() {
+	int[] documentNumbers = { 9, 2, 7, 2, 0 };
+	PostingList numbers = PostingList.of(documentNumbers);
+	assertEquals("Unexpected numbers", "[0, 2, 7, 9]", numbers.toString());
+	assertEquals("Argument modified", "[9, 2, 7, 2, 0]", Arrays.toString(documentNumbers));
+}
+
+public void testOf_LargeDeltas() {
+	// deltas written on 1, 2, 3, 4 and 5 bytes
+	int[] documentNumbers = { 0, 127, 255, 383, 16511, 32895, 2130047, 270565503, Integer.MAX_VALUE };
+	PostingList numbers = PostingList.of(documentNumbers);
+	assertEquals("Unexpected size", documentNumbers.length, numbers.size());
+	assertEquals("Unexpected numbers", Arrays.toString(documentNumbers), Arrays.toString(numbers.toArray()));
+
+	PostingList others = PostingList.of(new int[] { 1, 255, 16511, 16512, 270565503 });
+	assertEquals("Unexpected numbers", "[255, 16511, 270565503]", numbers.and(others).toString());
+	assertEquals("Unexpected numbers", "[255, 16511, 270565503]", others.and(numbers).toString());
+	assertEquals("Unexpected numbers",
+			"[0, 1, 127, 255, 383, 16511, 16512, 32895, 2130047, 270565503, 2147483647]",
+			numbers.or(others).toString());
+}
+
+public void testAndOr() {
+	PostingList even = PostingList.of(new int[] { 0, 2, 4, 6, 8, 10 });
+	PostingList odd = PostingList.of(new int[] { 1, 3, 5, 7, 9 });
+	PostingList third = PostingList.of(new int[] { 0, 3, 6, 9 });
+	assertTrue("Not empty", even.and(odd).isEmpty());
+	assertEquals("Unexpected numbers", "[0, 6]", even.and(third).toString());
+	assertEquals("Unexpected numbers", "[3, 9]", third.and(odd).toString());
+	assertEquals("Unexpected numbers", "[0, 2, 4, 6, 8, 10]", even.and(even).toString());
+	assertEquals("Unexpected numbers", "[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10]", even.or(odd).toString());
+	assertEquals("Unexpected numbers", "[0, 2, 3, 4, 6, 8, 9, 10]", even.or(third).toString());
+	assertEquals("Unexpected numbers", "[0, 2, 4, 6, 8, 10]", even.or(even).toString());
+}
+
+public void testAndOr_Random() {
+	Random random = new Random(20261018);
+	for (int i = 0; i < 200; i++) {
+		int[] numbers = randomNumbers(random), others = randomNumbers(random);
+		TreeSet<Integer> set = new TreeSet<>(), otherSet = new TreeSet<>();
+		for (int number : numbers)
+			set.add(number);
+		for (int number : others)
+			otherSet.add(number);
+		PostingList list = PostingList.of(numbers), otherList = PostingList.of(others);
+		assertEquals("Unexpected numbers", set.toString(), list.toString());
+
+		TreeSet<Integer> intersection = new TreeSet<>(set);
+		intersection.retainAll(otherSet);
+		assertEquals("Unexpected intersection", intersection.toString(), list.and(otherList).toString());
+		TreeSet<Integer> union = new TreeSet<>(set);
+		union.addAll(otherSet);
+		assertEquals("Unexpected union", union.toString(), list.or(otherList).toString());
+		assertEquals("Unexpected size", union.size(), list.or(otherList).size());
+	}
+}
+
+/*
+ * Lists of at least 256 documents are written before the table of their category, and read through their offset.
+ */
+public void testDiskIndex_LargeLists() throws IOException {
+	File file = File.createTempFile("postings", ".index");
+	try {
+		Index index = new Index(new FileIndexLocation(file), "/IndexProject", false);
+		for (int i = 0; i < 300; i++) {
+			String document = "p/X" + i + ".java";
+			index.addIndexEntry(IIndexConstants.REF, "All".toCharArray(), document);
+			if (i % 2 == 0)
+				index.addIndexEntry(IIndexConstants.REF, "Even".toCharArray(), document);
+			if (i % 100 == 0)
+				index.addIndexEntry(IIndexConstants.REF, "Few".toCharArray(), document);
+			if (i >= 40)
+				index.addIndexEntry(IIndexConstants.REF, "Late".toCharArray(), document);
+		}
+		index.save();
+
+		index = new Index(new FileIndexLocation(file), "/IndexProject", true);
+		index.startQuery();
+		try {
+			PostingList all = queryDocumentNumbers(index, "All");
+			PostingList even = queryDocumentNumbers(index, "Even");
+			PostingList few = queryDocumentNumbers(index, "Few");
+			PostingList late = queryDocumentNumbers(index, "Late");
+			assertEquals("Unexpected size", 300, all.size());
+			assertEquals("Unexpected size", 150, even.size());
+			assertEquals("Unexpected size", 3, few.size());
+			assertEquals("Unexpected size", 260, late.size());
+
+			assertEquals("Unexpected size", 260, all.and(late).size());
+			assertEquals("Unexpected size", 300, all.or(late).size());
+			assertEquals("Unexpected size", 130, late.and(even).size());
+			assertEquals("Unexpected documents", "[p/X100.java, p/X200.java]",
+					sortedNames(index.getDocumentNames(late.and(few))));
+			assertEquals("Unexpected documents", "[p/X0.java, p/X100.java, p/X200.java]",
+					sortedNames(index.getDocumentNames(few.and(all))));
+			assertEquals("Unexpected size", 150, even.or(few).size());
+			assertEquals("Unexpected documents", sortedNames(index.queryDocumentNames("p/")),
+					sortedNames(index.getDocumentNames(all)));
+		} finally {
+			index.stopQuery();
+		}
+	} finally {
+		file.delete();
+	}
+}
+
+/*
+ * The documents of an AndPattern are intersected as numbers while the memory index is unchanged,
+ * and as names once it has changed.
+ */
+public void testAndPattern_NumbersThenNames() throws IOException {
+	File file = File.createTempFile("intersection", ".index");
+	try {
+		Index index = new Index(new FileIndexLocation(file), "/IndexProject", false);
+		for (int i = 0; i < 300; i++) {
+			String document = "p/X" + i + ".java";
+			if (i % 2 == 0)
+				index.addIndexEntry(IIndexConstants.REF, "Foo".toCharArray(), document);
+			if (i % 3 == 0)
+				index.addIndexEntry(IIndexConstants.REF, "Bar".toCharArray(), document);
+			index.addIndexEntry(IIndexConstants.REF, "Object".toCharArray(), document);
+		}
+		index.save();
+
+		index = new Index(new FileIndexLocation(file), "/IndexProject", true);
+		assertFalse("Memory index changed", index.hasChanged());
+		String matches = findAndPatternMatches(index);
+		assertEquals("Unexpected number of matches", 50, matches.split("\n").length);
+		assertEquals("Unexpected matches", expectedMatches(false), matches);
+
+		index.remove("p/X0.java");
+		index.addIndexEntry(IIndexConstants.REF, "Foo".toCharArray(), "p/Y.java");
+		index.addIndexEntry(IIndexConstants.REF, "Bar".toCharArray(), "p/Y.java");
+		index.addIndexEntry(IIndexConstants.REF, "Object".toCharArray(), "p/Y.java");
+		index.addIndexEntry(IIndexConstants.REF, "Foo".toCharArray(), "p/Z.java");
+		assertTrue("Memory index not changed", index.hasChanged());
+		assertEquals("Unexpected matches", expectedMatches(true), findAndPatternMatches(index));
+	} finally {
+		file.delete();
+	}
+}
+
+/*
+ * An entry with both document tables and document names answers no numbers, so that the names are not dropped.
+ */
+public void testEntryResult_TablesAndNames() throws IOException {
+	File file = File.createTempFile("entries", ".index");
+	try {
+		Index index = new Index(new FileIndexLocation(file), "/IndexProject", false);
+		for (int i = 0; i < 3; i++)
+			index.addIndexEntry(IIndexConstants.REF, "Foo".toCharArray(), "p/X" + i + ".java");
+		index.save();
+
+		index = new Index(new FileIndexLocation(file), "/IndexProject", true);
+		index.startQuery();
+		try {
+			EntryResult[] results = index.query(new char[][] { IIndexConstants.REF }, "Foo".toCharArray(),
+					SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE);
+			assertEquals("Unexpected entries", 1, results.length);
+			EntryResult entry = results[0];
+			assertEquals("Unexpected size", 3, entry.getDocumentNumbers(index).size());
+			entry.addDocumentName("p/Y.java");
+			assertNull("Unexpected document numbers", entry.getDocumentNumbers(index));
+			assertEquals("Unexpected documents", "[p/X0.java, p/X1.java, p/X2.java, p/Y.java]",
+					sortedNames(entry.getDocumentNames(index)));
+		} finally {
+			index.stopQuery();
+		}
+	} finally {
+		file.delete();
+	}
+}
+
+private String expectedMatches(boolean changed) {
+	TreeSet<String> expected = new TreeSet<>();
+	for (int i = changed ? 6 : 0; i < 300; i += 6)
+		expected.add("/IndexProject/p/X" + i + ".java");
+	if (changed)
+		expected.add("/IndexProject/p/Y.java");
+	return String.join("\n", expected);
+}
+
+private String findAndPatternMatches(Index index) throws IOException {
+	int matchRule = SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE;
+	// the index is queried for every pattern but the last one, whose matches are left to the match locator
+	AndPattern pattern = new AndPattern(
+			new TypeReferencePattern(null, "Foo".toCharArray(), matchRule),
+			new AndPattern(new TypeReferencePattern(null, "Bar".toCharArray(), matchRule),
+					new TypeReferencePattern(null, "Object".toCharArray(), matchRule)));
+	TreeSet<String> documents = new TreeSet<>();
+	pattern.findIndexMatches(index, new IndexQueryRequestor() {
+		@Override
+		public boolean acceptIndexMatch(String documentPath, SearchPattern indexRecord, SearchParticipant participant, AccessRuleSet access) {
+			assertTrue("Duplicate match " + documentPath, documents.add(documentPath));
+			return true;
+		}
+	}, SearchEngine.getDefaultSearchParticipant(), SearchEngine.createWorkspaceScope(), null);
+	return String.join("\n", documents);
+}
+
+private PostingList queryDocumentNumbers(Index index, String word) throws IOException {
+	EntryResult[] results = index.query(new char[][] { IIndexConstants.REF }, word.toCharArray(),
+			SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE);
+	assertNotNull("No entry for " + word, results);
+	assertEquals("Unexpected entries", 1, results.length);
+	PostingList numbers = results[0].getDocumentNumbers(index);
+	assertNotNull("No document numbers for " + word, numbers);
+	return numbers;
+}
+
+private static int[] randomNumbers(Random random) {
+	int[] numbers = new int[random.nextInt(300)];
+	int bound = random.nextBoolean() ? 1000 : Integer.MAX_VALUE;
+	for (int i = 0; i < numbers.length; i++)
+		numbers[i] = random.nextInt(bound);
+	return numbers;
+}
+
+private static String sortedNames(String[] names) {
+	String[] sorted = names.clone();
+	Arrays.sort(sorted);
+	return Arrays.toString(sorted);
+}
+}
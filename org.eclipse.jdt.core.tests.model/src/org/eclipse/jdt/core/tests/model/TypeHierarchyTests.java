@@ -49,6 +49,7 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.tests.model.SearchTests.WaitingJob;
 import org.eclipse.jdt.core.tests.model.Semaphore.TimeOutException;
 import org.eclipse.jdt.core.tests.util.Util;
+import org.eclipse.jdt.internal.core.hierarchy.HierarchyResolver;
 
 @SuppressWarnings("rawtypes")
 public class TypeHierarchyTests extends ModifyingResourceTests {
@@ -3740,5 +3741,49 @@ public void testBugGh269() throws Exception {
 		deleteProject(testProjectName);
 	}
 }
+/*
+ * Ensures that the hierarchy of a type with many potential subtypes, in closed units and in local
+ * types, is the same whether the units are parsed in parallel or not.
+ */
+public void testParallelParsing() throws CoreException {
+	int parseThreads = HierarchyResolver.PARSE_THREADS;
+	int minParallelUnits = HierarchyResolver.MIN_PARALLEL_UNITS;
+	try {
+		createJavaProject("P", new String[] {"src"}, new String[] {"JCL_LIB"}, "bin");
+		createFolder("/P/src/p");
+		createFile(
+			"/P/src/p/Base.java",
+			"package p;\n" +
+			"public class Base {\n" +
+			"}"
+		);
+		for (int i = 0; i < 40; i++) {
+			createFile(
+				"/P/src/p/Sub" + i + ".java",
+				"package p;\n" +
+				"public class Sub" + i + " extends Base {\n" +
+				"  void foo() {\n" +
+				"    class Local" + i + " extends Base {\n" +
+				"    }\n" +
+				"    new Base() {};\n" +
+				"  }\n" +
+				"}"
+			);
+		}
+		waitUntilIndexesReady();
+		IType type = getCompilationUnit("/P/src/p/Base.java").getType("Base");
 
+		HierarchyResolver.PARSE_THREADS = 1;
+		String expected = type.newTypeHierarchy(null).toString();
+		assertTrue("Unexpected type hierarchy", expected.contains("Local39"));
+
+		HierarchyResolver.PARSE_THREADS = 4;
+		HierarchyResolver.MIN_PARALLEL_UNITS = 1;
+		assertHierarchyEquals(expected, type.newTypeHierarchy(null));
+	} finally {
+		HierarchyResolver.PARSE_THREADS = parseThreads;
+		HierarchyResolver.MIN_PARALLEL_UNITS = minParallelUnits;
+		deleteProject("P");
+	}
+}
 }
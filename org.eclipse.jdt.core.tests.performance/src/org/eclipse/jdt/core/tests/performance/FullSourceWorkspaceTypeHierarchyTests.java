@@ -20,6 +20,7 @@ import junit.framework.*;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.*;
 import org.eclipse.jdt.core.search.*;
+import org.eclipse.jdt.internal.core.hierarchy.HierarchyResolver;
 import org.eclipse.test.performance.Performance;
 
 /**
@@ -125,6 +126,40 @@ public class FullSourceWorkspaceTypeHierarchyTests extends FullSourceWorkspaceTe
 		assertPerformance();
 	}
 
+	/*
+	 * Same as testPerfAllTypes, but with the candidate units parsed on the calling thread only, as a
+	 * baseline for the parallel parsing of HierarchyResolver.
+	 */
+	public void testPerfAllTypesSerialParsing() throws CoreException {
+		ICompilationUnit unit = getCompilationUnit("org.eclipse.jdt.core", "org.eclipse.jdt.internal.compiler.ast", "ASTNode.java");
+		assertNotNull("ASTNode not found!", unit);
+		int parseThreads = HierarchyResolver.PARSE_THREADS;
+		HierarchyResolver.PARSE_THREADS = 1;
+		try {
+			// Warm up
+			for (int i=0; i<WARMUP_COUNT; i++) {
+				unit.getType("ASTNode").newTypeHierarchy(null).getAllClasses();
+			}
+
+			// Clean memory
+			runGc();
+
+			// Measures
+			for (int i=0; i<MEASURES_COUNT; i++) {
+				runGc();
+				startMeasuring();
+				unit.getType("ASTNode").newTypeHierarchy(null).getAllClasses();
+				stopMeasuring();
+			}
+		} finally {
+			HierarchyResolver.PARSE_THREADS = parseThreads;
+		}
+
+		// Commit
+		commitMeasurements();
+		assertPerformance();
+	}
+
 	/*
 	 * A direct subclass of org.eclipse.jface.text.templates.TemplateVariableResolver is called Collection.
 	 * Collection is also an interface that is the root of a deep hierarchy in java.util.
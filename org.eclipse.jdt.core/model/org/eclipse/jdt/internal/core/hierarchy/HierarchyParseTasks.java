@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.hierarchy;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.ParseTaskManager;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.eclipse.jdt.internal.compiler.problem.AbortCompilation;
+import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
+
+/**
+ * Parses the candidate units of a type hierarchy on a bounded pool of worker threads, each using its
+ * own parser and problem reporter, while the {@link HierarchyResolver} builds and connects the
+ * bindings of the units already parsed, one at a time and in order. Only the parsing runs in
+ * parallel since the bindings go through the lookup environment, which is not thread safe.
+ */
+class HierarchyParseTasks {
+
+	private final ExecutorService executor;
+	private final ThreadLocal<Parser> parsers;
+
+HierarchyParseTasks(ProblemReporter problemReporter, CompilerOptions options, int threadCount) {
+	this.parsers = ThreadLocal.withInitial(() -> new ParseTaskManager.WorkerParser(
+			new ProblemReporter(problemReporter.policy, options, problemReporter.problemFactory),
+			true));
+	this.executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+		Thread thread = new Thread(runnable, "Type Hierarchy Parsing Task"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		return thread;
+	});
+}
+
+Future<CompilationUnitDeclaration> dietParse(ICompilationUnit sourceUnit, CompilationResult unitResult) {
+	return this.executor.submit(() -> this.parsers.get().dietParse(sourceUnit, unitResult));
+}
+
+/**
+ * Schedule the parsing of the method bodies of the given unit, answering false if it was aborted.
+ */
+Future<Boolean> getMethodBodies(CompilationUnitDeclaration unit) {
+	return this.executor.submit(() -> {
+		try {
+			this.parsers.get().getMethodBodies(unit);
+			return Boolean.TRUE;
+		} catch (AbortCompilation e) {
+			return Boolean.FALSE;
+		}
+	});
+}
+
+/**
+ * Wait for the given task, rethrowing in the calling thread what the worker caught.
+ */
+static <T> T join(Future<T> future) {
+	try {
+		return future.get();
+	} catch (InterruptedException e) {
+		Thread.currentThread().interrupt();
+		throw new OperationCanceledException();
+	} catch (ExecutionException e) {
+		Throwable cause = e.getCause();
+		if (cause instanceof Error)
+			throw (Error) cause;
+		throw (RuntimeException) cause;
+	}
+}
+
+void shutdown() {
+	this.executor.shutdownNow();
+}
+}
@@ -30,6 +30,8 @@ package org.eclipse.jdt.internal.core.hierarchy;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
@@ -84,6 +86,16 @@ public class HierarchyResolver implements ITypeRequestor {
 	private int typeIndex;
 	private IGenericType[] typeModels;
 	private Parser basicParser;
+	private HierarchyParseTasks parseTasks; // null until enough units are to be parsed in parallel
+
+	/**
+	 * Thread count for parsing the candidate units of a hierarchy in parallel, the number of processors
+	 * minus one unless the org.eclipse.jdt.hierarchy_parse_threads system property is set. Any value
+	 * <= 1 disables the parallel parsing.
+	 */
+	public static int PARSE_THREADS = Integer.getInteger("org.eclipse.jdt.hierarchy_parse_threads", ForkJoinPool.getCommonPoolParallelism()).intValue(); //$NON-NLS-1$
+	/** Minimum number of units to parse for their parsing to be parallel */
+	public static int MIN_PARALLEL_UNITS = 32;
 
 	private static final CompilationUnitDeclaration FakeUnit;
 	static {
@@ -621,6 +633,10 @@ private void reset(){
 	this.typeModels = new IGenericType[5];
 	this.typeBindings = new ReferenceBinding[5];
 	this.bindingMap.clear();
+	if (this.parseTasks != null) {
+		this.parseTasks.shutdown();
+		this.parseTasks = null;
+	}
 }
 
 /**
@@ -709,11 +725,32 @@ public void resolve(Openable[] openables, HashSet localTypes, IProgressMonitor m
 			}
 		}
 
-		subMonitor.split(1);
+		// parse the units which are not open on worker threads, ahead of the building of their bindings
+		Future<?>[] pendingParses = null;
+		int closedUnits = 0;
+		for (int i = 0; i < openablesLength; i++) {
+			if (openables[i] instanceof org.eclipse.jdt.core.ICompilationUnit && !((org.eclipse.jdt.core.ICompilationUnit) openables[i]).isOpen())
+				closedUnits++;
+		}
+		if (getParseTasks(closedUnits) != null) {
+			pendingParses = new Future<?>[openablesLength];
+			for (int i = 0; i < openablesLength; i++) {
+				Openable openable = openables[i];
+				if (openable instanceof org.eclipse.jdt.core.ICompilationUnit && !((org.eclipse.jdt.core.ICompilationUnit) openable).isOpen()) {
+					IFile file = (IFile) openable.getResource();
+					ICompilationUnit sourceUnit = this.builder.createCompilationUnitFromPath(openable, file, findAssociatedModuleName(openable));
+					CompilationResult unitResult = new CompilationResult(sourceUnit, i, openablesLength, this.options.maxProblemsPerUnit);
+					pendingParses[i] = this.parseTasks.dietParse(sourceUnit, unitResult);
+				}
+			}
+		}
+
+		SubMonitor buildLoopMonitor = subMonitor.split(1).setWorkRemaining(openablesLength);
 		// build type bindings
 		Parser parser = new Parser(this.lookupEnvironment.problemReporter, true);
 		final boolean isJava8 = this.options.sourceLevel >= ClassFileConstants.JDK1_8;
 		for (int i = 0; i < openablesLength; i++) {
+			buildLoopMonitor.split(1);
 			Openable openable = openables[i];
 			if (openable instanceof org.eclipse.jdt.core.ICompilationUnit) {
 				org.eclipse.jdt.core.ICompilationUnit cu = (org.eclipse.jdt.core.ICompilationUnit)openable;
@@ -729,7 +766,11 @@ public void resolve(Openable[] openables, HashSet localTypes, IProgressMonitor m
 
 				// build parsed unit
 				CompilationUnitDeclaration parsedUnit = null;
-				if (cu.isOpen()) {
+				if (pendingParses != null && pendingParses[i] != null) {
+					// parsed ahead from file
+					parsedUnit = (CompilationUnitDeclaration) HierarchyParseTasks.join(pendingParses[i]);
+					pendingParses[i] = null;
+				} else if (cu.isOpen()) {
 					// create parsed unit from source element infos
 					CompilationResult result = new CompilationResult((ICompilationUnit)cu, i, openablesLength, this.options.maxProblemsPerUnit);
 					SourceTypeElementInfo[] typeInfos = null;
@@ -838,11 +879,28 @@ public void resolve(Openable[] openables, HashSet localTypes, IProgressMonitor m
 		}
 
 		SubMonitor unitLoopMonitor = subMonitor.split(1).setWorkRemaining(unitsIndex);
+		// parse the method bodies of the units containing local types on worker threads
+		Future<?>[] pendingMethodBodies = null;
+		int localTypeUnits = 0;
+		for (int i = 0; i < unitsIndex; i++) {
+			if (hasLocalType[i])
+				localTypeUnits++;
+		}
+		if (getParseTasks(localTypeUnits) != null) {
+			pendingMethodBodies = new Future<?>[unitsIndex];
+			for (int i = 0; i < unitsIndex; i++) {
+				if (hasLocalType[i] && parsedUnits[i] != null)
+					pendingMethodBodies[i] = this.parseTasks.getMethodBodies(parsedUnits[i]);
+			}
+		}
 		// complete type bindings (i.e. connect super types)
 		for (int i = 0; i < unitsIndex; i++) {
 			unitLoopMonitor.split(1);
 			CompilationUnitDeclaration parsedUnit = parsedUnits[i];
-			if (parsedUnit != null) {
+			if (pendingMethodBodies != null) {
+				if (pendingMethodBodies[i] != null && !((Boolean) HierarchyParseTasks.join(pendingMethodBodies[i])).booleanValue())
+					hasLocalType[i] = false; // aborted, as below
+			} else if (parsedUnit != null) {
 				try {
 					if (hasLocalType[i]) { // NB: no-op if method bodies have been already parsed
 						parser.getMethodBodies(parsedUnit);
@@ -902,6 +960,15 @@ public void resolve(Openable[] openables, HashSet localTypes, IProgressMonitor m
 	}
 }
 
+/*
+ * Answer the tasks parsing units in parallel if the given number of units is worth it, null otherwise
+ */
+private HierarchyParseTasks getParseTasks(int units) {
+	if (this.parseTasks == null && PARSE_THREADS > 1 && units >= MIN_PARALLEL_UNITS)
+		this.parseTasks = new HierarchyParseTasks(this.lookupEnvironment.problemReporter, this.lookupEnvironment.globalOptions, PARSE_THREADS);
+	return this.parseTasks;
+}
+
 private char[] findAssociatedModuleName(Openable openable) {
 	IModuleDescription module = null;
 	IPackageFragmentRoot root = openable.getPackageFragmentRoot();
@@ -42,4 +42,19 @@ public final class JavaIndexer {
 		new DefaultJavaIndexer().generateIndexForJar(pathToJar, pathToIndexFile);
 	}
 
+	/**
+	 * Generates the index files of the jars found in the specified folder and in its sub-folders into the specified
+	 * shared index cache, skipping the jars for which the cache already has an index file. A workspace started with
+	 * the system property <code>jdt.core.sharedIndexCache</code> set to the same cache copies these index files
+	 * instead of indexing the external jars of its classpath.
+	 * @param pathToRepository The full path to the folder of the jars that need to be indexed
+	 * @param pathToCache The full path to the folder of the shared index cache
+	 * @return the number of generated index files
+	 * @throws IOException if the folder is not found or could not write into the cache
+	 * @since 3.33
+	 */
+	public static int generateSharedIndexes(String pathToRepository, String pathToCache) throws IOException {
+		return new DefaultJavaIndexer().generateSharedIndexes(pathToRepository, pathToCache);
+	}
+
 }
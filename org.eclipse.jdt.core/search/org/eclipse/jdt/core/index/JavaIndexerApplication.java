@@ -51,6 +51,11 @@ public class JavaIndexerApplication implements IApplication {
 		public static String CommandLineIndexFileNotSpecified;
 		public static String CaughtException;
 		public static String CommandLineJarFileNotExist;
+		public static String CommandLineGeneratingSharedIndexes;
+		public static String CommandLineSharedIndexesGenerated;
+		public static String CommandLineOnlyOneCacheError;
+		public static String CommandLineCacheTakesArgs;
+		public static String CommandLineCacheAndOutputError;
 
 		static {
 			NLS.initializeMessages(MESSAGES_NAME, Messages.class);
@@ -75,11 +80,13 @@ public class JavaIndexerApplication implements IApplication {
 
 	private String jarToIndex;
 	private String indexFile;
+	private String sharedIndexCache;
 	private boolean verbose = false;
 	private static final String PDE_LAUNCH = "-pdelaunch"; //$NON-NLS-1$
 	private static final String ARG_HELP = "-help"; //$NON-NLS-1$
 	private static final String ARG_VERBOSE = "-verbose"; //$NON-NLS-1$
 	private static final String ARG_OUTPUT = "-output"; //$NON-NLS-1$
+	private static final String ARG_CACHE = "-cache"; //$NON-NLS-1$
 
 	private void displayHelp() {
 		System.out.println(Messages.bind(Messages.CommandLineUsage));
@@ -118,6 +125,15 @@ public class JavaIndexerApplication implements IApplication {
 					return false;
 				}
 				this.indexFile = argsArray[index++];
+			} else if (ARG_CACHE.equals(currentArg)) {
+				if (this.sharedIndexCache != null) {
+					displayError(Messages.bind(Messages.CommandLineOnlyOneCacheError));
+					return false;
+				} else if (index == argCount) {
+					displayError(Messages.bind(Messages.CommandLineCacheTakesArgs));
+					return false;
+				}
+				this.sharedIndexCache = argsArray[index++];
 			} else {
 				if (this.jarToIndex != null) {
 					displayError(Messages.bind(Messages.CommandLineOnlyOneJarError));
@@ -133,7 +149,25 @@ public class JavaIndexerApplication implements IApplication {
 	public Object start(IApplicationContext context) throws Exception {
 		boolean execute = processCommandLine((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
 		if (execute) {
-			if (this.jarToIndex != null && this.indexFile != null) {
+			if (this.sharedIndexCache != null && this.indexFile != null) {
+				System.out.println(Messages.bind(Messages.CommandLineCacheAndOutputError));
+			} else if (this.sharedIndexCache != null && this.jarToIndex != null) {
+				if (new File(this.jarToIndex).exists()) {
+					if (this.verbose) {
+						System.out.println(Messages.bind(Messages.CommandLineGeneratingSharedIndexes, this.jarToIndex, this.sharedIndexCache));
+					}
+					try {
+						int generated = JavaIndexer.generateSharedIndexes(this.jarToIndex, this.sharedIndexCache);
+						if (this.verbose) {
+							System.out.println(Messages.bind(Messages.CommandLineSharedIndexesGenerated, Integer.valueOf(generated)));
+						}
+					} catch (IOException e) {
+						System.out.println(Messages.bind(Messages.CaughtException, "IOException", e.getLocalizedMessage())); //$NON-NLS-1$
+					}
+				} else {
+					System.out.println(Messages.bind(Messages.CommandLineJarFileNotExist, this.jarToIndex));
+				}
+			} else if (this.jarToIndex != null && this.indexFile != null) {
 				File f = new File(this.jarToIndex);
 				if (f.exists()) {
 					if (this.verbose) {
@@ -36,14 +36,17 @@ private int headerInfoOffset;
 private int numberOfChunks;
 private int sizeOfLastChunk;
 private int[] chunkOffsets;
-private int documentReferenceSize; // 1, 2 or more bytes... depends on # of document names
+private int documentReferenceSize; // 1, 2 or more bytes... depends on # of document names, only used by the previous format
 private int startOfCategoryTables;
 private HashtableOfIntValues categoryOffsets, categoryEnds;
+private HashtableOfIntValues blockIndexOffsets; // category name -> offset of the index of the blocks of its sorted words
+private boolean sortedWords; // false if the file has the previous format, whose category tables are not sorted
 
 private int cacheUserCount;
 private String[][] cachedChunks; // decompressed chunks of document names
-private HashtableOfObject categoryTables; // category name -> HashtableOfObject(words -> int[] of document #'s) or offset if not read yet
+private HashtableOfObject categoryTables; // category name -> HashtableOfObject(words -> int[] of document #'s, the bytes of their PostingList with the sorted format, or offset if not read yet)
 private char[] cachedCategoryName;
+private HashtableOfObject wordBlocks; // category name -> WordBlocks, kept as long as the index since they are small
 
 private static final int DEFAULT_BUFFER_SIZE = 2048;
 private static int BUFFER_READ_SIZE = DEFAULT_BUFFER_SIZE;
@@ -53,14 +56,19 @@ private int bufferIndex, bufferEnd; // used when reading from the file into the
 private int streamEnd; // used when writing data from the streamBuffer to the file
 char separator = Index.DEFAULT_SEPARATOR;
 
-public static final String SIGNATURE = "INDEX VERSION 1.132"; //$NON-NLS-1$
+public static final String SIGNATURE = "INDEX VERSION 1.133"; //$NON-NLS-1$
 private static final char[] SIGNATURE_CHARS = SIGNATURE.toCharArray();
+// files of the previous format are still read, and the index manager migrates the ones it owns
+private static final String PREVIOUS_SIGNATURE = "INDEX VERSION 1.132"; //$NON-NLS-1$
+private static final char[] PREVIOUS_SIGNATURE_CHARS = PREVIOUS_SIGNATURE.toCharArray();
 public static boolean DEBUG = false;
 
 private static final int RE_INDEXED = -1;
 private static final int DELETED = -2;
 
 private static final int CHUNK_SIZE = 100;
+private static final int WORD_BLOCK_SIZE = 64; // number of words in each block of a sorted category table
+private static final int LARGE_ARRAY_SIZE = 256; // arrays of document numbers of this size or more are written before their table
 
 private static final SimpleSetOfCharArray INTERNED_CATEGORY_NAMES = new SimpleSetOfCharArray(20);
 private static final String TMP_EXT = ".tmp"; //$NON-NLS-1$
@@ -89,6 +97,28 @@ int[] asArray() {
 }
 }
 
+static class WordBlocks {
+
+int wordCount;
+char[][] firstWords; // first word of each block
+int[] offsets; // offset of each block in the file
+
+/*
+ * Answer the first block which may contain the given word or the words which start with it.
+ */
+int blockOf(char[] word) {
+	int low = 0, high = this.firstWords.length - 1;
+	while (low < high) {
+		int mid = (low + high + 1) >>> 1;
+		if (CharOperation.compareTo(this.firstWords[mid], word) <= 0)
+			low = mid;
+		else
+			high = mid - 1;
+	}
+	return low;
+}
+}
+
 
 DiskIndex() {
 	this.headerInfoOffset = -1;
@@ -102,6 +132,9 @@ DiskIndex() {
 	this.cachedCategoryName = null;
 	this.categoryOffsets = null;
 	this.categoryEnds = null;
+	this.blockIndexOffsets = null;
+	this.sortedWords = true;
+	this.wordBlocks = null;
 }
 DiskIndex(IndexLocation location) throws IOException {
 	this();
@@ -110,6 +143,13 @@ DiskIndex(IndexLocation location) throws IOException {
 	}
 	this.indexLocation = location;
 }
+/**
+ * Answer whether index files written with the given signature can be read, either because they have the current
+ * format or because they have the previous one and can be migrated.
+ */
+public static boolean isReadableSignature(String signature) {
+	return SIGNATURE.equals(signature) || PREVIOUS_SIGNATURE.equals(signature);
+}
 SimpleSet addDocumentNames(String substring, MemoryIndex memoryIndex) throws IOException {
 	// must skip over documents which have been added/changed/deleted in the memory index
 	String[] docNames = readAllDocumentNames();
@@ -195,7 +235,7 @@ HashtableOfObject addQueryResults(char[][] categories, char[] key, int matchRule
 		switch (matchRule) {
 			case SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE:
 				for (int i = 0, l = categories.length; i < l; i++) {
-					HashtableOfObject wordsToDocNumbers = readCategoryTable(categories[i], false);
+					HashtableOfObject wordsToDocNumbers = readCategoryWords(categories[i], key, true);
 					Object value;
 					if (wordsToDocNumbers != null && (value = wordsToDocNumbers.get(key)) != null)
 						results = addQueryResult(results, key, value, memoryIndex, prevResults);
@@ -204,7 +244,7 @@ HashtableOfObject addQueryResults(char[][] categories, char[] key, int matchRule
 				break;
 			case SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE:
 				for (int i = 0, l = categories.length; i < l; i++) {
-					HashtableOfObject wordsToDocNumbers = readCategoryTable(categories[i], false);
+					HashtableOfObject wordsToDocNumbers = readCategoryWords(categories[i], key, false);
 					if (wordsToDocNumbers != null) {
 						char[][] words = wordsToDocNumbers.keyTable;
 						Object[] values = wordsToDocNumbers.valueTable;
@@ -234,8 +274,16 @@ HashtableOfObject addQueryResults(char[][] categories, char[] key, int matchRule
 				}
 				break;
 			default:
+				// the words matching a case sensitive pattern start with the characters before its first wild card
+				char[] prefix = CharOperation.NO_CHAR;
+				if (matchRule == (SearchPattern.R_PATTERN_MATCH | SearchPattern.R_CASE_SENSITIVE)) {
+					int end = 0;
+					while (end < key.length && key[end] != '*' && key[end] != '?')
+						end++;
+					prefix = CharOperation.subarray(key, 0, end);
+				}
 				for (int i = 0, l = categories.length; i < l; i++) {
-					HashtableOfObject wordsToDocNumbers = readCategoryTable(categories[i], false);
+					HashtableOfObject wordsToDocNumbers = readCategoryWords(categories[i], prefix, false);
 					if (wordsToDocNumbers != null) {
 						char[][] words = wordsToDocNumbers.keyTable;
 						Object[] values = wordsToDocNumbers.valueTable;
@@ -405,7 +453,9 @@ void initialize(boolean reuseExistingFile) throws IOException {
 			this.bufferEnd = stream.read(this.streamBuffer, 0, 128);
 			try {
 				char[] signature = readStreamChars(stream);
-				if (!CharOperation.equals(signature, SIGNATURE_CHARS)) {
+				if (CharOperation.equals(signature, PREVIOUS_SIGNATURE_CHARS)) {
+					this.sortedWords = false;
+				} else if (!CharOperation.equals(signature, SIGNATURE_CHARS)) {
 					throw new IOException(Messages.exception_wrongFormat);
 				}
 				this.headerInfoOffset = readStreamInt(stream);
@@ -459,6 +509,7 @@ private void initializeFrom(DiskIndex diskIndex, File newIndexFile) throws IOExc
 	int size = diskIndex.categoryOffsets == null ? 8 : diskIndex.categoryOffsets.elementSize;
 	this.categoryOffsets = new HashtableOfIntValues(size);
 	this.categoryEnds = new HashtableOfIntValues(size);
+	this.blockIndexOffsets = new HashtableOfIntValues(size);
 	this.categoryTables = new HashtableOfObject(size);
 	this.separator = diskIndex.separator;
 }
@@ -489,7 +540,7 @@ private void mergeCategory(char[] categoryName, DiskIndex onDisk, int[] position
 		nextWord: for (int i = 0, l = oldWords.length; i < l; i++) {
 			char[] oldWord = oldWords[i];
 			if (oldWord != null) {
-				int[] oldDocNumbers = (int[]) oldArrayOffsets[i];
+				int[] oldDocNumbers = onDisk.readDocumentNumbers(oldArrayOffsets[i]);
 				int length = oldDocNumbers.length;
 				int[] mappedNumbers = new int[length];
 				int count = 0;
@@ -660,7 +711,7 @@ private synchronized HashtableOfObject readCategoryTable(char[] categoryName, bo
 				Object[] arrayOffsets = cachedTable.valueTable;
 				for (int i = 0, l = arrayOffsets.length; i < l; i++)
 					if (arrayOffsets[i] instanceof Integer)
-						arrayOffsets[i] = readDocumentNumbers(arrayOffsets[i]);
+						arrayOffsets[i] = this.sortedWords ? readPostingList(arrayOffsets[i]).bytes : readDocumentNumbers(arrayOffsets[i]);
 			}
 			return cachedTable;
 		}
@@ -684,9 +735,22 @@ private synchronized HashtableOfObject readCategoryTable(char[] categoryName, bo
 					+ " and size " + size; //$NON-NLS-1$
 			throw new IOException(message, e);
 		}
-		int largeArraySize = 256;
+		char[] word = null;
 		for (int i = 0; i < size; i++) {
-			char[] word = readStreamChars(stream);
+			if (this.sortedWords) {
+				word = readStreamWord(stream, word);
+				Object docs = readStreamDocuments(stream);
+				if (readDocNumbers && docs instanceof Integer) {
+					if (matchingWords == null)
+						matchingWords = new char[size][];
+					if (count == 0)
+						firstOffset = ((Integer) docs).intValue();
+					matchingWords[count++] = word;
+				}
+				categoryTable.putUnsafely(word, docs);
+				continue;
+			}
+			word = readStreamChars(stream);
 			int arrayOffset = readStreamInt(stream);
 			// if arrayOffset is:
 			//		<= 0 then the array size == 1 with the value -> -arrayOffset
@@ -694,7 +758,7 @@ private synchronized HashtableOfObject readCategoryTable(char[] categoryName, bo
 			//		256 if the array size >= 256 followed by another int which is the offset to the array (written prior to the table)
 			if (arrayOffset <= 0) {
 				categoryTable.putUnsafely(word, new int[] {-arrayOffset}); // store 1 element array by negating documentNumber
-			} else if (arrayOffset < largeArraySize) {
+			} else if (arrayOffset < LARGE_ARRAY_SIZE) {
 				categoryTable.putUnsafely(word, readStreamDocumentArray(stream, arrayOffset)); // read in-lined array providing size
 			} else {
 				arrayOffset = readStreamInt(stream); // read actual offset
@@ -727,7 +791,9 @@ private synchronized HashtableOfObject readCategoryTable(char[] categoryName, bo
 			this.bufferIndex = 0;
 			this.bufferEnd = stream.read(this.streamBuffer, 0, this.streamBuffer.length);
 			for (int i = 0; i < count; i++) { // each array follows the previous one
-				categoryTable.put(matchingWords[i], readStreamDocumentArray(stream, readStreamInt(stream)));
+				categoryTable.put(matchingWords[i], this.sortedWords
+						? readStreamPostingBytes(stream, readStreamVarInt(stream))
+						: readStreamDocumentArray(stream, readStreamInt(stream)));
 			}
 		} catch (IOException ioe) {
 			this.streamBuffer = null;
@@ -740,6 +806,90 @@ private synchronized HashtableOfObject readCategoryTable(char[] categoryName, bo
 	this.streamBuffer = null;
 	return categoryTable;
 }
+/*
+ * Answer the words of the given category starting with the given prefix, or only the word equal to it if exactMatch,
+ * mapped to their document numbers as in readCategoryTable(), or null if the category is unknown.
+ * Only the blocks which may contain these words are read from a sorted category table, unless the table is cached.
+ */
+private synchronized HashtableOfObject readCategoryWords(char[] categoryName, char[] prefix, boolean exactMatch) throws IOException {
+	if (!this.sortedWords || prefix.length == 0)
+		return readCategoryTable(categoryName, false);
+	if (this.categoryTables != null) {
+		HashtableOfObject cachedTable = (HashtableOfObject) this.categoryTables.get(categoryName);
+		if (cachedTable != null)
+			return cachedTable;
+	}
+	WordBlocks blocks = readWordBlocks(categoryName);
+	if (blocks == null)
+		return null;
+
+	HashtableOfObject matchingWords = new HashtableOfObject(exactMatch ? 1 : 13);
+	if (blocks.wordCount == 0)
+		return matchingWords;
+	int block = blocks.blockOf(prefix);
+	InputStream stream = this.indexLocation.getInputStream();
+	try (stream) {
+		stream.skip(blocks.offsets[block]);
+		this.streamBuffer = new byte[BUFFER_READ_SIZE];
+		this.bufferIndex = 0;
+		this.bufferEnd = stream.read(this.streamBuffer, 0, this.streamBuffer.length);
+		char[] word = null;
+		for (int i = block * WORD_BLOCK_SIZE; i < blocks.wordCount; i++) { // each block follows the previous one
+			word = readStreamWord(stream, word);
+			Object docs = readStreamDocuments(stream);
+			int comparison = CharOperation.compareTo(word, prefix);
+			if (comparison >= 0) {
+				if (exactMatch ? comparison > 0 : !CharOperation.prefixEquals(prefix, word))
+					break; // past the words starting with the prefix
+				matchingWords.putUnsafely(word, docs);
+			}
+		}
+	} finally {
+		this.indexLocation.close();
+		this.streamBuffer = null;
+	}
+	return matchingWords;
+}
+private WordBlocks readWordBlocks(char[] categoryName) throws IOException {
+	int offset = this.blockIndexOffsets.get(categoryName);
+	if (offset == HashtableOfIntValues.NO_VALUE)
+		return null;
+
+	if (this.wordBlocks == null) {
+		this.wordBlocks = new HashtableOfObject(3);
+	} else {
+		WordBlocks cachedBlocks = (WordBlocks) this.wordBlocks.get(categoryName);
+		if (cachedBlocks != null)
+			return cachedBlocks;
+	}
+	WordBlocks blocks = new WordBlocks();
+	InputStream stream = this.indexLocation.getInputStream();
+	try (stream) {
+		stream.skip(offset);
+		this.streamBuffer = new byte[BUFFER_READ_SIZE];
+		this.bufferIndex = 0;
+		this.bufferEnd = stream.read(this.streamBuffer, 0, this.streamBuffer.length);
+		blocks.wordCount = readStreamInt(stream);
+		int numberOfBlocks = (blocks.wordCount + WORD_BLOCK_SIZE - 1) / WORD_BLOCK_SIZE;
+		long length = this.indexLocation.length();
+		if (numberOfBlocks < 0 || (length != -1 && numberOfBlocks > length)) {
+			if (DEBUG)
+				System.out.println("Index file is corrupted " + this.indexLocation); //$NON-NLS-1$
+			throw new IOException("Index file is corrupted " + this.indexLocation); //$NON-NLS-1$
+		}
+		blocks.firstWords = new char[numberOfBlocks][];
+		blocks.offsets = new int[numberOfBlocks];
+		for (int i = 0; i < numberOfBlocks; i++) {
+			blocks.firstWords[i] = readStreamChars(stream);
+			blocks.offsets[i] = readStreamInt(stream);
+		}
+	} finally {
+		this.indexLocation.close();
+		this.streamBuffer = null;
+	}
+	this.wordBlocks.put(INTERNED_CATEGORY_NAMES.get(categoryName), blocks);
+	return blocks;
+}
 private void readChunk(String[] docNames, InputStream stream, int index, int size) throws IOException {
 	String current = new String(readStreamChars(stream));
 	docNames[index++] = current;
@@ -807,9 +957,11 @@ synchronized String readDocumentName(int docNumber) throws IOException {
 	return chunk[docNumber - (chunkNumber * CHUNK_SIZE)];
 }
 synchronized int[] readDocumentNumbers(Object arrayOffset) throws IOException {
-	// arrayOffset is either a cached array of docNumbers or an Integer offset in the file
+	// arrayOffset is either a cached array of docNumbers, the bytes of their posting list or an Integer offset in the file
 	if (arrayOffset instanceof int[])
 		return (int[]) arrayOffset;
+	if (arrayOffset instanceof byte[])
+		return new PostingList((byte[]) arrayOffset).toArray();
 
 	InputStream stream = this.indexLocation.getInputStream();
 	try (stream) {
@@ -818,12 +970,37 @@ synchronized int[] readDocumentNumbers(Object arrayOffset) throws IOException {
 		this.streamBuffer = new byte[BUFFER_READ_SIZE];
 		this.bufferIndex = 0;
 		this.bufferEnd = stream.read(this.streamBuffer, 0, this.streamBuffer.length);
+		if (this.sortedWords)
+			return readStreamDocumentNumbers(stream, readStreamVarInt(stream));
 		return readStreamDocumentArray(stream, readStreamInt(stream));
 	} finally {
 		this.indexLocation.close();
 		this.streamBuffer = null;
 	}
 }
+/*
+ * Answer the document numbers of the given table value as a posting list, which is read without being
+ * decoded from a file with the sorted format.
+ */
+synchronized PostingList readPostingList(Object arrayOffset) throws IOException {
+	if (arrayOffset instanceof byte[])
+		return new PostingList((byte[]) arrayOffset);
+	if (!this.sortedWords || !(arrayOffset instanceof Integer))
+		return PostingList.of(readDocumentNumbers(arrayOffset));
+
+	InputStream stream = this.indexLocation.getInputStream();
+	try (stream) {
+		int offset = ((Integer) arrayOffset).intValue();
+		stream.skip(offset);
+		this.streamBuffer = new byte[BUFFER_READ_SIZE];
+		this.bufferIndex = 0;
+		this.bufferEnd = stream.read(this.streamBuffer, 0, this.streamBuffer.length);
+		return new PostingList(readStreamPostingBytes(stream, readStreamVarInt(stream)));
+	} finally {
+		this.indexLocation.close();
+		this.streamBuffer = null;
+	}
+}
 private void readHeaderInfo(InputStream stream) throws IOException {
 
 	// must be same order as writeHeaderInfo()
@@ -847,6 +1024,8 @@ private void readHeaderInfo(InputStream stream) throws IOException {
 	int size = readStreamInt(stream);
 	this.categoryOffsets = new HashtableOfIntValues(size);
 	this.categoryEnds = new HashtableOfIntValues(size);
+	if (this.sortedWords)
+		this.blockIndexOffsets = new HashtableOfIntValues(size);
 	if (length != -1 && size > length) {
 		//  not an accurate check, but good enough  https://bugs.eclipse.org/bugs/show_bug.cgi?id=350612
 		if (DEBUG)
@@ -859,6 +1038,8 @@ private void readHeaderInfo(InputStream stream) throws IOException {
 		char[] categoryName = INTERNED_CATEGORY_NAMES.get(readStreamChars(stream));
 		offset = readStreamInt(stream);
 		this.categoryOffsets.put(categoryName, offset); // cache offset to category table
+		if (this.sortedWords)
+			this.blockIndexOffsets.put(categoryName, readStreamInt(stream));
 		if (previousCategory != null) {
 			this.categoryEnds.put(previousCategory, offset); // cache end of the category table
 		}
@@ -1029,6 +1210,48 @@ private int[] readStreamDocumentArray(InputStream stream, int arraySize) throws
 	}
 	return indexes;
 }
+/*
+ * Read the document numbers of a word of a sorted category table: the bytes of their posting list if they
+ * follow their count, otherwise the offset of the array written before the table.
+ */
+private Object readStreamDocuments(InputStream stream) throws IOException {
+	int arraySize = readStreamVarInt(stream);
+	if (arraySize < LARGE_ARRAY_SIZE)
+		return readStreamPostingBytes(stream, arraySize);
+	return Integer.valueOf(readStreamVarInt(stream));
+}
+private int[] readStreamDocumentNumbers(InputStream stream, int arraySize) throws IOException {
+	// the numbers are sorted, each one is written as its difference with the previous one
+	int[] documentNumbers = new int[arraySize];
+	int documentNumber = 0;
+	for (int i = 0; i < arraySize; i++)
+		documentNumbers[i] = documentNumber += readStreamVarInt(stream);
+	return documentNumbers;
+}
+private byte[] readStreamPostingBytes(InputStream stream, int arraySize) throws IOException {
+	// the bytes are kept as written, preceded by the encoded size, see PostingList
+	byte[] bytes = new byte[arraySize + 5];
+	int length = 0;
+	int val = arraySize;
+	while ((val & ~0x7F) != 0) {
+		bytes[length++] = (byte) ((val & 0x7F) | 0x80);
+		val >>>= 7;
+	}
+	bytes[length++] = (byte) val;
+	for (int i = 0; i < arraySize; i++) {
+		if (this.bufferIndex + 5 >= this.bufferEnd)
+			readStreamBuffer(stream);
+		if (length + 5 > bytes.length)
+			System.arraycopy(bytes, 0, bytes = new byte[length + (arraySize - i) * 2 + 5], 0, length);
+		byte b;
+		do {
+			b = bytes[length++] = this.streamBuffer[this.bufferIndex++];
+		} while (b < 0);
+	}
+	if (length < bytes.length)
+		System.arraycopy(bytes, 0, bytes = new byte[length], 0, length);
+	return bytes;
+}
 private int readStreamInt(InputStream stream) throws IOException {
 	if (this.bufferIndex + 4 >= this.bufferEnd) {
 		readStreamBuffer(stream);
@@ -1038,6 +1261,34 @@ private int readStreamInt(InputStream stream) throws IOException {
 	val += (this.streamBuffer[this.bufferIndex++] & 0xFF) << 8;
 	return val + (this.streamBuffer[this.bufferIndex++] & 0xFF);
 }
+private int readStreamVarInt(InputStream stream) throws IOException {
+	// 7 bits per byte, starting with the lowest ones, the highest bit is set if more bytes follow
+	if (this.bufferIndex + 5 >= this.bufferEnd)
+		readStreamBuffer(stream);
+	int b = this.streamBuffer[this.bufferIndex++];
+	int val = b & 0x7F;
+	for (int shift = 7; b < 0; shift += 7) {
+		b = this.streamBuffer[this.bufferIndex++];
+		val |= (b & 0x7F) << shift;
+	}
+	return val;
+}
+/*
+ * Read a word of a sorted category table, written as the number of its first characters
+ * which are the same as in the previous word, followed by its remaining characters.
+ */
+private char[] readStreamWord(InputStream stream, char[] previousWord) throws IOException {
+	if (this.bufferIndex + 1 >= this.bufferEnd)
+		readStreamBuffer(stream);
+	int sharedLength = this.streamBuffer[this.bufferIndex++] & 0xFF;
+	char[] suffix = readStreamChars(stream);
+	if (sharedLength == 0)
+		return suffix;
+	char[] word = new char[sharedLength + suffix.length];
+	System.arraycopy(previousWord, 0, word, 0, sharedLength);
+	System.arraycopy(suffix, 0, word, sharedLength, suffix.length);
+	return word;
+}
 private void writeAllDocumentNames(String[] sortedDocNames, FileOutputStream stream) throws IOException {
 	if (sortedDocNames.length == 0)
 		throw new IllegalArgumentException();
@@ -1115,92 +1366,72 @@ private void writeCategories(FileOutputStream stream) throws IOException {
 private void writeCategoryTable(char[] categoryName, HashtableOfObject wordsToDocs, FileOutputStream stream) throws IOException {
 	// the format of a category table is as follows:
 	// any document number arrays with >= 256 elements are written before the table (the offset to each array is remembered)
-	// then the number of word->int[] pairs in the table is written
-	// for each word -> int[] pair, the word is written followed by:
-	//		an int <= 0 if the array size == 1
-	//		an int > 1 & < 256 for the size of the array if its > 1 & < 256, the document array follows immediately
-	//		256 if the array size >= 256 followed by another int which is the offset to the array (written prior to the table)
-
-	int largeArraySize = 256;
-	Object[] values = wordsToDocs.valueTable;
-	for (int i = 0, l = values.length; i < l; i++) {
-		Object o = values[i];
-		if (o != null) {
-			if (o instanceof IntList)
-				o = values[i] = ((IntList) values[i]).asArray();
-			int[] documentNumbers = (int[]) o;
-			if (documentNumbers.length >= largeArraySize) {
-				values[i] = Integer.valueOf(this.streamEnd);
-				writeDocumentNumbers(documentNumbers, stream);
-			}
+	// then the number of words in the table is written, followed by the words in sorted order, in blocks of WORD_BLOCK_SIZE words
+	// each word is written as the number of its first characters which are the same as in the previous word of its block
+	// and its remaining characters, followed by the size of its document number array and:
+	//		the array if its size is < 256
+	//		the offset to the array if its size is >= 256 (written prior to the table)
+	// then the index of the blocks is written: the number of words, followed by the first word & the offset of each block
+	// arrays are written as the differences between their sorted document numbers, and sizes, offsets & differences
+	// use 7 bits per byte, the highest bit being set if more bytes follow
+
+	int size = wordsToDocs.elementSize;
+	char[][] words = new char[size][];
+	int count = 0;
+	char[][] keys = wordsToDocs.keyTable;
+	for (int i = 0, l = keys.length; i < l; i++)
+		if (keys[i] != null)
+			words[count++] = keys[i];
+	Util.sort(words);
+
+	Object[] values = new Object[size];
+	for (int i = 0; i < size; i++) {
+		Object o = wordsToDocs.get(words[i]);
+		if (o instanceof IntList)
+			o = ((IntList) o).asArray();
+		int[] documentNumbers = (int[]) o;
+		if (documentNumbers.length >= LARGE_ARRAY_SIZE) {
+			values[i] = Integer.valueOf(this.streamEnd);
+			writeDocumentNumbers(documentNumbers, stream);
+		} else {
+			values[i] = documentNumbers;
 		}
 	}
 
 	this.categoryOffsets.put(categoryName, this.streamEnd); // remember the offset to the start of the table
 	this.categoryTables.put(categoryName, null); // flush cached table
-	writeStreamInt(stream, wordsToDocs.elementSize);
-	char[][] words = wordsToDocs.keyTable;
-	for (int i = 0, l = words.length; i < l; i++) {
+	writeStreamInt(stream, size);
+	int numberOfBlocks = (size + WORD_BLOCK_SIZE - 1) / WORD_BLOCK_SIZE;
+	int[] blockOffsets = new int[numberOfBlocks];
+	for (int i = 0; i < size; i++) {
+		boolean isFirstInBlock = i % WORD_BLOCK_SIZE == 0;
+		if (isFirstInBlock)
+			blockOffsets[i / WORD_BLOCK_SIZE] = this.streamEnd;
+		writeStreamWord(stream, isFirstInBlock ? null : words[i - 1], words[i]);
 		Object o = values[i];
-		if (o != null) {
-			writeStreamChars(stream, words[i]);
-			if (o instanceof int[]) {
-				int[] documentNumbers = (int[]) o;
-				if (documentNumbers.length == 1)
-					writeStreamInt(stream, -documentNumbers[0]); // store an array of 1 element by negating the documentNumber (can be zero)
-				else
-					writeDocumentNumbers(documentNumbers, stream);
-			} else {
-				writeStreamInt(stream, largeArraySize); // mark to identify that an offset follows
-				writeStreamInt(stream, ((Integer) o).intValue()); // offset in the file of the array of document numbers
-			}
+		if (o instanceof int[]) {
+			writeDocumentNumbers((int[]) o, stream);
+		} else {
+			writeStreamVarInt(stream, LARGE_ARRAY_SIZE); // any size >= 256 identifies that an offset follows
+			writeStreamVarInt(stream, ((Integer) o).intValue()); // offset in the file of the array of document numbers
 		}
 	}
+
+	this.blockIndexOffsets.put(categoryName, this.streamEnd);
+	writeStreamInt(stream, size);
+	for (int i = 0; i < numberOfBlocks; i++) {
+		writeStreamChars(stream, words[i * WORD_BLOCK_SIZE]);
+		writeStreamInt(stream, blockOffsets[i]);
+	}
 }
 private void writeDocumentNumbers(int[] documentNumbers, FileOutputStream stream) throws IOException {
-	// must store length as a positive int to detect in-lined array of 1 element
 	int length = documentNumbers.length;
-	writeStreamInt(stream, length);
+	writeStreamVarInt(stream, length);
 	Util.sort(documentNumbers);
-	int start = 0;
-	switch (this.documentReferenceSize) {
-		case 1 :
-			while ((this.bufferIndex + length - start) >= BUFFER_WRITE_SIZE) {
-				// when documentNumbers is large, write BUFFER_WRITE_SIZE parts & fall thru to write the last part
-				int bytesLeft = BUFFER_WRITE_SIZE - this.bufferIndex;
-				for (int i=0; i < bytesLeft; i++) {
-					this.streamBuffer[this.bufferIndex++] = (byte) documentNumbers[start++];
-				}
-				stream.write(this.streamBuffer, 0, this.bufferIndex);
-				this.bufferIndex = 0;
-			}
-			while (start < length) {
-				this.streamBuffer[this.bufferIndex++] = (byte) documentNumbers[start++];
-			}
-			this.streamEnd += length;
-			break;
-		case 2 :
-			while ((this.bufferIndex + ((length - start) * 2)) >= BUFFER_WRITE_SIZE) {
-				// when documentNumbers is large, write BUFFER_WRITE_SIZE parts & fall thru to write the last part
-				int shortsLeft = (BUFFER_WRITE_SIZE - this.bufferIndex) / 2;
-				for (int i=0; i < shortsLeft; i++) {
-					this.streamBuffer[this.bufferIndex++] = (byte) (documentNumbers[start] >> 8);
-					this.streamBuffer[this.bufferIndex++] = (byte) documentNumbers[start++];
-				}
-				stream.write(this.streamBuffer, 0, this.bufferIndex);
-				this.bufferIndex = 0;
-			}
-			while (start < length) {
-				this.streamBuffer[this.bufferIndex++] = (byte) (documentNumbers[start] >> 8);
-				this.streamBuffer[this.bufferIndex++] = (byte) documentNumbers[start++];
-			}
-			this.streamEnd += length * 2;
-			break;
-		default :
-			while (start < length) {
-				writeStreamInt(stream, documentNumbers[start++]);
-			}
-			break;
+	int previous = 0;
+	for (int i = 0; i < length; i++) {
+		writeStreamVarInt(stream, documentNumbers[i] - previous);
+		previous = documentNumbers[i];
 	}
 }
 private void writeHeaderInfo(FileOutputStream stream) throws IOException {
@@ -1221,7 +1452,8 @@ private void writeHeaderInfo(FileOutputStream stream) throws IOException {
 
 	writeStreamInt(stream, this.startOfCategoryTables);
 
-	// append the file with the category offsets... # of name -> offset pairs, followed by each name & an offset to its word->doc# table
+	// append the file with the category offsets... # of name -> offset pairs, followed by each name, an offset to its word->doc# table
+	// & an offset to the index of the blocks of its words
 	writeStreamInt(stream, this.categoryOffsets.elementSize);
 	char[][] categoryNames = this.categoryOffsets.keyTable;
 	int[] offsets = this.categoryOffsets.valueTable;
@@ -1229,6 +1461,7 @@ private void writeHeaderInfo(FileOutputStream stream) throws IOException {
 		if (categoryNames[i] != null) {
 			writeStreamChars(stream, categoryNames[i]);
 			writeStreamInt(stream, offsets[i]);
+			writeStreamInt(stream, this.blockIndexOffsets.get(categoryNames[i]));
 		}
 	}
 	// ensure buffer is written to the stream
@@ -1336,6 +1569,34 @@ private void writeStreamChars(FileOutputStream stream, char[] array, int start,
 	}
 	this.streamEnd += this.bufferIndex - oldIndex;
 }
+private void writeStreamVarInt(FileOutputStream stream, int val) throws IOException {
+	if ((this.bufferIndex + 5) >= BUFFER_WRITE_SIZE)  {
+		stream.write(this.streamBuffer, 0, this.bufferIndex);
+		this.bufferIndex = 0;
+	}
+	int oldIndex = this.bufferIndex;
+	while ((val & ~0x7F) != 0) {
+		this.streamBuffer[this.bufferIndex++] = (byte) ((val & 0x7F) | 0x80);
+		val >>>= 7;
+	}
+	this.streamBuffer[this.bufferIndex++] = (byte) val;
+	this.streamEnd += this.bufferIndex - oldIndex;
+}
+private void writeStreamWord(FileOutputStream stream, char[] previousWord, char[] word) throws IOException {
+	int sharedLength = 0;
+	if (previousWord != null) {
+		int max = Math.min(Math.min(previousWord.length, word.length), 255);
+		while (sharedLength < max && previousWord[sharedLength] == word[sharedLength])
+			sharedLength++;
+	}
+	if ((this.bufferIndex + 1) >= BUFFER_WRITE_SIZE)  {
+		stream.write(this.streamBuffer, 0, this.bufferIndex);
+		this.bufferIndex = 0;
+	}
+	this.streamBuffer[this.bufferIndex++] = (byte) sharedLength;
+	this.streamEnd++;
+	writeStreamChars(stream, sharedLength == 0 ? word : CharOperation.subarray(word, sharedLength, word.length));
+}
 private void writeStreamInt(FileOutputStream stream, int val) throws IOException {
 	if ((this.bufferIndex + 4) >= BUFFER_WRITE_SIZE)  {
 		stream.write(this.streamBuffer, 0, this.bufferIndex);
@@ -1348,6 +1609,9 @@ private void writeStreamInt(FileOutputStream stream, int val) throws IOException
 	this.streamEnd += 4;
 }
 
+boolean hasPreviousFormat() {
+	return !this.sortedWords;
+}
 synchronized int getCacheUserCount() {
 	return this.cacheUserCount;
 }
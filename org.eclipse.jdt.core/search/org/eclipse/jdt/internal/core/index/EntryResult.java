@@ -41,6 +41,23 @@ public void addDocumentTable(Object table) {
 		this.documentTables = new Object[] {table};
 	}
 }
+/**
+ * Returns the numbers of the documents of this entry in the disk index of the given index,
+ * or null if the entry has document names, which is the case when the memory index has changed,
+ * or once {@link #getDocumentNames(Index)} merged several tables: the names are then needed since
+ * they may not all be numbered in the disk index.
+ */
+public PostingList getDocumentNumbers(Index index) throws java.io.IOException {
+	if (this.documentNames != null)
+		return null;
+	if (this.documentTables == null)
+		return PostingList.EMPTY;
+
+	PostingList numbers = index.diskIndex.readPostingList(this.documentTables[0]);
+	for (int i = 1, length = this.documentTables.length; i < length; i++)
+		numbers = numbers.or(index.diskIndex.readPostingList(this.documentTables[i]));
+	return numbers;
+}
 public char[] getWord() {
 	return this.word;
 }
@@ -132,6 +132,16 @@ public String containerRelativePath(String documentPath) {
 	}
 	return documentPath.substring(index + 1);
 }
+/**
+ * Returns the names of the documents of the given numbers, as answered by {@link EntryResult#getDocumentNumbers(Index)}.
+ */
+public String[] getDocumentNames(PostingList documentNumbers) throws IOException {
+	int[] numbers = documentNumbers.toArray();
+	String[] names = new String[numbers.length];
+	for (int i = 0, l = numbers.length; i < l; i++)
+		names[i] = this.diskIndex.readDocumentName(numbers[i]);
+	return names;
+}
 public File getIndexFile() {
 	return this.diskIndex == null ? null : this.diskIndex.indexLocation.getIndexFile();
 }
@@ -144,6 +154,24 @@ public long getIndexLastModified() {
 public boolean hasChanged() {
 	return this.memoryIndex.hasChanged();
 }
+/**
+ * Answer whether the index file has the previous format, which is read but whose words cannot be looked up
+ * without reading whole category tables.
+ */
+public boolean hasPreviousFormat() {
+	return this.diskIndex.hasPreviousFormat();
+}
+/**
+ * Rewrite the index file in the current format if it has the previous one.
+ * Must own the write lock of the monitor.
+ */
+public void migrate() throws IOException {
+	if (!this.diskIndex.hasPreviousFormat()) return;
+
+	this.diskIndex.separator = this.separator;
+	this.diskIndex = this.diskIndex.mergeWith(this.memoryIndex);
+	this.memoryIndex = new MemoryIndex();
+}
 /**
  * Returns the entries containing the given key in a group of categories, or null if no matches are found.
  * The matchRule dictates whether its an exact, prefix or pattern match, as well as case sensitive or insensitive.
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.index;
+
+import java.util.Arrays;
+
+/**
+ * The sorted numbers of the documents of a disk index which contain a word, encoded as in the index file:
+ * their count followed by the difference of each number with the previous one, each written with 7 bits
+ * per byte, starting with the lowest ones, and the highest bit set if more bytes follow.
+ * <p>
+ * The union and the intersection of posting lists are computed without decoding them into arrays.
+ * </p>
+ */
+public final class PostingList {
+
+static final PostingList EMPTY = new PostingList(new byte[] {0});
+
+final byte[] bytes;
+
+PostingList(byte[] bytes) {
+	this.bytes = bytes;
+}
+/**
+ * Answer the posting list of the given document numbers, in any order.
+ */
+public static PostingList of(int[] documentNumbers) {
+	int length = documentNumbers.length;
+	for (int i = 1; i < length; i++) {
+		if (documentNumbers[i - 1] >= documentNumbers[i]) {
+			documentNumbers = documentNumbers.clone();
+			Arrays.sort(documentNumbers);
+			break;
+		}
+	}
+	Writer writer = new Writer(length);
+	for (int i = 0; i < length; i++)
+		if (i == 0 || documentNumbers[i - 1] != documentNumbers[i])
+			writer.add(documentNumbers[i]);
+	return writer.toPostingList();
+}
+/**
+ * Answer the numbers of the documents which are in this posting list and in the given one.
+ */
+public PostingList and(PostingList other) {
+	Reader reader = new Reader(this.bytes), otherReader = new Reader(other.bytes);
+	Writer writer = new Writer(Math.min(reader.remaining, otherReader.remaining));
+	if (reader.next() && otherReader.next()) {
+		while (true) {
+			if (reader.current < otherReader.current) {
+				if (!reader.next()) break;
+			} else if (reader.current > otherReader.current) {
+				if (!otherReader.next()) break;
+			} else {
+				writer.add(reader.current);
+				if (!reader.next() || !otherReader.next()) break;
+			}
+		}
+	}
+	return writer.toPostingList();
+}
+public boolean isEmpty() {
+	return size() == 0;
+}
+/**
+ * Answer the numbers of the documents which are in this posting list or in the given one.
+ */
+public PostingList or(PostingList other) {
+	Reader reader = new Reader(this.bytes), otherReader = new Reader(other.bytes);
+	if (otherReader.remaining == 0) return this;
+	if (reader.remaining == 0) return other;
+
+	Writer writer = new Writer(reader.remaining + otherReader.remaining);
+	boolean hasNext = reader.next(), otherHasNext = otherReader.next();
+	while (hasNext || otherHasNext) {
+		if (!otherHasNext || (hasNext && reader.current < otherReader.current)) {
+			writer.add(reader.current);
+			hasNext = reader.next();
+		} else if (!hasNext || reader.current > otherReader.current) {
+			writer.add(otherReader.current);
+			otherHasNext = otherReader.next();
+		} else {
+			writer.add(reader.current);
+			hasNext = reader.next();
+			otherHasNext = otherReader.next();
+		}
+	}
+	return writer.toPostingList();
+}
+public int size() {
+	return new Reader(this.bytes).remaining;
+}
+public int[] toArray() {
+	Reader reader = new Reader(this.bytes);
+	int[] documentNumbers = new int[reader.remaining];
+	for (int i = 0; reader.next(); i++)
+		documentNumbers[i] = reader.current;
+	return documentNumbers;
+}
+@Override
+public String toString() {
+	return Arrays.toString(toArray());
+}
+
+private static final class Reader {
+
+final byte[] bytes;
+int index;
+int remaining;
+int current;
+
+Reader(byte[] bytes) {
+	this.bytes = bytes;
+	this.remaining = readVarInt();
+}
+boolean next() {
+	if (this.remaining == 0) return false;
+	this.remaining--;
+	this.current += readVarInt();
+	return true;
+}
+private int readVarInt() {
+	int b = this.bytes[this.index++];
+	int val = b & 0x7F;
+	for (int shift = 7; b < 0; shift += 7) {
+		b = this.bytes[this.index++];
+		val |= (b & 0x7F) << shift;
+	}
+	return val;
+}
+}
+
+private static final class Writer {
+
+byte[] bytes;
+int length;
+int count;
+int previous;
+
+Writer(int expectedCount) {
+	this.bytes = new byte[Math.max(expectedCount, 4) + 5];
+	this.length = 5; // room for the count
+}
+void add(int documentNumber) {
+	if (this.length + 5 > this.bytes.length)
+		System.arraycopy(this.bytes, 0, this.bytes = new byte[this.bytes.length * 2], 0, this.length);
+	this.length = writeVarInt(this.bytes, this.length, documentNumber - this.previous);
+	this.previous = documentNumber;
+	this.count++;
+}
+PostingList toPostingList() {
+	if (this.count == 0) return EMPTY;
+
+	byte[] count = new byte[5];
+	int countLength = writeVarInt(count, 0, this.count);
+	byte[] result = new byte[countLength + this.length - 5];
+	System.arraycopy(count, 0, result, 0, countLength);
+	System.arraycopy(this.bytes, 5, result, countLength, this.length - 5);
+	return new PostingList(result);
+}
+private static int writeVarInt(byte[] bytes, int index, int val) {
+	while ((val & ~0x7F) != 0) {
+		bytes[index++] = (byte) ((val & 0x7F) | 0x80);
+		val >>>= 7;
+	}
+	bytes[index++] = (byte) val;
+	return index;
+}
+}
+}
@@ -110,6 +110,12 @@ class AddJarFileToIndex extends BinaryContainer {
 				return true;
 			}
 
+			// an external library without index file may be found in the shared index cache
+			// its key, which reads the whole library, is only computed when its index may be copied from or added to the cache
+			boolean shared = this.resource == null && this.indexFileURL == null;
+			String sharedIndexKey = shared && this.manager.canRestoreSharedIndex(this.containerPath) ? this.manager.getSharedIndexKey(this.containerPath) : null;
+			boolean restored = sharedIndexKey != null && this.manager.restoreSharedIndex(this.containerPath, sharedIndexKey);
+
 			index = this.manager.getIndexForUpdate(this.containerPath, true, /*reuse index file*/ true /*create if none*/);
 			if (index == null) {
 				if (JobManager.VERBOSE)
@@ -174,6 +180,13 @@ class AddJarFileToIndex extends BinaryContainer {
 				long initialTime = System.currentTimeMillis();
 
 				String[] paths = index.queryDocumentNames(""); // all file names //$NON-NLS-1$
+				if (restored && paths != null && paths.length > 0) { // the shared index has the same content
+					if (JobManager.VERBOSE)
+						org.eclipse.jdt.internal.core.util.Util.verbose("-> no indexing required (index copied from the shared index cache) for " + zip.getName()); //$NON-NLS-1$
+					this.manager.updateMetaIndex(index);
+					this.manager.saveIndex(index); // to ensure its placed into the saved state
+					return true;
+				}
 				if (paths != null) {
 					int max = paths.length;
 					/* check integrity of the existing index file
@@ -216,7 +229,6 @@ class AddJarFileToIndex extends BinaryContainer {
 
 				// Index the jar for the first time or reindex the jar in case the previous index file has been corrupted
 				// index already existed: recreate it so that we forget about previous entries
-				SearchParticipant participant = SearchEngine.getDefaultSearchParticipant();
 				if (!this.manager.resetIndex(this.containerPath)) {
 					// failed to recreate index, see 73330
 					this.manager.removeIndex(this.containerPath);
@@ -228,47 +240,19 @@ class AddJarFileToIndex extends BinaryContainer {
 				if ((indexLocation = index.getIndexLocation()) != null) {
 					indexPath = new Path(indexLocation.getCanonicalFilePath());
 				}
-				boolean hasModuleInfoClass = false;
-				for (Enumeration e = zip.entries(); e.hasMoreElements();) {
-					if (this.isCancelled) {
-						if (JobManager.VERBOSE)
-							org.eclipse.jdt.internal.core.util.Util.verbose("-> indexing of " + zip.getName() + " has been cancelled"); //$NON-NLS-1$ //$NON-NLS-2$
-						return false;
-					}
-
-					// iterate each entry to index it
-					ZipEntry ze = (ZipEntry) e.nextElement();
-					String zipEntryName = ze.getName();
-					if (Util.isClassFileName(zipEntryName) &&
-							isValidPackageNameForClassOrisModule(zipEntryName)) {
-						hasModuleInfoClass |= zipEntryName.contains(TypeConstants.MODULE_INFO_NAME_STRING);
-						// index only classes coming from valid packages - https://bugs.eclipse.org/bugs/show_bug.cgi?id=293861
-						final byte[] classFileBytes = org.eclipse.jdt.internal.compiler.util.Util.getZipEntryByteContent(ze, zip);
-						JavaSearchDocument entryDocument = new JavaSearchDocument(ze, zipFilePath, classFileBytes, participant);
-						this.manager.indexDocument(entryDocument, participant, index, indexPath);
-					}
-				}
-				if (!hasModuleInfoClass) {
-					String s;
-					try {
-						s = this.resource == null ? this.containerPath.toOSString() :
-							JavaModelManager.getLocalFile(this.resource.getFullPath()).toPath().toAbsolutePath().toString();
-						char[] autoModuleName = AutomaticModuleNaming.determineAutomaticModuleName(s);
-						final char[] contents = CharOperation.append(CharOperation.append(TypeConstants.AUTOMATIC_MODULE_NAME.toCharArray(), ':'), autoModuleName);
-						// adding only the automatic module entry here - can be extended in the future to include other fields.
-						ZipEntry ze = new ZipEntry(TypeConstants.AUTOMATIC_MODULE_NAME);
-						JavaSearchDocument entryDocument = new JavaSearchDocument(ze, zipFilePath, new String(contents).getBytes(Charset.defaultCharset()), participant);
-						this.manager.indexDocument(entryDocument, participant, index, indexPath);
-					} catch (CoreException e) {
-						// TODO Auto-generated catch block
-//						e.printStackTrace();
-					}
-				}
+				if (!indexEntries(zip, zipFilePath, index, indexPath))
+					return false;
 				if(this.forceIndexUpdate) {
 					this.manager.savePreBuiltIndex(index);
 				}
 				else {
 					this.manager.saveIndex(index);
+					if (shared && !index.hasChanged()) {
+						if (sharedIndexKey == null)
+							sharedIndexKey = this.manager.getSharedIndexKey(this.containerPath);
+						if (sharedIndexKey != null)
+							this.manager.storeSharedIndex(index, sharedIndexKey);
+					}
 				}
 				if (JobManager.VERBOSE)
 					org.eclipse.jdt.internal.core.util.Util.verbose("-> done indexing of " //$NON-NLS-1$
@@ -294,6 +278,59 @@ class AddJarFileToIndex extends BinaryContainer {
 		}
 		return true;
 	}
+	/**
+	 * Index the class files of the given jar, and its automatic module name if it has no module descriptor.
+	 * Answer false if this job was cancelled meanwhile.
+	 */
+	boolean indexEntries(ZipFile zip, Path zipFilePath, Index index, IPath indexPath) throws IOException {
+		SearchParticipant participant = SearchEngine.getDefaultSearchParticipant();
+		boolean hasModuleInfoClass = false;
+		for (Enumeration e = zip.entries(); e.hasMoreElements();) {
+			if (this.isCancelled) {
+				if (JobManager.VERBOSE)
+					org.eclipse.jdt.internal.core.util.Util.verbose("-> indexing of " + zip.getName() + " has been cancelled"); //$NON-NLS-1$ //$NON-NLS-2$
+				return false;
+			}
+
+			// iterate each entry to index it
+			ZipEntry ze = (ZipEntry) e.nextElement();
+			String zipEntryName = ze.getName();
+			if (Util.isClassFileName(zipEntryName) &&
+					isValidPackageNameForClassOrisModule(zipEntryName)) {
+				hasModuleInfoClass |= zipEntryName.contains(TypeConstants.MODULE_INFO_NAME_STRING);
+				// index only classes coming from valid packages - https://bugs.eclipse.org/bugs/show_bug.cgi?id=293861
+				final byte[] classFileBytes = org.eclipse.jdt.internal.compiler.util.Util.getZipEntryByteContent(ze, zip);
+				JavaSearchDocument entryDocument = new JavaSearchDocument(ze, zipFilePath, classFileBytes, participant);
+				indexDocument(entryDocument, participant, index, indexPath);
+			}
+		}
+		if (!hasModuleInfoClass) {
+			String s;
+			try {
+				s = this.resource == null ? this.containerPath.toOSString() :
+					JavaModelManager.getLocalFile(this.resource.getFullPath()).toPath().toAbsolutePath().toString();
+				char[] autoModuleName = AutomaticModuleNaming.determineAutomaticModuleName(s);
+				final char[] contents = CharOperation.append(CharOperation.append(TypeConstants.AUTOMATIC_MODULE_NAME.toCharArray(), ':'), autoModuleName);
+				// adding only the automatic module entry here - can be extended in the future to include other fields.
+				ZipEntry ze = new ZipEntry(TypeConstants.AUTOMATIC_MODULE_NAME);
+				JavaSearchDocument entryDocument = new JavaSearchDocument(ze, zipFilePath, new String(contents).getBytes(Charset.defaultCharset()), participant);
+				indexDocument(entryDocument, participant, index, indexPath);
+			} catch (CoreException e) {
+				// TODO Auto-generated catch block
+//					e.printStackTrace();
+			}
+		}
+		return true;
+	}
+	/* same as IndexManager#indexDocument(), so that the shared index cache can be filled without index manager */
+	private static void indexDocument(JavaSearchDocument document, SearchParticipant participant, Index index, IPath indexPath) {
+		try {
+			document.setIndex(index);
+			participant.indexDocument(document, indexPath);
+		} finally {
+			document.setIndex(null);
+		}
+	}
 	@Override
 	public String getJobFamily() {
 		if (this.resource != null)
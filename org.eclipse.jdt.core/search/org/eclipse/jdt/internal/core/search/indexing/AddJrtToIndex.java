@@ -169,6 +169,12 @@ public class AddJrtToIndex extends BinaryContainer {
 				return true;
 			}
 
+			// an external JDK without index file may be found in the shared index cache
+			// its key, which reads the whole library, is only computed when its index may be copied from or added to the cache
+			boolean shared = this.resource == null && this.indexFileURL == null;
+			String sharedIndexKey = shared && this.manager.canRestoreSharedIndex(this.containerPath) ? this.manager.getSharedIndexKey(this.containerPath) : null;
+			boolean restored = sharedIndexKey != null && this.manager.restoreSharedIndex(this.containerPath, sharedIndexKey);
+
 			final Index index = this.manager.getIndexForUpdate(this.containerPath, true, /*reuse index file*/ true /*create if none*/);
 			if (index == null) {
 				if (JobManager.VERBOSE)
@@ -220,6 +226,13 @@ public class AddJrtToIndex extends BinaryContainer {
 					org.eclipse.jdt.internal.core.util.Util.verbose("-> indexing " + fileName); //$NON-NLS-1$
 				long initialTime = System.currentTimeMillis();
 				String[] paths = index.queryDocumentNames(""); // all file names //$NON-NLS-1$
+				if (restored && paths != null && paths.length > 0) { // the shared index has the same content
+					if (JobManager.VERBOSE)
+						org.eclipse.jdt.internal.core.util.Util.verbose("-> no indexing required (index copied from the shared index cache) for " + fileName); //$NON-NLS-1$
+					this.manager.updateMetaIndex(index);
+					this.manager.saveIndex(index); // to ensure its placed into the saved state
+					return true;
+				}
 				if (paths != null) {
 					int max = paths.length;
 					/* check integrity of the existing index file
@@ -272,6 +285,12 @@ public class AddJrtToIndex extends BinaryContainer {
 				}
 				else {
 					this.manager.saveIndex(index);
+					if (shared && !index.hasChanged()) {
+						if (sharedIndexKey == null)
+							sharedIndexKey = this.manager.getSharedIndexKey(this.containerPath);
+						if (sharedIndexKey != null)
+							this.manager.storeSharedIndex(index, sharedIndexKey);
+					}
 				}
 				if (JobManager.VERBOSE)
 					org.eclipse.jdt.internal.core.util.Util.verbose("-> done indexing of " //$NON-NLS-1$
@@ -16,7 +16,11 @@ package org.eclipse.jdt.internal.core.search.indexing;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Enumeration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -59,4 +63,48 @@ public class DefaultJavaIndexer {
 		}
 		return;
 	}
+
+	/**
+	 * Generates the index files of the jars of the given folder and of its sub-folders into the given shared index
+	 * cache, with the same content as the index files of a workspace. The jars which the cache already has are skipped.
+	 * Answers the number of generated index files.
+	 */
+	public int generateSharedIndexes(String pathToRepository, String pathToCache) throws IOException {
+		File repository = new File(pathToRepository);
+		if (!repository.exists()) {
+			throw new FileNotFoundException(pathToRepository + " not found"); //$NON-NLS-1$
+		}
+		SharedIndexCache cache = new SharedIndexCache(new File(pathToCache));
+		List<java.nio.file.Path> jars;
+		try (Stream<java.nio.file.Path> files = Files.walk(repository.toPath())) {
+			jars = files
+					.filter(file -> file.getFileName().toString().endsWith(".jar") && !Util.isJrt(file.toString())) //$NON-NLS-1$
+					.filter(Files::isRegularFile)
+					.sorted()
+					.collect(Collectors.toList());
+		}
+		int generated = 0;
+		for (java.nio.file.Path jar : jars) {
+			File jarFile = jar.toFile().getAbsoluteFile();
+			String key = cache.getKey(jarFile);
+			if (cache.getIndexFile(key).isFile())
+				continue;
+			File indexFile = Files.createTempFile("jdt-index", ".index").toFile(); //$NON-NLS-1$ //$NON-NLS-2$
+			try {
+				Index index = new Index(new FileIndexLocation(indexFile), jarFile.getPath(), false /*reuse index file*/);
+				index.separator = JAR_SEPARATOR;
+				Path jarPath = new Path(jarFile.getPath());
+				try (ZipFile zip = new ZipFile(jarFile)) {
+					// index the jar as AddJarFileToIndex does, to share the index with workspaces
+					new AddJarFileToIndex(jarPath, null, null).indexEntries(zip, jarPath, index, new Path(indexFile.getCanonicalPath()));
+				}
+				index.save();
+				cache.store(key, indexFile);
+				generated++;
+			} finally {
+				Files.deleteIfExists(indexFile.toPath());
+			}
+		}
+		return generated;
+	}
 }
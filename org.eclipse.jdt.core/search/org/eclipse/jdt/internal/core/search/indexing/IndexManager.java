@@ -137,6 +137,13 @@ public class IndexManager extends JobManager implements IIndexConstants {
 	public static final String INDEX_MANAGER_NOTIFY_IDLE_WAIT_PROPERTY = "jdt.core.indexManager.notifyIdleWait"; //$NON-NLS-1$
 	private static final long INDEX_MANAGER_NOTIFY_IDLE_WAIT = getNotifyIdleWait();
 
+	// maximum number of indexing jobs updating different indexes at the same time, one by default
+	public static final String INDEX_MANAGER_PARALLEL_JOBS_PROPERTY = "jdt.core.indexManager.parallelJobs"; //$NON-NLS-1$
+
+	// directory of the indexes of external libraries shared by workspaces, see SharedIndexCache
+	public static final String SHARED_INDEX_CACHE_PROPERTY = "jdt.core.sharedIndexCache"; //$NON-NLS-1$
+	private static SharedIndexCache SHARED_INDEX_CACHE = getSharedIndexCache();
+
 	// Debug
 	public static boolean DEBUG = false;
 
@@ -145,6 +152,7 @@ public class IndexManager extends JobManager implements IIndexConstants {
 
 	public IndexManager() {
 		this.metaIndexUpdates = new LinkedHashSet<>();
+		setMaxParallelJobs(getParallelJobs());
 	}
 
 	/**
@@ -445,6 +453,7 @@ public synchronized Index getIndex(IPath containerPath, IndexLocation indexLocat
 			if (indexLocation.exists()) { // check before creating index so as to avoid creating a new empty index if file is missing
 				try {
 					index = new Index(indexLocation, containerPathString, true /*reuse index file*/);
+					requestMigration(containerPath, index);
 					this.indexes.put(indexLocation, index);
 					return index;
 				} catch (IOException e) {
@@ -606,6 +615,74 @@ private IPath getParticipantsContainer(IndexLocation indexLocation) {
 	}
 	return (IPath)this.participantsContainers.get(indexLocation);
 }
+/*
+ * Request the rewrite of the file of the given index if it has the previous format, unless the index is not located
+ * in the state location, e.g. a pre-built index, which is then read in its previous format.
+ * The whole file is rewritten by an index job rather than while holding the lock of the index manager.
+ */
+private void requestMigration(IPath containerPath, Index index) {
+	if (index.hasPreviousFormat() && index.getIndexLocation().startsWith(getJavaPluginWorkingLocation()))
+		request(new MigrateIndex(containerPath, index, this));
+}
+/*
+ * Answer the key of the given external library in the shared index cache, or null if there is no cache.
+ */
+String getSharedIndexKey(IPath containerPath) {
+	if (SHARED_INDEX_CACHE == null) return null;
+	try {
+		return SHARED_INDEX_CACHE.getKey(containerPath.toFile());
+	} catch (IOException e) {
+		if (VERBOSE)
+			Util.verbose("-> unable to compute the shared index key of " + containerPath); //$NON-NLS-1$
+		return null;
+	}
+}
+/*
+ * Answer whether the index of the given container may be copied from the shared index cache, i.e. whether there is
+ * a cache, the index is being rebuilt (otherwise getIndexForUpdate(...) would not answer the copied index) and the
+ * container has no index file in the state location yet. This is checked before the key is computed, since computing
+ * it reads the whole library.
+ */
+synchronized boolean canRestoreSharedIndex(IPath containerPath) {
+	if (SHARED_INDEX_CACHE == null) return false;
+	IndexLocation indexLocation = computeIndexLocation(containerPath);
+	if (getIndexStates().get(indexLocation) != REBUILDING_STATE) return false;
+	File indexFile = indexLocation.getIndexFile();
+	return indexFile != null && !indexFile.exists() && indexLocation.startsWith(getJavaPluginWorkingLocation());
+}
+/*
+ * Copy the index of the given container from the shared index cache, see canRestoreSharedIndex(IPath).
+ * Answer whether the index file was copied.
+ */
+boolean restoreSharedIndex(IPath containerPath, String key) {
+	File indexFile = computeIndexLocation(containerPath).getIndexFile();
+	if (indexFile == null || indexFile.exists())
+		return false;
+	try {
+		if (!SHARED_INDEX_CACHE.restore(key, indexFile)) return false;
+	} catch (IOException e) {
+		if (VERBOSE)
+			Util.verbose("-> unable to copy the shared index of " + containerPath); //$NON-NLS-1$
+		return false;
+	}
+	if (VERBOSE)
+		Util.verbose("-> copied the shared index " + key + " of " + containerPath); //$NON-NLS-1$ //$NON-NLS-2$
+	return true;
+}
+/*
+ * Add the saved index of the given container to the shared index cache, unless it already has it.
+ * Must own the write lock of the index.
+ */
+void storeSharedIndex(Index index, String key) {
+	File indexFile = index.getIndexFile();
+	if (indexFile == null) return;
+	try {
+		SHARED_INDEX_CACHE.store(key, indexFile);
+	} catch (IOException e) {
+		if (VERBOSE)
+			Util.verbose("-> unable to share the index " + key + " of " + index.containerPath); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
 private IPath getJavaPluginWorkingLocation() {
 	if (this.javaPluginLocation != null) return this.javaPluginLocation;
 
@@ -818,6 +895,22 @@ protected synchronized void moveToNextJob() {
 	this.needToSave = true;
 	super.moveToNextJob();
 }
+@Override
+protected synchronized void removeCompletedJob(IJob job) {
+	// remember that one job was executed, and we will need to save indexes at some point
+	this.needToSave = true;
+	super.removeCompletedJob(job);
+}
+/**
+ * Index requests update the index of their container, so that requests for different indexes may run
+ * in parallel. Other jobs, like the update of the meta index which reads all updated indexes, run alone.
+ */
+@Override
+protected Object getJobTarget(IJob job) {
+	if (job instanceof IndexRequest)
+		return ((IndexRequest) job).getIndexLocation();
+	return null;
+}
 /**
  * No more job awaiting.
  */
@@ -1161,12 +1254,11 @@ public void saveIndex(Index index) throws IOException {
 		if (awaitingJobsCount > 1) {
 			// Start at the end and go backwards
 			ListIterator<IJob> iterator = this.awaitingJobs.listIterator(awaitingJobsCount);
-			IJob first = this.awaitingJobs.get(0);
 			while (iterator.hasPrevious()) {
 				IJob job = iterator.previous();
-				// don't check first job, as it may have already started
-				if(job == first) {
-					break;
+				// don't check jobs which may have already started
+				if (hasStarted(job)) {
+					continue;
 				}
 				if (job instanceof IndexRequest) {
 					if (((IndexRequest) job).containerPath.equals(containerPath)) {
@@ -1337,8 +1429,7 @@ private void readIndexMap() {
 		char[][] names = CharOperation.splitOn('\n', indexMaps);
 		if (names.length >= 3) {
 			// First line is DiskIndex signature (see writeIndexMapFile())
-			String savedSignature = DiskIndex.SIGNATURE;
-			if (savedSignature.equals(new String(names[0]))) {
+			if (DiskIndex.isReadableSignature(new String(names[0]))) {
 				for (int i = 1, l = names.length-1 ; i < l ; i+=2) {
 					IndexLocation indexPath = IndexLocation.createIndexLocation(new URL(new String(names[i])));
 					if (indexPath == null) continue;
@@ -1361,7 +1452,7 @@ private void readParticipantsIndexNamesFile() {
 			char[][] names = CharOperation.splitOn('\n', participantIndexNames);
 			if (names.length >= 3) {
 				// First line is DiskIndex signature  (see writeParticipantsIndexNamesFile())
-				if (DiskIndex.SIGNATURE.equals(new String(names[0]))) {
+				if (DiskIndex.isReadableSignature(new String(names[0]))) {
 					for (int i = 1, l = names.length-1 ; i < l ; i+=2) {
 						IndexLocation indexLocation = new FileIndexLocation(new File(new String(names[i])), true);
 						containers.put(indexLocation, new Path(new String(names[i+1])));
@@ -1552,6 +1643,34 @@ private void writeSavedIndexNamesFile() {
 	this.nameRegistry.write(arrays);
 }
 
+private static int getParallelJobs() {
+	int parallelJobs = 1;
+	String parallelJobsPropertyValue = System.getProperty(INDEX_MANAGER_PARALLEL_JOBS_PROPERTY);
+	if (parallelJobsPropertyValue != null) {
+		try {
+			parallelJobs = Integer.parseInt(parallelJobsPropertyValue);
+		} catch (NumberFormatException e) {
+			Util.log(e, "Failed to parse value of property \"" + INDEX_MANAGER_PARALLEL_JOBS_PROPERTY + "\": " + parallelJobsPropertyValue); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+	return parallelJobs;
+}
+
+private static SharedIndexCache getSharedIndexCache() {
+	String directory = System.getProperty(SHARED_INDEX_CACHE_PROPERTY);
+	return directory == null || directory.isEmpty() ? null : new SharedIndexCache(new File(directory));
+}
+
+/**
+ * For use in the JDT unit tests only. Replaces the shared index cache read from the
+ * {@link #SHARED_INDEX_CACHE_PROPERTY} system property, or removes it when the given directory is null.
+ *
+ * @noreference This method is not intended to be referenced by clients.
+ */
+public static void setSharedIndexCache(File directory) {
+	SHARED_INDEX_CACHE = directory == null ? null : new SharedIndexCache(directory);
+}
+
 private static long getNotifyIdleWait() {
 	long idleWait = 1000;
 	String idleWaitPropertyValue = System.getProperty(INDEX_MANAGER_NOTIFY_IDLE_WAIT_PROPERTY);
@@ -1661,7 +1780,9 @@ private MetaIndex loadMetaIndexIfNeeded() throws IOException {
 				if (VERBOSE) {
 					Util.verbose("-> load existing meta-index: "+indexLocation+" path: "+INDEX_META_CONTAINER); //$NON-NLS-1$ //$NON-NLS-2$
 				}
-				this.metaIndex = new MetaIndex(new Index(indexLocation, INDEX_META_CONTAINER, true));
+				Index index = new Index(indexLocation, INDEX_META_CONTAINER, true);
+				requestMigration(new Path(INDEX_META_CONTAINER), index);
+				this.metaIndex = new MetaIndex(index);
 			} else {
 				getIndexStates().put(indexLocation, UNKNOWN_STATE);
 				loadMetaIndexIfNeeded();
@@ -14,12 +14,15 @@
 package org.eclipse.jdt.internal.core.search.indexing;
 
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.internal.core.index.IndexLocation;
 import org.eclipse.jdt.internal.core.search.processing.IJob;
 
 public abstract class IndexRequest implements IJob {
 	protected volatile boolean isCancelled;
 	protected IPath containerPath;
 	protected IndexManager manager;
+	/* location of the index updated by this request, computed once since every dispatch of parallel jobs needs it */
+	private IndexLocation indexLocation;
 
 	public IndexRequest(IPath containerPath, IndexManager manager) {
 		this.containerPath = containerPath;
@@ -46,6 +49,15 @@ public abstract class IndexRequest implements IJob {
 	public String getJobFamily() {
 		return this.containerPath.toString();
 	}
+	/**
+	 * Answer the location of the index updated by this request.
+	 */
+	IndexLocation getIndexLocation() {
+		IndexLocation location = this.indexLocation;
+		if (location == null)
+			this.indexLocation = location = this.manager.computeIndexLocation(this.containerPath);
+		return location;
+	}
 	protected Integer updatedIndexState() {
 		return IndexManager.UPDATING_STATE;
 	}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import java.io.IOException;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.internal.core.index.Index;
+import org.eclipse.jdt.internal.core.search.processing.JobManager;
+import org.eclipse.jdt.internal.core.util.Util;
+
+/*
+ * Rewrite the file of an index in the current format, the index being read in the previous format until then.
+ */
+public class MigrateIndex extends IndexRequest {
+	private final Index index;
+
+	public MigrateIndex(IPath containerPath, Index index, IndexManager manager) {
+		super(containerPath, manager);
+		this.index = index;
+	}
+	@Override
+	public void ensureReadyToRun() {
+		// the words and documents of the index do not change, so the index stays consistent
+	}
+	@Override
+	public boolean execute(IProgressMonitor progressMonitor) {
+
+		if (this.isCancelled || progressMonitor != null && progressMonitor.isCanceled()) return true;
+
+		/* ensure no concurrent write access to index */
+		ReadWriteMonitor monitor = this.index.monitor;
+		if (monitor == null) return true; // index got deleted since acquired
+
+		try {
+			monitor.enterWrite(); // ask permission to write
+			if (this.index.monitor == null) return true; // index got deleted while waiting
+			if (this.index.hasChanged()) return true; // its next save rewrites the file in the current format
+			this.index.migrate(); // does nothing if the index was saved in the meantime
+			if (JobManager.VERBOSE)
+				Util.verbose("-> migrated index: " + this.index.getIndexLocation()); //$NON-NLS-1$
+		} catch (IOException e) {
+			if (JobManager.VERBOSE) {
+				Util.verbose("-> failed to migrate index " + this.containerPath + ", using the previous format because of the following exception:", System.err); //$NON-NLS-1$ //$NON-NLS-2$
+				e.printStackTrace();
+			}
+			return false;
+		} finally {
+			monitor.exitWrite(); // free write lock
+		}
+		return true;
+	}
+	@Override
+	public boolean waitNeeded() {
+		return false;
+	}
+	@Override
+	public String toString() {
+		return "migrating index for " + this.containerPath; //$NON-NLS-1$
+	}
+}
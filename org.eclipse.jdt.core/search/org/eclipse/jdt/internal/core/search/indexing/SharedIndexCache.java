@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.eclipse.jdt.internal.compiler.util.JRTUtil;
+import org.eclipse.jdt.internal.core.index.DiskIndex;
+
+/**
+ * A directory of index files of external libraries, shared by workspaces and machines. The index of a library is
+ * named after the content of the library rather than its location, so that the library is only indexed once:
+ * <ul>
+ * <li>a jar is known by the SHA-256 of its bytes and by its name, which gives the automatic module name of a jar
+ * without module descriptor,</li>
+ * <li>the image of a JDK is known by its release file and the size and modification time of its modules file,
+ * so that patched builds of the same release get different keys.</li>
+ * </ul>
+ * Index files are added with an atomic move and never modified, so that the directory can be filled concurrently,
+ * e.g. by workspaces and by the indexer application. The index files of each version of the format are kept in
+ * their own sub-directory.
+ */
+public class SharedIndexCache {
+
+	private static final String INDEX_EXTENSION = ".index"; //$NON-NLS-1$
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray(); //$NON-NLS-1$
+
+	private final File directory;
+
+	public SharedIndexCache(File directory) {
+		this.directory = new File(directory, DiskIndex.SIGNATURE.substring(DiskIndex.SIGNATURE.lastIndexOf(' ') + 1));
+	}
+
+	/**
+	 * Answer the key of the given jar or JDK image in this cache, or null if the image of a JDK has no release file.
+	 */
+	public String getKey(File library) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e); // every Java platform supports SHA-256
+		}
+		if (library.getName().endsWith(JRTUtil.JRT_FS_JAR)) {
+			File home = library.getAbsoluteFile().getParentFile().getParentFile(); // jrt-fs.jar is in the lib folder
+			File release = new File(home, "release"); //$NON-NLS-1$
+			File modules = new File(library.getAbsoluteFile().getParentFile(), "modules"); //$NON-NLS-1$
+			if (!release.isFile() || !modules.isFile())
+				return null;
+			digest.update(Files.readAllBytes(release.toPath()));
+			digest.update((modules.length() + ":" + modules.lastModified()).getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			return "jdk-" + toHex(digest.digest()); //$NON-NLS-1$
+		}
+		try (InputStream stream = new DigestInputStream(Files.newInputStream(library.toPath()), digest)) {
+			byte[] buffer = new byte[8192];
+			while (stream.read(buffer) != -1) {
+				// only digested
+			}
+		}
+		digest.update(library.getName().getBytes(StandardCharsets.UTF_8));
+		return toHex(digest.digest());
+	}
+
+	public File getIndexFile(String key) {
+		return new File(this.directory, key + INDEX_EXTENSION);
+	}
+
+	/**
+	 * Copy the index file of the given key to the given file, answering false if this cache has none.
+	 */
+	boolean restore(String key, File indexFile) throws IOException {
+		File cachedFile = getIndexFile(key);
+		if (!cachedFile.isFile())
+			return false;
+		try {
+			Files.copy(cachedFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			indexFile.delete();
+			throw e;
+		}
+		return true;
+	}
+
+	/**
+	 * Add a copy of the given index file with the given key, unless this cache already has one.
+	 */
+	public void store(String key, File indexFile) throws IOException {
+		File cachedFile = getIndexFile(key);
+		if (cachedFile.isFile())
+			return;
+		this.directory.mkdirs();
+		java.nio.file.Path tempFile = Files.createTempFile(this.directory.toPath(), key, ".tmp"); //$NON-NLS-1$
+		try {
+			Files.copy(indexFile.toPath(), tempFile, StandardCopyOption.REPLACE_EXISTING);
+			Files.move(tempFile, cachedFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		char[] chars = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			chars[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+			chars[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xF];
+		}
+		return new String(chars);
+	}
+}
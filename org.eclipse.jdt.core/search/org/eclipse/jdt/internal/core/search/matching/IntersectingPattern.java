@@ -38,6 +38,8 @@ public void findIndexMatches(Index index, IndexQueryRequestor requestor, SearchP
 
 	resetQuery();
 	SimpleSet intersectedNames = null;
+	PostingList intersectedNumbers = null; // used instead of the names as long as the queries answer document numbers
+	Object[] names;
 	try {
 		index.startQuery();
 		do {
@@ -47,39 +49,59 @@ public void findIndexMatches(Index index, IndexQueryRequestor requestor, SearchP
 
 			SearchPattern decodedResult = pattern.getBlankPattern();
 			SimpleSet newIntersectedNames = new SimpleSet(3);
+			PostingList newIntersectedNumbers = null;
 			for (int i = 0, l = entries.length; i < l; i++) {
 				if (progressMonitor != null && progressMonitor.isCanceled()) throw new OperationCanceledException();
 
 				EntryResult entry = entries[i];
 				decodedResult.decodeIndexKey(entry.getWord());
 				if (pattern.matchesDecodedKey(decodedResult)) {
-					String[] names = entry.getDocumentNames(index);
-					if (intersectedNames != null) {
-						for (int j = 0, n = names.length; j < n; j++)
-							if (intersectedNames.includes(names[j]))
-								newIntersectedNames.add(names[j]);
+					PostingList numbers = entry.getDocumentNumbers(index);
+					if (numbers != null) {
+						newIntersectedNumbers = newIntersectedNumbers == null ? numbers : newIntersectedNumbers.or(numbers);
 					} else {
-						for (int j = 0, n = names.length; j < n; j++)
-							newIntersectedNames.add(names[j]);
+						if (intersectedNumbers != null) { // the previous queries answered document numbers
+							intersectedNames = addNames(index.getDocumentNames(intersectedNumbers), null, new SimpleSet(3));
+							intersectedNumbers = null;
+						}
+						addNames(entry.getDocumentNames(index), intersectedNames, newIntersectedNames);
 					}
 				}
 			}
 
+			if (newIntersectedNumbers != null) {
+				if (intersectedNames == null && newIntersectedNames.elementSize == 0) {
+					intersectedNumbers = intersectedNumbers == null ? newIntersectedNumbers : intersectedNumbers.and(newIntersectedNumbers);
+					if (intersectedNumbers.isEmpty()) return;
+					continue;
+				}
+				addNames(index.getDocumentNames(newIntersectedNumbers), intersectedNames, newIntersectedNames);
+			}
 			if (newIntersectedNames.elementSize == 0) return;
 			intersectedNames = newIntersectedNames;
 		} while (hasNextQuery());
+		names = intersectedNumbers != null ? index.getDocumentNames(intersectedNumbers) : intersectedNames.values;
 	} finally {
 		index.stopQuery();
 	}
 
 	String containerPath = index.containerPath;
 	char separator = index.separator;
-	Object[] names = intersectedNames.values;
 	for (int i = 0, l = names.length; i < l; i++)
 		if (names[i] != null)
 			acceptMatch((String) names[i], containerPath, separator, null/*no pattern*/, requestor, participant, scope, progressMonitor); // AndPatterns cannot provide the decoded result
 }
 
+/*
+ * Add the given names which are intersected names, or all of them if there are none yet, to the new intersected names.
+ */
+private static SimpleSet addNames(String[] names, SimpleSet intersectedNames, SimpleSet newIntersectedNames) {
+	for (int j = 0, n = names.length; j < n; j++)
+		if (intersectedNames == null || intersectedNames.includes(names[j]))
+			newIntersectedNames.add(names[j]);
+	return newIntersectedNames;
+}
+
 @Override
 public void findIndexMatches(Index index, IndexQueryRequestor requestor, SearchParticipant participant, IJavaSearchScope scope, boolean resolveDocumentName, IProgressMonitor progressMonitor) throws IOException {
 	findIndexMatches(index, requestor, participant, scope, progressMonitor);
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.matching;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.IJavaModelStatusConstants;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.jdt.internal.compiler.lookup.Binding;
+import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.eclipse.jdt.internal.core.JavaProject;
+
+/**
+ * Locates the matches of groups of possible matches of a project on a bounded pool of worker threads.
+ * Each group is processed by its own {@link MatchLocator}, forked from the searching one, and thus
+ * has its own parser, lookup environment and pattern locator, since none of them is thread safe.
+ * The matches of a group are collected by the worker and reported by the searching thread, group
+ * after group in the order of the possible matches, so that the requestor sees the same sequence
+ * of matches whatever the scheduling of the workers.
+ */
+class MatchLocatingTasks {
+
+	/* the matches found by a forked locator, with the bindings of the module declarations */
+	static class GroupResult extends SearchRequestor {
+		final List<SearchMatch> matches = new ArrayList<>();
+		HashMap<SearchMatch, Binding> matchBinding;
+
+		@Override
+		public void acceptSearchMatch(SearchMatch match) {
+			this.matches.add(match);
+		}
+	}
+
+	private final MatchLocator locator;
+	private final ExecutorService executor;
+	private final List<Future<GroupResult>> tasks = new ArrayList<>();
+
+MatchLocatingTasks(MatchLocator locator, int threadCount) {
+	this.locator = locator;
+	this.executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+		Thread thread = new Thread(runnable, "Java Search Match Locating Task"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		return thread;
+	});
+}
+
+/**
+ * Schedule the location of the matches amongst the given range of possible matches.
+ */
+Future<GroupResult> locateMatches(JavaProject javaProject, PossibleMatch[] possibleMatches, int start, int length) {
+	Future<GroupResult> task = this.executor.submit(() -> {
+		GroupResult result = new GroupResult();
+		MatchLocator fork = fork(result);
+		JavaModelManager manager = JavaModelManager.getJavaModelManager();
+		try {
+			// optimize access to zip files for this worker, as the searching thread does for itself
+			manager.cacheZipFiles(fork);
+			fork.locateMatches(javaProject, possibleMatches, start, length);
+		} finally {
+			if (fork.nameEnvironment != null)
+				fork.nameEnvironment.cleanup();
+			fork.unitScope = null;
+			manager.flushZipFiles(fork);
+		}
+		result.matchBinding = fork.matchBinding;
+		return result;
+	});
+	this.tasks.add(task);
+	return task;
+}
+
+private MatchLocator fork(SearchRequestor requestor) {
+	IProgressMonitor searchMonitor = this.locator.progressMonitor;
+	IProgressMonitor cancelMonitor = new NullProgressMonitor() {
+		@Override
+		public boolean isCanceled() {
+			return searchMonitor != null && searchMonitor.isCanceled();
+		}
+	};
+	MatchLocator fork = new MatchLocator(this.locator.pattern, requestor, this.locator.scope, cancelMonitor);
+	fork.workingCopies = this.locator.workingCopies;
+	fork.allSuperTypeNames = this.locator.allSuperTypeNames;
+	fork.progressStep = this.locator.progressStep; // progress is reported by the searching thread
+	if (fork.patternLocator != null)
+		fork.patternLocator.initializePolymorphicSearch(fork, this.locator.patternLocator);
+	return fork;
+}
+
+/**
+ * Report the matches of the given group to the requestor of the searching locator.
+ */
+void report(GroupResult result) throws CoreException {
+	this.locator.matchBinding.putAll(result.matchBinding);
+	for (SearchMatch match : result.matches)
+		this.locator.requestor.acceptSearchMatch(match);
+}
+
+/**
+ * Wait for the given task, rethrowing in the searching thread what the worker caught, wrapped
+ * in a {@link JavaModelException} if it is neither unchecked nor a {@link CoreException}.
+ */
+static GroupResult join(Future<GroupResult> future) throws CoreException {
+	try {
+		return future.get();
+	} catch (InterruptedException e) {
+		Thread.currentThread().interrupt();
+		throw new OperationCanceledException();
+	} catch (ExecutionException e) {
+		Throwable cause = e.getCause();
+		if (cause instanceof Error)
+			throw (Error) cause;
+		if (cause instanceof CoreException)
+			throw (CoreException) cause;
+		if (cause instanceof RuntimeException)
+			throw (RuntimeException) cause;
+		throw new JavaModelException(cause, IJavaModelStatusConstants.CORE_EXCEPTION);
+	}
+}
+
+/**
+ * Stop the workers once their running tasks are done, dropping the tasks not started yet.
+ * The workers are not interrupted, since an interrupted read of a file channel closes it for every thread,
+ * e.g. the channel of a zip file cached by the Java model: a running task stops when the search is cancelled.
+ */
+void shutdown() {
+	for (Future<GroupResult> task : this.tasks)
+		task.cancel(false);
+	this.executor.shutdown();
+}
+}
@@ -26,6 +26,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import java.util.zip.ZipFile;
 
@@ -122,6 +123,16 @@ static {
 			break;
 	}
 }
+/**
+ * Number of threads locating the matches of a project in parallel, each one amongst its own group of possible
+ * matches with its own lookup environment. Matches are located by the searching thread alone unless the
+ * org.eclipse.jdt.search_locate_threads system property is set to more than 1.
+ */
+private static final int DEFAULT_LOCATE_THREADS = Integer.getInteger("org.eclipse.jdt.search_locate_threads", 1).intValue(); //$NON-NLS-1$
+private static int LOCATE_THREADS = DEFAULT_LOCATE_THREADS;
+/** Minimum number of possible matches of a project for their matches to be located in parallel */
+private static final int DEFAULT_MIN_PARALLEL_MATCHES = 64;
+private static int MIN_PARALLEL_MATCHES = DEFAULT_MIN_PARALLEL_MATCHES;
 
 // permanent state
 public SearchPattern pattern;
@@ -243,6 +254,26 @@ public static void setIndexQualifierQuery(SearchPattern pattern, char[] queries)
 	pattern.indexQualifierQuery = queries;
 }
 
+/**
+ * For use in the JDT unit tests only. Sets the number of threads locating the matches of a project in parallel
+ * and the minimum number of possible matches of a project for them to be used.
+ *
+ * @noreference This method is not intended to be referenced by clients.
+ */
+public static void setParallelLocating(int threads, int minParallelMatches) {
+	LOCATE_THREADS = threads;
+	MIN_PARALLEL_MATCHES = minParallelMatches;
+}
+
+/**
+ * For use in the JDT unit tests only. Restores the defaults of {@link #setParallelLocating(int, int)}.
+ *
+ * @noreference This method is not intended to be referenced by clients.
+ */
+public static void resetParallelLocating() {
+	setParallelLocating(DEFAULT_LOCATE_THREADS, DEFAULT_MIN_PARALLEL_MATCHES);
+}
+
 /*
  * Returns the working copies that can see the given focus.
  */
@@ -1394,14 +1425,44 @@ protected void locateMatches(JavaProject javaProject, PossibleMatchSet matchSet,
 		this.progressWorked += expected-length;
 		this.progressMonitor.worked( expected-length);
 	}
-	// locate matches (processed matches are limited to avoid problem while using VM default memory heap size)
-	for (int index = 0; index < length;) {
-		int max = Math.min(MAX_AT_ONCE, length - index);
-		locateMatches(javaProject, possibleMatches, index, max);
-		index += max;
+	if (LOCATE_THREADS > 1 && length >= MIN_PARALLEL_MATCHES) {
+		locateMatchesInParallel(javaProject, possibleMatches);
+	} else {
+		// locate matches (processed matches are limited to avoid problem while using VM default memory heap size)
+		for (int index = 0; index < length;) {
+			int max = Math.min(MAX_AT_ONCE, length - index);
+			locateMatches(javaProject, possibleMatches, index, max);
+			index += max;
+		}
 	}
 	this.patternLocator.clear();
 }
+/*
+ * Locate the matches amongst the possible matches of a project in groups located by worker threads,
+ * then report the matches of each group in the order of the groups.
+ */
+private void locateMatchesInParallel(JavaProject javaProject, PossibleMatch[] possibleMatches) throws CoreException {
+	int length = possibleMatches.length;
+	// at least one group per thread, each one limited as the groups located by the searching thread
+	int groupSize = Math.min(MAX_AT_ONCE, (length + LOCATE_THREADS - 1) / LOCATE_THREADS);
+	MatchLocatingTasks tasks = new MatchLocatingTasks(this, LOCATE_THREADS);
+	try {
+		List<Future<MatchLocatingTasks.GroupResult>> groups = new ArrayList<>();
+		for (int index = 0; index < length; index += groupSize)
+			groups.add(tasks.locateMatches(javaProject, possibleMatches, index, Math.min(groupSize, length - index)));
+		for (int i = 0, index = 0; i < groups.size(); i++, index += groupSize) {
+			tasks.report(MatchLocatingTasks.join(groups.get(i)));
+			if (this.progressMonitor != null) {
+				int worked = Math.min(groupSize, length - index);
+				int steps = (this.progressWorked + worked) / this.progressStep - this.progressWorked / this.progressStep;
+				this.progressWorked += worked;
+				if (steps > 0) this.progressMonitor.worked(steps * this.progressStep);
+			}
+		}
+	} finally {
+		tasks.shutdown();
+	}
+}
 /**
  * Locate the matches in the given files and report them using the search requestor.
  */
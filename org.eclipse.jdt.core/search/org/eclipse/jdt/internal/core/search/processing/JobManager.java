@@ -13,10 +13,17 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.core.search.processing;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -27,13 +34,32 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.internal.core.util.Messages;
 import org.eclipse.jdt.internal.core.util.Util;
 
+/**
+ * Executes the jobs of a queue in background, one at a time on the processing thread by default.
+ * <p>
+ * When {@link #setMaxParallelJobs(int) more than one job} may run at the same time, the processing
+ * thread dispatches the jobs to a pool of workers. Jobs which update different {@link #getJobTarget(IJob)
+ * targets} then run in parallel, while jobs with equal targets still run one after the other, in their
+ * order in the queue, and jobs with no target run alone. Only the jobs at the head of the queue may
+ * start out of order. Jobs stay in the queue until they complete, so that clients waiting for an empty
+ * queue still wait for the jobs being executed.
+ * </p>
+ */
 public abstract class JobManager implements Runnable {
 
-	/* queue of jobs to execute */
+	/* queue of jobs to execute, including the jobs being executed by the workers */
 	protected List<IJob> awaitingJobs = new LinkedList<>();
 
 	protected volatile boolean executing;
 
+	/* number of jobs at the head of the queue among which jobs may start out of order, bounding the cost of a dispatch */
+	private static final int MAX_PARALLEL_LOOKAHEAD = 1000;
+
+	/* jobs of the queue being executed by the workers, when running jobs in parallel */
+	private final Set<IJob> runningJobs = Collections.newSetFromMap(new IdentityHashMap<>());
+	private int maxParallelJobs = 1;
+	private ExecutorService workers;
+
 	/* background processing */
 	protected volatile Thread processingThread;
 	protected volatile Job progressJob;
@@ -112,10 +138,15 @@ public abstract class JobManager implements Runnable {
 
 		try {
 			IJob currentJob;
+			List<IJob> parallelJobs = new ArrayList<>();
 			// cancel current job if it belongs to the given family
 			synchronized(this){
 				currentJob = currentJob();
 				disable();
+				for (IJob job : this.runningJobs) {
+					if (jobFamily == null || job.belongsTo(jobFamily))
+						parallelJobs.add(job);
+				}
 			}
 			if (currentJob != null && (jobFamily == null || currentJob.belongsTo(jobFamily))) {
 				currentJob.cancel();
@@ -131,6 +162,22 @@ public abstract class JobManager implements Runnable {
 					}
 				}
 			}
+			// same for the jobs of the family executed by the workers
+			for (IJob job : parallelJobs) {
+				if (job != currentJob)
+					job.cancel();
+			}
+			for (IJob job : parallelJobs) {
+				while (this.processingThread != null && isRunning(job)) {
+					try {
+						if (VERBOSE)
+							Util.verbose("-> waiting end of parallel background job - " + job); //$NON-NLS-1$
+						Thread.sleep(50);
+					} catch(InterruptedException e){
+						// ignore
+					}
+				}
+			}
 
 			synchronized(this) {
 				Iterator<IJob> it = this.awaitingJobs.iterator();
@@ -163,12 +210,11 @@ public abstract class JobManager implements Runnable {
 		}
 		// Start at the end and go backwards
 		ListIterator<IJob> iterator = this.awaitingJobs.listIterator(this.awaitingJobs.size());
-		IJob first = this.awaitingJobs.get(0);
 		while (iterator.hasPrevious()) {
 			IJob job = iterator.previous();
-			// don't check first job, as it may have already started
-			if(job == first) {
-				break;
+			// don't check jobs which may have already started
+			if (hasStarted(job)) {
+				continue;
 			}
 			if (request.equals(job)) {
 				return true;
@@ -176,6 +222,47 @@ public abstract class JobManager implements Runnable {
 		}
 		return false;
 	}
+	/**
+	 * Answer whether the given job of the queue may have already started: it is the first job of the
+	 * queue, or a job being executed by the workers.
+	 */
+	protected synchronized boolean hasStarted(IJob job) {
+		return (!this.awaitingJobs.isEmpty() && this.awaitingJobs.get(0) == job) || this.runningJobs.contains(job);
+	}
+	private synchronized boolean isRunning(IJob job) {
+		return this.runningJobs.contains(job);
+	}
+	/**
+	 * Answer the target updated by the given job, e.g. an index. Jobs with different targets may run
+	 * in parallel, jobs with equal targets run one after the other, in their order in the queue.
+	 * A null target means that the job may not run in parallel with any other job, which is the default.
+	 * This is invoked for the jobs at the head of the queue on every dispatch, while holding the lock of
+	 * the job manager, so that it should answer a target computed once per job.
+	 */
+	protected Object getJobTarget(IJob job) {
+		return null;
+	}
+	/**
+	 * Answer the maximum number of jobs executed at the same time.
+	 */
+	public synchronized int getMaxParallelJobs() {
+		return this.maxParallelJobs;
+	}
+	/**
+	 * Set the maximum number of jobs executed at the same time. With more than one, the jobs are
+	 * executed by workers, as described in {@link JobManager}. The jobs being executed are not affected.
+	 */
+	public synchronized void setMaxParallelJobs(int maxParallelJobs) {
+		maxParallelJobs = Math.max(1, maxParallelJobs);
+		if (maxParallelJobs == this.maxParallelJobs)
+			return;
+		this.maxParallelJobs = maxParallelJobs;
+		if (this.workers != null) {
+			this.workers.shutdown(); // let the running jobs complete, new ones go to the new workers
+			this.workers = null;
+		}
+		notifyAll(); // wake up the background thread to dispatch more jobs
+	}
 	/**
 	 * Advance to the next available job, once the current one has been completed.
 	 * Note: clients awaiting until the job count is zero are still waiting at this point.
@@ -192,6 +279,91 @@ public abstract class JobManager implements Runnable {
 			}
 		}
 	}
+	/**
+	 * Remove a job executed by the workers, once it has been completed.
+	 * Note: clients awaiting until the job count is zero are still waiting at this point.
+	 */
+	protected synchronized void removeCompletedJob(IJob job) {
+		this.runningJobs.remove(job);
+		for (Iterator<IJob> iterator = this.awaitingJobs.iterator(); iterator.hasNext();) {
+			if (iterator.next() == job) {
+				iterator.remove();
+				break;
+			}
+		}
+		notifyAll(); // wake up the background thread and clients waiting for the queue to be empty
+	}
+	/*
+	 * Answer the next job of the queue which may be executed by the workers, and mark it as running,
+	 * or null if none may start until a running job completes or a new job is requested.
+	 */
+	private IJob nextParallelJob() {
+		if (this.runningJobs.size() >= this.maxParallelJobs)
+			return null;
+		Set<Object> busyTargets = new HashSet<>();
+		int lookahead = MAX_PARALLEL_LOOKAHEAD;
+		for (IJob job : this.awaitingJobs) {
+			if (--lookahead < 0)
+				return null; // jobs further in the queue wait until the head of the queue moves on
+			Object target = getJobTarget(job);
+			if (this.runningJobs.contains(job)) {
+				if (target == null)
+					return null; // runs alone
+				busyTargets.add(target);
+				continue;
+			}
+			if (target == null) {
+				// a job with no target waits for the jobs before it, and the jobs after it wait for it
+				if (!this.runningJobs.isEmpty())
+					return null;
+			} else if (!busyTargets.add(target)) {
+				continue; // waits for an earlier job with the same target
+			}
+			this.runningJobs.add(job);
+			return job;
+		}
+		return null;
+	}
+	/*
+	 * Execute the given job on a worker, the job having been marked as running.
+	 */
+	private void executeInParallel(IJob job) {
+		if (this.workers == null) {
+			String name = processName() + " Worker"; //$NON-NLS-1$
+			ClassLoader contextLoader = this.getClass().getClassLoader();
+			this.workers = Executors.newFixedThreadPool(this.maxParallelJobs, runnable -> {
+				Thread thread = new Thread(runnable, name);
+				thread.setDaemon(true);
+				thread.setPriority(Thread.NORM_PRIORITY-1);
+				thread.setContextClassLoader(contextLoader);
+				return thread;
+			});
+		}
+		this.workers.execute(() -> {
+			long start = System.nanoTime();
+			try {
+				job.execute(null);
+			} catch (RuntimeException | Error e) {
+				if (e instanceof ThreadDeath)
+					throw e;
+				// log exception, the index of the job may be inconsistent
+				Util.log(e, "Background Indexer Crash Recovery"); //$NON-NLS-1$
+			} finally {
+				if (VERBOSE)
+					Util.verbose("FINISHED parallel background job - " + job + " (" + (System.nanoTime() - start) / 1000000 + " ms)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				removeCompletedJob(job);
+			}
+			if (this.awaitingClients == 0 && job.waitNeeded()) {
+				try {
+					synchronized (this.idleMonitor) {
+						this.idleMonitor.wait(5); // avoid sleep fixed time
+					}
+				} catch (InterruptedException e) {
+					// ignore
+				}
+			}
+		});
+	}
 	/**
 	 * When idle, give chance to do something
 	 */
@@ -434,6 +606,7 @@ public abstract class JobManager implements Runnable {
 			while (this.processingThread != null) {
 				try {
 					IJob job;
+					IJob parallelJob = null;
 					synchronized (this) {
 						// handle shutdown case when notifyAll came before the wait but after the while loop was entered
 						if (this.processingThread == null) continue;
@@ -452,6 +625,14 @@ public abstract class JobManager implements Runnable {
 							this.wait(); // wait until a new job is posted (or reenabled:38901)
 						} else {
 							idlingStart = -1;
+							// jobs may still be running in parallel after switching back to one job at a time
+							if (this.maxParallelJobs > 1 || !this.runningJobs.isEmpty()) {
+								if ((parallelJob = nextParallelJob()) == null) {
+									this.wait(); // wait until a job completes or a new job is posted
+									continue;
+								}
+								job = parallelJob;
+							}
 						}
 					}
 					if (job == null) {
@@ -466,21 +647,28 @@ public abstract class JobManager implements Runnable {
 						Util.verbose(awaitingJobsCount() + " awaiting jobs"); //$NON-NLS-1$
 						Util.verbose("STARTING background job - " + job); //$NON-NLS-1$
 					}
+					if (this.progressJob == null) {
+						ProgressJob pJob = new ProgressJob(Messages.bind(Messages.jobmanager_indexing, "", "")); //$NON-NLS-1$ //$NON-NLS-2$
+						pJob.setPriority(Job.LONG);
+						pJob.setSystem(true);
+						pJob.schedule();
+						this.progressJob = pJob;
+					}
+					if (parallelJob != null) {
+						synchronized (this) {
+							executeInParallel(parallelJob);
+						}
+						continue;
+					}
+					long start = System.nanoTime();
 					try {
 						this.executing = true;
-						if (this.progressJob == null) {
-							ProgressJob pJob = new ProgressJob(Messages.bind(Messages.jobmanager_indexing, "", "")); //$NON-NLS-1$ //$NON-NLS-2$
-							pJob.setPriority(Job.LONG);
-							pJob.setSystem(true);
-							pJob.schedule();
-							this.progressJob = pJob;
-						}
 						/*boolean status = */job.execute(null);
 						//if (status == FAILED) request(job);
 					} finally {
 						this.executing = false;
 						if (VERBOSE)
-							Util.verbose("FINISHED background job - " + job); //$NON-NLS-1$
+							Util.verbose("FINISHED background job - " + job + " (" + (System.nanoTime() - start) / 1000000 + " ms)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 						moveToNextJob();
 						if (this.awaitingClients == 0 && job.waitNeeded()) {
 							if (VERBOSE) {
@@ -538,6 +726,13 @@ public abstract class JobManager implements Runnable {
 				// in case processing thread is handling a job
 				thread.join();
 			}
+			ExecutorService executor;
+			synchronized (this) {
+				executor = this.workers;
+				this.workers = null;
+			}
+			if (executor != null)
+				executor.shutdown(); // the jobs of the workers were discarded above
 			Job job = this.progressJob;
 			if (job != null) {
 				job.cancel();